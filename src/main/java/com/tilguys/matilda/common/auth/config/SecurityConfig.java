@@ -79,6 +79,8 @@ public class SecurityConfig implements WebMvcConfigurer {
                                 "/api/oauth/login",
                                 "/api/oauth/logout",
                                 "/api/tags/recent",
+                                "/api/tags/trending",
+                                "/api/tags/suggest",
                                 "/api/user/profileUrl/**",
                                 "/actuator/**",
                                 "/error"
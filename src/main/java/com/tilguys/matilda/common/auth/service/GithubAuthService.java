@@ -3,6 +3,7 @@ package com.tilguys.matilda.common.auth.service;
 import com.tilguys.matilda.common.auth.GithubUserInfo;
 import com.tilguys.matilda.common.auth.exception.OAuthFailException;
 import com.tilguys.matilda.common.auth.service.dto.GitHubOAuthTokenResponse;
+import com.tilguys.matilda.common.http.OutboundHttpClients;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
@@ -19,6 +20,8 @@ import org.springframework.web.client.RestTemplate;
 @Service
 public class GithubAuthService {
 
+    private final RestTemplate restTemplate;
+
     @Value("${github.client-id}")
     private String clientId;
 
@@ -28,12 +31,15 @@ public class GithubAuthService {
     @Value("${github.user-info-uri}")
     private String userInfoUrl;
 
+    public GithubAuthService(OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.restTemplate("github");
+    }
+
     public String getAccessToken(String code) {
         String tokenUrl = "https://github.com/login/oauth/access_token";
         String requestBody = oauthRequestBody(code);
         HttpHeaders headers = oauthHttpHeader();
         HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-        RestTemplate restTemplate = new RestTemplate();
         ResponseEntity<GitHubOAuthTokenResponse> response = restTemplate.exchange(tokenUrl, HttpMethod.POST, entity,
                 GitHubOAuthTokenResponse.class);
         GitHubOAuthTokenResponse responseBody = response.getBody();
@@ -69,7 +75,6 @@ public class GithubAuthService {
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        RestTemplate restTemplate = new RestTemplate();
         Map<String, String> body = restTemplate.exchange(
                 userInfoUrl,
                 HttpMethod.GET,
@@ -0,0 +1,7 @@
+package com.tilguys.matilda.common.cache;
+
+import java.util.List;
+
+public record CacheInvalidationMessage(List<String> keys) {
+
+}
@@ -0,0 +1,64 @@
+package com.tilguys.matilda.common.cache;
+
+import com.tilguys.matilda.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outbox 에 쌓인 캐시 무효화 요청을 Redis Pub/Sub 으로 전파. 함께 선점한 요청들의 키는 합쳐 한 번에 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationOutboxHandler implements OutboxEventHandler<CacheInvalidationMessage> {
+
+    public static final String EVENT_TYPE = "CACHE_INVALIDATION";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${matilda.cache.invalidation.topic:cache:invalidate}")
+    private String topic;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<CacheInvalidationMessage> payloadType() {
+        return CacheInvalidationMessage.class;
+    }
+
+    @Override
+    public void handle(CacheInvalidationMessage payload) {
+        send(payload.keys());
+    }
+
+    @Override
+    public boolean batchable() {
+        return true;
+    }
+
+    @Override
+    public void handleBatch(List<CacheInvalidationMessage> payloads) {
+        Set<String> keys = new LinkedHashSet<>();
+        payloads.forEach(payload -> keys.addAll(payload.keys()));
+        send(keys);
+    }
+
+    private void send(Iterable<String> keys) {
+        String payload = String.join(",", keys);
+        if (payload.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.convertAndSend(topic, payload);
+        log.info("Published cache invalidation for keys={} on topic={}", payload, topic);
+    }
+}
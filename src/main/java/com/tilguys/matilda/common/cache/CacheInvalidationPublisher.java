@@ -1,25 +1,20 @@
 package com.tilguys.matilda.common.cache;
 
+import com.tilguys.matilda.common.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 /**
- * 캐시 무효화 메시지를 Redis Pub/Sub으로 전파.
+ * 캐시 무효화 메시지를 Outbox 에 기록. 실제 Redis Pub/Sub 전파는 CacheInvalidationOutboxHandler 가 커밋 뒤에 하고,
+ * Redis 장애로 실패하면 재시도 정책에 따라 다시 보낸다.
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CacheInvalidationPublisher {
 
-    private final StringRedisTemplate stringRedisTemplate;
-
-    @Value("${matilda.cache.invalidation.topic:cache:invalidate}")
-    private String topic;
+    private final OutboxService outboxService;
 
     /**
      * 무효화할 캐시 키들을 브로드캐스트.
@@ -28,8 +23,6 @@ public class CacheInvalidationPublisher {
         if (keys == null || keys.isEmpty()) {
             return;
         }
-        String payload = String.join(",", keys);
-        stringRedisTemplate.convertAndSend(topic, payload);
-        log.info("Published cache invalidation for keys={} on topic={}", payload, topic);
+        outboxService.publish(CacheInvalidationOutboxHandler.EVENT_TYPE, null, new CacheInvalidationMessage(keys));
     }
 }
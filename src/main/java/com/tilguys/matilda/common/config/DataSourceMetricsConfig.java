@@ -0,0 +1,40 @@
+package com.tilguys.matilda.common.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Hikari 커넥션 점유 시간(hikaricp.connections.usage)과 획득 대기 시간(hikaricp.connections.acquire)을
+ * 히스토그램으로 노출해 AI 호출이 트랜잭션 안에 있을 때처럼 커넥션이 오래 잡히는지 확인할 수 있게 한다.
+ * 활성/대기 커넥션 수 게이지는 actuator 가 기본으로 등록한다.
+ */
+@Configuration
+public class DataSourceMetricsConfig {
+
+    private static final Set<String> POOL_TIMERS = Set.of(
+            "hikaricp.connections.usage",
+            "hikaricp.connections.acquire"
+    );
+
+    @Bean
+    public MeterFilter connectionPoolHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!POOL_TIMERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,7 +16,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "dlq_events")
+@Table(name = "dlq_events", indexes = {
+        @Index(name = "idx_dlq_events_status_updated_at", columnList = "status, updated_at")
+})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
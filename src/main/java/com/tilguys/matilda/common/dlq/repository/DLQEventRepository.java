@@ -5,6 +5,7 @@ import com.tilguys.matilda.common.dlq.domain.DLQEventStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,7 +23,14 @@ public interface DLQEventRepository extends JpaRepository<DLQEvent, Long> {
     @Query("SELECT d FROM DLQEvent d WHERE d.alarmSent = false AND d.status = 'PERMANENTLY_FAILED'")
     List<DLQEvent> findEventsNeedingAlarm();
 
-    @Query("SELECT d FROM DLQEvent d WHERE d.status = 'RESOLVED' AND d.updatedAt < :cutoffDate")
-    List<DLQEvent> findOldResolvedEvents(@Param("cutoffDate") LocalDateTime cutoffDate);
+    /**
+     * 오래된 해결 이벤트 정리용. payload, stack_trace 를 읽지 않도록 ID 만 조회한다
+     */
+    @Query("SELECT d.id FROM DLQEvent d WHERE d.status = 'RESOLVED' AND d.updatedAt < :cutoffDate")
+    List<Long> findOldResolvedEventIds(@Param("cutoffDate") LocalDateTime cutoffDate, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DLQEvent d WHERE d.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
 
 }
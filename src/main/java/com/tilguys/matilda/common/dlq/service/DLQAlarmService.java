@@ -2,6 +2,7 @@ package com.tilguys.matilda.common.dlq.service;
 
 import com.tilguys.matilda.common.dlq.domain.DLQEvent;
 import com.tilguys.matilda.common.dlq.domain.DLQEventStatus;
+import com.tilguys.matilda.common.http.OutboundHttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,14 +21,16 @@ public class DLQAlarmService {
     private static final Logger log = LoggerFactory.getLogger(DLQAlarmService.class);
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final String slackWebhookUrl;
     private final String environment;
 
     public DLQAlarmService(
             @Value("${slack.webhook.url:}") String slackWebhookUrl,
-            @Value("${spring.profiles.active:local}") String environment
+            @Value("${spring.profiles.active:local}") String environment,
+            OutboundHttpClients outboundHttpClients
     ) {
+        this.restTemplate = outboundHttpClients.restTemplate("slack");
         this.slackWebhookUrl = slackWebhookUrl;
         this.environment = environment;
     }
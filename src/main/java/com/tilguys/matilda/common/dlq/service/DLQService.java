@@ -4,8 +4,10 @@ import com.tilguys.matilda.common.dlq.config.DLQConfiguration;
 import com.tilguys.matilda.common.dlq.domain.DLQEvent;
 import com.tilguys.matilda.common.dlq.domain.DLQEventStatus;
 import com.tilguys.matilda.common.dlq.repository.DLQEventRepository;
+import com.tilguys.matilda.common.retention.ChunkedRetentionCleaner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -22,13 +24,16 @@ public class DLQService {
     private final DLQEventRepository dlqEventRepository;
     private final DLQAlarmService dlqAlarmService;
     private final DLQConfiguration dlqConfiguration;
+    private final ChunkedRetentionCleaner retentionCleaner;
 
     public DLQService(DLQEventRepository dlqEventRepository, 
                      DLQAlarmService dlqAlarmService,
-                     DLQConfiguration dlqConfiguration) {
+                     DLQConfiguration dlqConfiguration,
+                     ChunkedRetentionCleaner retentionCleaner) {
         this.dlqEventRepository = dlqEventRepository;
         this.dlqAlarmService = dlqAlarmService;
         this.dlqConfiguration = dlqConfiguration;
+        this.retentionCleaner = retentionCleaner;
     }
 
     /**
@@ -80,18 +85,15 @@ public class DLQService {
     }
 
     /**
-     * 오래된 해결된 이벤트들 정리
+     * 오래된 해결된 이벤트들 정리. 스택 트레이스를 메모리에 올리지 않고 청크 단위로 지운다
      */
     @Scheduled(cron = "0 0 3 * * ?") // 매일 새벽 3시
-    @Transactional
     public void cleanupOldEvents() {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(dlqConfiguration.getCleanupDays());
-        List<DLQEvent> oldEvents = dlqEventRepository.findOldResolvedEvents(cutoffDate);
-
-        if (!oldEvents.isEmpty()) {
-            log.info("Cleaning up {} old resolved DLQ events", oldEvents.size());
-            dlqEventRepository.deleteAll(oldEvents);
-        }
+        retentionCleaner.purge("dlq_events", chunkSize -> {
+            List<Long> ids = dlqEventRepository.findOldResolvedEventIds(cutoffDate, PageRequest.of(0, chunkSize));
+            return ids.isEmpty() ? 0 : dlqEventRepository.deleteAllByIds(ids);
+        });
     }
 
     /**
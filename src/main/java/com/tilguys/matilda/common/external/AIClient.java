@@ -1,5 +1,7 @@
 package com.tilguys.matilda.common.external;
 
+import com.tilguys.matilda.common.external.prompt.AIPrompt;
+
 import java.util.List;
 import java.util.Map;
 
@@ -7,4 +9,11 @@ public interface AIClient {
     String callAI(List<Map<String, Object>> messages, Map<String, Object> functionDefinition);
     String getClientName();
     boolean isAvailable();
-} 
\ No newline at end of file
+
+    /**
+     * 템플릿 프롬프트 호출. 기본 구현은 메시지를 매번 조립하며, 클라이언트가 미리 직렬화한 본문으로 대체할 수 있다.
+     */
+    default String callAI(AIPrompt prompt) {
+        return callAI(prompt.messages(), prompt.functionDefinition());
+    }
+}
@@ -1,5 +1,11 @@
 package com.tilguys.matilda.common.external;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.prompt.AIPrompt;
+import com.tilguys.matilda.common.external.prompt.AIPromptMetrics;
+import com.tilguys.matilda.common.external.prompt.JsonBodyTemplate;
+import com.tilguys.matilda.common.external.prompt.PromptTemplate;
+import com.tilguys.matilda.common.http.OutboundHttpClients;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -8,52 +14,112 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ClaudeClient implements AIClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final String MODEL = "claude-3-haiku-20240307";
+    private static final int MAX_TOKENS = 2000;
+    private static final Map<String, Object> EPHEMERAL_CACHE = Map.of("type", "ephemeral");
+
+    private final RestTemplate restTemplate;
     private final String apiUrl;
     private final String apiKey;
+    private final ObjectMapper objectMapper;
+    private final AIPromptMetrics promptMetrics;
+    private final Map<PromptTemplate, JsonBodyTemplate> bodyTemplates = new ConcurrentHashMap<>();
 
     public ClaudeClient(
             @Value(value = "${claude.api.key:}") String apiKey,
-            @Value(value = "${claude.api.url:https://api.anthropic.com/v1/messages}") String apiUrl
+            @Value(value = "${claude.api.url:https://api.anthropic.com/v1/messages}") String apiUrl,
+            OutboundHttpClients outboundHttpClients,
+            ObjectMapper objectMapper,
+            AIPromptMetrics promptMetrics
     ) {
+        this.restTemplate = outboundHttpClients.restTemplate("claude");
         this.apiUrl = apiUrl;
         this.apiKey = apiKey;
+        this.objectMapper = objectMapper;
+        this.promptMetrics = promptMetrics;
     }
 
     @Override
     public String callAI(List<Map<String, Object>> messages, Map<String, Object> functionDefinition) {
-        // Claude API 형식에 맞게 변환
-        Map<String, Object> body = Map.of(
-                "model", "claude-3-haiku-20240307",
-                "max_tokens", 1000,
-                "messages", transformMessages(messages),
-                "tools", List.of(Map.of(
-                        "name", functionDefinition.get("name"),
-                        "description", functionDefinition.get("description"),
-                        "input_schema", functionDefinition.get("parameters")
-                ))
-        );
+        long startedAt = System.nanoTime();
+        // Claude API 형식에 맞게 변환 (system 역할은 최상위 system 필드로 옮긴다)
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", MODEL);
+        body.put("max_tokens", MAX_TOKENS);
+        body.put("messages", transformMessages(messages));
+        body.put("tools", List.of(createTool(functionDefinition)));
+        messages.stream()
+                .filter(message -> "system".equals(message.get("role")))
+                .findFirst()
+                .ifPresent(message -> body.put("system", message.get("content")));
+        promptMetrics.recordBuild(getClientName(), System.nanoTime() - startedAt);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("x-api-key", apiKey);
-        headers.set("anthropic-version", "2023-06-01");
+        return post(new HttpEntity<>(body, createHeaders()));
+    }
 
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-        ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, requestEntity, String.class);
+    /**
+     * 템플릿별로 한 번 직렬화한 본문에 TIL 내용만 끼워 보낸다.
+     * 도구 정의·시스템 프롬프트·고정 지시문 블록 끝에 cache_control 을 달아 내용 앞부분까지 캐시되게 한다.
+     */
+    @Override
+    public String callAI(AIPrompt prompt) {
+        long startedAt = System.nanoTime();
+        PromptTemplate template = prompt.template();
+        byte[] body = bodyTemplates.computeIfAbsent(template, this::createBodyTemplate)
+                .render(prompt.content());
+        promptMetrics.recordBuild(getClientName(), System.nanoTime() - startedAt);
 
-        return response.getBody();
+        return post(new HttpEntity<>(body, createHeaders()));
+    }
+
+    private JsonBodyTemplate createBodyTemplate(PromptTemplate template) {
+        Map<String, Object> tool = new HashMap<>(createTool(template.getFunctionDefinition()));
+        tool.put("cache_control", EPHEMERAL_CACHE);
+
+        Map<String, Object> userMessage = Map.of(
+                "role", "user",
+                "content", List.of(
+                        Map.of("type", "text", "text", template.getInstruction(), "cache_control", EPHEMERAL_CACHE),
+                        Map.of("type", "text", "text", template.contentBlock(JsonBodyTemplate.CONTENT_PLACEHOLDER))
+                )
+        );
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", MODEL);
+        body.put("max_tokens", MAX_TOKENS);
+        body.put("tools", List.of(tool));
+        body.put("tool_choice", Map.of("type", "tool", "name", template.getFunctionName()));
+        body.put("messages", List.of(userMessage));
+        if (template.getSystemPrompt() != null) {
+            body.put("system", List.of(Map.of(
+                    "type", "text",
+                    "text", template.getSystemPrompt(),
+                    "cache_control", EPHEMERAL_CACHE
+            )));
+        }
+        return JsonBodyTemplate.of(objectMapper, body);
+    }
+
+    private Map<String, Object> createTool(Map<String, Object> functionDefinition) {
+        return Map.of(
+                "name", functionDefinition.get("name"),
+                "description", functionDefinition.get("description"),
+                "input_schema", functionDefinition.get("parameters")
+        );
     }
 
     private List<Map<String, Object>> transformMessages(List<Map<String, Object>> messages) {
         // OpenAI 형식을 Claude 형식으로 변환
         return messages.stream()
+                .filter(message -> !"system".equals(message.get("role")))
                 .map(message -> Map.of(
                         "role", message.get("role"),
                         "content", message.get("content")
@@ -61,6 +127,20 @@ public class ClaudeClient implements AIClient {
                 .toList();
     }
 
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("x-api-key", apiKey);
+        headers.set("anthropic-version", "2023-06-01");
+        return headers;
+    }
+
+    private String post(HttpEntity<?> requestEntity) {
+        ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, requestEntity, String.class);
+        promptMetrics.recordUsage(getClientName(), response.getBody());
+        return response.getBody();
+    }
+
     @Override
     public String getClientName() {
         return "Claude";
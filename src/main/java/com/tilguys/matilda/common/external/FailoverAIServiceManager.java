@@ -1,11 +1,38 @@
 package com.tilguys.matilda.common.external;
 
+import com.tilguys.matilda.common.external.circuit.AICircuitBreakerRegistry;
+import com.tilguys.matilda.common.external.concurrency.AIConcurrencyLimiter;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments;
+import com.tilguys.matilda.common.external.decode.ToolCallArgumentsMerger;
+import com.tilguys.matilda.common.external.decode.ToolCallDecoder;
+import com.tilguys.matilda.common.external.exception.AIConcurrencyLimitException;
+import com.tilguys.matilda.common.external.exception.AIServiceUnavailableException;
+import com.tilguys.matilda.common.external.hedge.AIHedgePolicy;
+import com.tilguys.matilda.common.external.prompt.AIPrompt;
+import com.tilguys.matilda.common.external.prompt.PromptTemplate;
+import com.tilguys.matilda.common.external.prompt.TilContentPreprocessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 @Service
 public class FailoverAIServiceManager {
@@ -13,9 +40,26 @@ public class FailoverAIServiceManager {
     private static final Logger log = LoggerFactory.getLogger(FailoverAIServiceManager.class);
 
     private final List<AIClient> aiClients;
+    private final AICircuitBreakerRegistry circuitBreakerRegistry;
+    private final AIHedgePolicy hedgePolicy;
+    private final AIConcurrencyLimiter concurrencyLimiter;
+    private final AsyncTaskExecutor aiCallTaskExecutor;
+    private final TilContentPreprocessor contentPreprocessor;
 
-    public FailoverAIServiceManager(List<AIClient> aiClients) {
+    public FailoverAIServiceManager(
+            List<AIClient> aiClients,
+            AICircuitBreakerRegistry circuitBreakerRegistry,
+            AIHedgePolicy hedgePolicy,
+            AIConcurrencyLimiter concurrencyLimiter,
+            @Qualifier("aiCallTaskExecutor") AsyncTaskExecutor aiCallTaskExecutor,
+            TilContentPreprocessor contentPreprocessor
+    ) {
         this.aiClients = aiClients;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.hedgePolicy = hedgePolicy;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.aiCallTaskExecutor = aiCallTaskExecutor;
+        this.contentPreprocessor = contentPreprocessor;
 
         log.info(
                 "Available AI Clients: {}",
@@ -29,26 +73,295 @@ public class FailoverAIServiceManager {
             List<Map<String, Object>> messages,
             Map<String, Object> functionDefinition
     ) {
-        for (AIClient client : aiClients) {
+        return callSequentially(aiClients, client -> client.callAI(messages, functionDefinition), response -> true);
+    }
+
+    /**
+     * 헤지 모드가 켜져 있고 1순위 제공자의 응답 시간 표본이 충분하면, 백분위 시간 안에 답이 없을 때
+     * 다음 제공자에도 요청해 validator 를 통과한 첫 응답을 쓰고 나머지 요청은 취소한다.
+     */
+    public String callAIWithSimpleFallback(
+            List<Map<String, Object>> messages,
+            Map<String, Object> functionDefinition,
+            Predicate<String> validator
+    ) {
+        return callWithFallback(client -> client.callAI(messages, functionDefinition), validator);
+    }
+
+    /**
+     * 템플릿 프롬프트 호출. 클라이언트가 미리 직렬화해 둔 요청 본문에 정리한 내용만 끼워 보낸다.
+     * 내용이 길어 여러 조각으로 나뉘면 조각별로 병렬 호출하고 결과를 tool_use 응답 하나로 합친다.
+     */
+    public String callAI(AIPrompt prompt, Predicate<String> validator) {
+        PromptTemplate template = prompt.template();
+        List<String> chunks = contentPreprocessor.split(prompt.content());
+        if (chunks.size() == 1) {
+            AIPrompt cleaned = template.with(chunks.get(0));
+            return callWithFallback(client -> client.callAI(cleaned), validator);
+        }
+
+        log.info("Content split into {} chunks, calling in parallel", chunks.size());
+        List<CompletableFuture<String>> responses = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(
+                        () -> callWithFallback(client -> client.callAI(template.with(chunk)), validator),
+                        aiCallTaskExecutor
+                ))
+                .toList();
+        try {
+            List<ToolCallArguments> arguments = new ArrayList<>(responses.size());
+            for (CompletableFuture<String> response : responses) {
+                arguments.add(ToolCallDecoder.shared().decode(response.join()));
+            }
+            return ToolCallArgumentsMerger.toResponseJson(ToolCallArgumentsMerger.merge(arguments));
+        } catch (CompletionException e) {
+            responses.forEach(response -> response.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to decode chunk response", e);
+        }
+    }
+
+    private String callWithFallback(Function<AIClient, String> call, Predicate<String> validator) {
+        if (!hedgePolicy.isEnabled()) {
+            return callSequentially(aiClients, call, validator);
+        }
+        List<AIClient> candidates = aiClients.stream()
+                .filter(AIClient::isAvailable)
+                .toList();
+        if (candidates.size() < 2) {
+            return callSequentially(candidates, call, validator);
+        }
+
+        String primaryName = candidates.get(0).getClientName();
+        OptionalLong hedgeDelay = hedgePolicy.hedgeDelayMillis(primaryName);
+        if (hedgeDelay.isEmpty()) {
+            return callSequentially(candidates, call, validator);
+        }
+        if (!circuitBreakerRegistry.tryAcquire(primaryName)) {
+            // 거절된 허가를 callSequentially 에서 다시 요청하지 않도록 1순위는 건너뛴다
+            log.info("{} circuit is open, skipping", primaryName);
+            return callSequentially(candidates.subList(1, candidates.size()), call, validator);
+        }
+        return callHedged(candidates, hedgeDelay.getAsLong(), call, validator);
+    }
+
+    /**
+     * 설정되지 않았거나 서킷이 열린 클라이언트는 호출하지 않고 다음 클라이언트로 넘어간다.
+     * validator 를 통과하지 못한 응답은 실패로 기록하고 다음 클라이언트를 시도한다.
+     */
+    private String callSequentially(
+            List<AIClient> clients,
+            Function<AIClient, String> call,
+            Predicate<String> validator
+    ) {
+        Exception lastException = null;
+        for (AIClient client : clients) {
+            String clientName = client.getClientName();
+            if (!client.isAvailable()) {
+                log.debug("{} is not configured, skipping", clientName);
+                continue;
+            }
+            if (!circuitBreakerRegistry.tryAcquire(clientName)) {
+                log.info("{} circuit is open, skipping", clientName);
+                continue;
+            }
+
             try {
-                log.info("Attempting to call {} API", client.getClientName());
-                String result = client.callAI(messages, functionDefinition);
-                log.info("Successfully called {} API", client.getClientName());
+                log.info("Attempting to call {} API", clientName);
+                String result = callClient(client, call, validator);
+                log.info("Successfully called {} API", clientName);
                 return result;
 
+            } catch (AIConcurrencyLimitException e) {
+                circuitBreakerRegistry.onCancelled(clientName);
+                log.warn("{} API concurrency limit reached: {}", clientName, e.getMessage());
+                lastException = e;
             } catch (Exception e) {
-                log.warn("Failed to call {} API: {}", client.getClientName(), e.getMessage());
-                if (isLastClient(client)) {
-                    throw new RuntimeException("All AI services failed", e);
-                }
+                circuitBreakerRegistry.onError(clientName);
+                log.warn("Failed to call {} API: {}", clientName, e.getMessage());
+                lastException = e;
                 log.info("Trying next AI service");
             }
         }
 
-        throw new RuntimeException("No available AI services");
+        if (lastException != null) {
+            throw new RuntimeException("All AI services failed", lastException);
+        }
+        throw new AIServiceUnavailableException("No available AI services");
+    }
+
+    /**
+     * 1순위 호출 허가는 호출 측에서 이미 받은 상태로 들어온다.
+     */
+    private String callHedged(
+            List<AIClient> candidates,
+            long hedgeDelayMillis,
+            Function<AIClient, String> call,
+            Predicate<String> validator
+    ) {
+        AIClient primary = candidates.get(0);
+        AIClient secondary = candidates.get(1);
+        Attempt primaryAttempt;
+        try {
+            primaryAttempt = submit(primary, call, validator);
+        } catch (TaskRejectedException e) {
+            circuitBreakerRegistry.onCancelled(primary.getClientName());
+            return callSequentially(candidates.subList(1, candidates.size()), call, validator);
+        }
+
+        Attempt hedgeAttempt = null;
+        try {
+            try {
+                return primaryAttempt.result.get(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                hedgeAttempt = hedge(secondary, hedgeDelayMillis, call, validator);
+            }
+            if (hedgeAttempt == null) {
+                return primaryAttempt.result.get();
+            }
+
+            Attempt winner = firstSucceeded(primaryAttempt, hedgeAttempt).get();
+            if (winner == hedgeAttempt) {
+                hedgePolicy.recordHedgeWon();
+            }
+            return winner.result.getNow(null);
+        } catch (ExecutionException e) {
+            int attempted = hedgeAttempt == null ? 1 : 2;
+            List<AIClient> remaining = candidates.subList(attempted, candidates.size());
+            if (remaining.isEmpty()) {
+                throw new RuntimeException("All AI services failed", e.getCause());
+            }
+            log.info("Trying next AI service");
+            return callSequentially(remaining, call, validator);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI call interrupted", e);
+        } finally {
+            primaryAttempt.cancel();
+            if (hedgeAttempt != null) {
+                hedgeAttempt.cancel();
+            }
+        }
+    }
+
+    private Attempt hedge(
+            AIClient client,
+            long hedgeDelayMillis,
+            Function<AIClient, String> call,
+            Predicate<String> validator
+    ) {
+        String clientName = client.getClientName();
+        if (!hedgePolicy.tryHedge() || !circuitBreakerRegistry.tryAcquire(clientName)) {
+            return null;
+        }
+        log.info("No response within {}ms, hedging request to {}", hedgeDelayMillis, clientName);
+        try {
+            return submit(client, call, validator);
+        } catch (TaskRejectedException e) {
+            circuitBreakerRegistry.onCancelled(clientName);
+            return null;
+        }
+    }
+
+    private Attempt submit(
+            AIClient client,
+            Function<AIClient, String> call,
+            Predicate<String> validator
+    ) {
+        String clientName = client.getClientName();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> task = aiCallTaskExecutor.submit(() -> {
+            started.set(true);
+            try {
+                log.info("Attempting to call {} API", clientName);
+                result.complete(callClient(client, call, validator));
+            } catch (Exception e) {
+                if (e instanceof AIConcurrencyLimitException || Thread.currentThread().isInterrupted()) {
+                    circuitBreakerRegistry.onCancelled(clientName);
+                } else {
+                    circuitBreakerRegistry.onError(clientName);
+                    log.warn("Failed to call {} API: {}", clientName, e.getMessage());
+                }
+                result.completeExceptionally(e);
+            }
+        });
+        return new Attempt(clientName, result, task, started);
+    }
+
+    private CompletableFuture<Attempt> firstSucceeded(Attempt... attempts) {
+        CompletableFuture<Attempt> winner = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        for (Attempt attempt : attempts) {
+            attempt.result.whenComplete((response, exception) -> {
+                if (exception == null) {
+                    winner.complete(attempt);
+                } else if (failed.incrementAndGet() == attempts.length) {
+                    winner.completeExceptionally(exception);
+                }
+            });
+        }
+        return winner;
+    }
+
+    /**
+     * 동시 호출 허가를 기다린 시간은 응답 시간에서 제외한다.
+     * 성공(서킷, 헤지 지연 표본)은 validator 를 통과한 응답에만 기록한다.
+     */
+    private String callClient(
+            AIClient client,
+            Function<AIClient, String> call,
+            Predicate<String> validator
+    ) {
+        String clientName = client.getClientName();
+        return concurrencyLimiter.execute(clientName, () -> {
+            long startedAt = System.nanoTime();
+            String response = call.apply(client);
+            if (!validator.test(response)) {
+                log.warn("{} API returned an unparsable response", clientName);
+                throw new IllegalStateException(clientName + " returned an unparsable response");
+            }
+            recordSuccess(clientName, elapsedMillis(startedAt));
+            return response;
+        });
+    }
+
+    private void recordSuccess(String clientName, long elapsedMillis) {
+        circuitBreakerRegistry.onSuccess(clientName, elapsedMillis);
+        hedgePolicy.recordLatency(clientName, elapsedMillis);
     }
 
-    private boolean isLastClient(AIClient client) {
-        return aiClients.indexOf(client) == aiClients.size() - 1;
+    private long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    private final class Attempt {
+
+        private final String clientName;
+        private final CompletableFuture<String> result;
+        private final Future<?> task;
+        private final AtomicBoolean started;
+
+        private Attempt(String clientName, CompletableFuture<String> result, Future<?> task, AtomicBoolean started) {
+            this.clientName = clientName;
+            this.result = result;
+            this.task = task;
+            this.started = started;
+        }
+
+        /**
+         * 실행 전에 취소되면 받아 둔 서킷 허가를 돌려준다 (실행 중이면 작업 쪽에서 처리).
+         */
+        private void cancel() {
+            if (result.isDone()) {
+                return;
+            }
+            if (task.cancel(true) && !started.get()) {
+                circuitBreakerRegistry.onCancelled(clientName);
+            }
+        }
     }
 }
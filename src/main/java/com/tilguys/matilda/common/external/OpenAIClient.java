@@ -1,5 +1,11 @@
 package com.tilguys.matilda.common.external;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.prompt.AIPrompt;
+import com.tilguys.matilda.common.external.prompt.AIPromptMetrics;
+import com.tilguys.matilda.common.external.prompt.JsonBodyTemplate;
+import com.tilguys.matilda.common.external.prompt.PromptTemplate;
+import com.tilguys.matilda.common.http.OutboundHttpClients;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -10,31 +16,71 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class OpenAIClient implements AIClient {
 
     private static final String FUNCTION = "function";
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final String apiUrl;
     private final String apiKey;
+    private final ObjectMapper objectMapper;
+    private final AIPromptMetrics promptMetrics;
+    private final Map<PromptTemplate, JsonBodyTemplate> bodyTemplates = new ConcurrentHashMap<>();
 
     public OpenAIClient(
             @Value(value = "${openai.api.key}") String apiKey,
-            @Value(value = "${openai.api.url}") String apiUrl
+            @Value(value = "${openai.api.url}") String apiUrl,
+            OutboundHttpClients outboundHttpClients,
+            ObjectMapper objectMapper,
+            AIPromptMetrics promptMetrics
     ) {
+        this.restTemplate = outboundHttpClients.restTemplate("openai");
         this.apiUrl = apiUrl;
         this.apiKey = apiKey;
+        this.objectMapper = objectMapper;
+        this.promptMetrics = promptMetrics;
     }
 
     @Override
     public String callAI(List<Map<String, Object>> messages, Map<String, Object> functionDefinition) {
+        long startedAt = System.nanoTime();
+        Map<String, Object> body = createBody(messages, functionDefinition);
+        promptMetrics.recordBuild(getClientName(), System.nanoTime() - startedAt);
+
+        return post(new HttpEntity<>(body, createHeaders()));
+    }
+
+    /**
+     * 템플릿별로 한 번 직렬화한 본문에 TIL 내용만 끼워 보낸다.
+     * 고정 지시문이 내용보다 앞에 있어 OpenAI 자동 프롬프트 캐시가 앞부분을 재사용한다.
+     */
+    @Override
+    public String callAI(AIPrompt prompt) {
+        long startedAt = System.nanoTime();
+        PromptTemplate template = prompt.template();
+        byte[] body = bodyTemplates.computeIfAbsent(template, this::createBodyTemplate)
+                .render(prompt.content());
+        promptMetrics.recordBuild(getClientName(), System.nanoTime() - startedAt);
+
+        return post(new HttpEntity<>(body, createHeaders()));
+    }
+
+    private JsonBodyTemplate createBodyTemplate(PromptTemplate template) {
+        return JsonBodyTemplate.of(
+                objectMapper,
+                createBody(template.messages(JsonBodyTemplate.CONTENT_PLACEHOLDER), template.getFunctionDefinition())
+        );
+    }
+
+    private Map<String, Object> createBody(List<Map<String, Object>> messages, Map<String, Object> functionDefinition) {
         Map<String, Object> tool = Map.of(
                 "type", FUNCTION,
                 FUNCTION, functionDefinition
         );
 
-        Map<String, Object> body = Map.of(
+        return Map.of(
                 "model", "gpt-4o-2024-05-13",
                 "messages", messages,
                 "tools", List.of(tool),
@@ -45,14 +91,18 @@ public class OpenAIClient implements AIClient {
                         )
                 )
         );
+    }
 
+    private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(apiKey);
+        return headers;
+    }
 
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+    private String post(HttpEntity<?> requestEntity) {
         ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, requestEntity, String.class);
-
+        promptMetrics.recordUsage(getClientName(), response.getBody());
         return response.getBody();
     }
 
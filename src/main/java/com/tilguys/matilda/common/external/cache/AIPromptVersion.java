@@ -0,0 +1,57 @@
+package com.tilguys.matilda.common.external.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * AI 결과 캐시 키 계산. 프롬프트 버전은 빈 내용으로 만든 프롬프트와 함수 스키마를 키 정렬 JSON 으로 해시해서,
+ * 생성기 문구나 스키마가 바뀌면 자동으로 다른 키 공간을 쓰게 한다.
+ */
+public final class AIPromptVersion {
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    private static final int VERSION_LENGTH = 12;
+
+    private AIPromptVersion() {
+    }
+
+    public static String of(List<Map<String, Object>> emptyPrompt, Map<String, Object> functionDefinition) {
+        try {
+            String canonical = CANONICAL_MAPPER.writeValueAsString(List.of(emptyPrompt, functionDefinition));
+            return sha256(canonical).substring(0, VERSION_LENGTH);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프롬프트 버전 계산 실패", e);
+        }
+    }
+
+    /**
+     * 앞뒤 공백과 공백 연속, 유니코드 정규화 차이만 다른 내용은 같은 해시가 되도록 정규화.
+     */
+    public static String contentHash(String content) {
+        String normalized = WHITESPACES.matcher(Normalizer.normalize(content == null ? "" : content, Normalizer.Form.NFC))
+                .replaceAll(" ")
+                .strip();
+        return sha256(normalized);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
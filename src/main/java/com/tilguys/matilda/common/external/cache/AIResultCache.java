@@ -0,0 +1,169 @@
+package com.tilguys.matilda.common.external.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 정규화한 TIL 내용 해시 + 프롬프트 버전으로 AI 응답을 캐싱 (로컬 Caffeine → Redis → AI 호출).
+ * Redis 장애 시에는 캐시 미스로 보고 AI 를 그대로 호출한다.
+ * 프롬프트 버전이 키에 들어가므로 버전이 바뀌면 새 키를 쓰고 이전 버전 키는 TTL 로 사라진다.
+ * 블루/그린 배포처럼 두 버전이 함께 돌아도 서로의 키를 지우지 않는다.
+ */
+@Slf4j
+@Component
+public class AIResultCache {
+
+    private static final String KEY_PREFIX = "ai:result:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, String> localCache;
+    private final Duration ttl;
+    private final boolean enabled;
+    private final Map<String, NamespaceStats> stats = new ConcurrentHashMap<>();
+
+    public AIResultCache(
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${matilda.ai.cache.enabled:true}") boolean enabled,
+            @Value("${matilda.ai.cache.ttl-days:7}") long ttlDays,
+            @Value("${matilda.ai.cache.local-size:1000}") long localSize
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localSize)
+                .expireAfterWrite(Duration.ofMinutes(30))
+                .build();
+    }
+
+    /**
+     * validator 를 통과한 응답만 캐싱한다 (파싱 불가 응답이 재사용되지 않도록).
+     */
+    public String getOrCall(
+            String namespace,
+            String promptVersion,
+            String content,
+            Supplier<String> aiCall,
+            Predicate<String> validator
+    ) {
+        if (!enabled) {
+            return aiCall.get();
+        }
+        NamespaceStats namespaceStats = statsOf(namespace);
+        String key = keyPrefix(namespace, promptVersion) + AIPromptVersion.contentHash(content);
+
+        String local = localCache.getIfPresent(key);
+        if (local != null) {
+            namespaceStats.hit(namespaceStats.localHits);
+            return local;
+        }
+
+        String global = readGlobal(key);
+        if (global != null) {
+            localCache.put(key, global);
+            namespaceStats.hit(namespaceStats.globalHits);
+            return global;
+        }
+
+        namespaceStats.miss();
+        String response = aiCall.get();
+        if (response != null && validator.test(response)) {
+            localCache.put(key, response);
+            writeGlobal(key, response);
+        }
+        return response;
+    }
+
+    private static String keyPrefix(String namespace, String promptVersion) {
+        return KEY_PREFIX + namespace + ":" + promptVersion + ":";
+    }
+
+    private String readGlobal(String key) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("AI 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeGlobal(String key, String response) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, response, ttl);
+        } catch (Exception e) {
+            log.warn("AI 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private NamespaceStats statsOf(String namespace) {
+        return stats.computeIfAbsent(namespace, this::registerStats);
+    }
+
+    private NamespaceStats registerStats(String namespace) {
+        NamespaceStats namespaceStats = new NamespaceStats(
+                counter(namespace, "local_hit"),
+                counter(namespace, "redis_hit"),
+                counter(namespace, "miss")
+        );
+        Gauge.builder("ai.result.cache.hit.ratio", namespaceStats, NamespaceStats::hitRatio)
+                .tag("namespace", namespace)
+                .description("AI 결과 캐시 적중률 (기동 이후 누적)")
+                .register(meterRegistry);
+        return namespaceStats;
+    }
+
+    private Counter counter(String namespace, String result) {
+        return Counter.builder("ai.result.cache.requests")
+                .tag("namespace", namespace)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class NamespaceStats {
+
+        private final Counter localHits;
+        private final Counter globalHits;
+        private final Counter misses;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        private NamespaceStats(Counter localHits, Counter globalHits, Counter misses) {
+            this.localHits = localHits;
+            this.globalHits = globalHits;
+            this.misses = misses;
+        }
+
+        private void hit(Counter counter) {
+            counter.increment();
+            hits.increment();
+            total.increment();
+        }
+
+        private void miss() {
+            misses.increment();
+            total.increment();
+        }
+
+        private double hitRatio() {
+            long requests = total.sum();
+            return requests == 0 ? 0 : (double) hits.sum() / requests;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.tilguys.matilda.common.external.circuit;
+
+import com.tilguys.matilda.common.external.config.AICircuitBreakerConfiguration;
+
+/**
+ * 최근 호출 결과를 고정 크기 링 버퍼로 유지하는 건수 기반 서킷 브레이커.
+ * OPEN 유지 시간이 지나면 HALF_OPEN 으로 전환해 halfOpenProbes 건만 흘려 보내고, 모두 성공하면 닫는다.
+ * 시각은 호출 측에서 넘겨받아 테스트에서 시간을 조작할 수 있게 한다.
+ */
+public class AICircuitBreaker {
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final AICircuitBreakerConfiguration configuration;
+    private final byte[] outcomes;
+    private int recorded;
+    private int cursor;
+    private int failures;
+    private int slowCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long openUntilMillis;
+    private int issuedProbes;
+    private int succeededProbes;
+
+    public AICircuitBreaker(AICircuitBreakerConfiguration configuration) {
+        this.configuration = configuration;
+        this.outcomes = new byte[configuration.getWindowSize()];
+    }
+
+    public synchronized boolean tryAcquirePermission(long nowMillis) {
+        if (state == CircuitState.OPEN) {
+            if (nowMillis < openUntilMillis) {
+                return false;
+            }
+            transitionTo(CircuitState.HALF_OPEN);
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (issuedProbes >= configuration.getHalfOpenProbes()) {
+                return false;
+            }
+            issuedProbes++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long durationMillis, long nowMillis) {
+        boolean slow = durationMillis >= configuration.getSlowCallDurationMillis();
+        if (state == CircuitState.HALF_OPEN) {
+            if (slow) {
+                open(nowMillis);
+                return;
+            }
+            succeededProbes++;
+            if (succeededProbes >= configuration.getHalfOpenProbes()) {
+                transitionTo(CircuitState.CLOSED);
+            }
+            return;
+        }
+        if (state == CircuitState.CLOSED) {
+            record(slow ? SLOW : SUCCESS, nowMillis);
+        }
+    }
+
+    public synchronized void onError(long nowMillis) {
+        if (state == CircuitState.HALF_OPEN) {
+            open(nowMillis);
+            return;
+        }
+        if (state == CircuitState.CLOSED) {
+            record(FAILURE, nowMillis);
+        }
+    }
+
+    /**
+     * 결과 없이 취소된 호출의 탐색 허가를 돌려준다.
+     */
+    public synchronized void releasePermission() {
+        if (state == CircuitState.HALF_OPEN && issuedProbes > 0) {
+            issuedProbes--;
+        }
+    }
+
+    /**
+     * 다른 노드가 연 서킷을 반영. 이미 더 늦게까지 열려 있으면 그대로 둔다.
+     */
+    public synchronized void openUntil(long untilMillis, long nowMillis) {
+        if (untilMillis <= nowMillis) {
+            return;
+        }
+        if (state == CircuitState.OPEN && openUntilMillis >= untilMillis) {
+            return;
+        }
+        openUntilMillis = untilMillis;
+        transitionTo(CircuitState.OPEN);
+    }
+
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    public synchronized long getOpenUntilMillis() {
+        return openUntilMillis;
+    }
+
+    public synchronized double failureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    public synchronized double slowCallRate() {
+        return recorded == 0 ? 0 : (double) slowCalls / recorded;
+    }
+
+    private void record(byte outcome, long nowMillis) {
+        if (recorded == outcomes.length) {
+            forget(outcomes[cursor]);
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = outcome;
+        cursor = (cursor + 1) % outcomes.length;
+        if (outcome == FAILURE) {
+            failures++;
+        } else if (outcome == SLOW) {
+            slowCalls++;
+        }
+
+        if (recorded >= configuration.getMinimumCalls() && exceedsThreshold()) {
+            open(nowMillis);
+        }
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == FAILURE) {
+            failures--;
+        } else if (outcome == SLOW) {
+            slowCalls--;
+        }
+    }
+
+    private boolean exceedsThreshold() {
+        return failures * 100 >= configuration.getFailureRateThreshold() * recorded
+                || slowCalls * 100 >= configuration.getSlowCallRateThreshold() * recorded;
+    }
+
+    private void open(long nowMillis) {
+        openUntilMillis = nowMillis + configuration.getOpenDurationMillis();
+        transitionTo(CircuitState.OPEN);
+    }
+
+    private void transitionTo(CircuitState next) {
+        state = next;
+        issuedProbes = 0;
+        succeededProbes = 0;
+        if (next != CircuitState.HALF_OPEN) {
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        cursor = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
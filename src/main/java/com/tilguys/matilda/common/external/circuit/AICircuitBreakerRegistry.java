@@ -0,0 +1,183 @@
+package com.tilguys.matilda.common.external.circuit;
+
+import com.tilguys.matilda.common.external.config.AICircuitBreakerConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 제공자별 서킷 브레이커 보관소. 서킷이 열리면 Redis 에 열림 만료 시각을 기록해
+ * 다른 노드도 같은 제공자를 건너뛰게 하고, 상태는 ai.circuit.state 게이지로 노출한다.
+ * Redis 템플릿이 없거나 장애면 노드 로컬 상태만으로 동작한다.
+ */
+@Slf4j
+@Component
+public class AICircuitBreakerRegistry {
+
+    private static final String KEY_PREFIX = "ai:circuit:";
+    private static final long REMOTE_SYNC_INTERVAL_MILLIS = 1000;
+
+    private final AICircuitBreakerConfiguration configuration;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AICircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSyncedAt = new ConcurrentHashMap<>();
+
+    public AICircuitBreakerRegistry(
+            AICircuitBreakerConfiguration configuration,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.configuration = configuration;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean tryAcquire(String provider) {
+        AICircuitBreaker breaker = breakerOf(provider);
+        long now = System.currentTimeMillis();
+        syncRemote(provider, breaker, now);
+
+        CircuitState before = breaker.getState();
+        boolean permitted = breaker.tryAcquirePermission(now);
+        onTransition(provider, before, breaker);
+        if (!permitted) {
+            callCounter(provider, "rejected").increment();
+        }
+        return permitted;
+    }
+
+    public void onSuccess(String provider, long durationMillis) {
+        AICircuitBreaker breaker = breakerOf(provider);
+        CircuitState before = breaker.getState();
+        breaker.onSuccess(durationMillis, System.currentTimeMillis());
+        boolean slow = durationMillis >= configuration.getSlowCallDurationMillis();
+        callCounter(provider, slow ? "slow" : "success").increment();
+        onTransition(provider, before, breaker);
+    }
+
+    public void onError(String provider) {
+        AICircuitBreaker breaker = breakerOf(provider);
+        CircuitState before = breaker.getState();
+        breaker.onError(System.currentTimeMillis());
+        callCounter(provider, "failure").increment();
+        onTransition(provider, before, breaker);
+    }
+
+    /**
+     * 헤지 경쟁에서 져서 취소된 호출은 성공/실패로 집계하지 않는다.
+     */
+    public void onCancelled(String provider) {
+        breakerOf(provider).releasePermission();
+    }
+
+    public CircuitState stateOf(String provider) {
+        return breakerOf(provider).getState();
+    }
+
+    private AICircuitBreaker breakerOf(String provider) {
+        return breakers.computeIfAbsent(provider, this::register);
+    }
+
+    private AICircuitBreaker register(String provider) {
+        AICircuitBreaker breaker = new AICircuitBreaker(configuration);
+        Gauge.builder("ai.circuit.state", breaker, registered -> registered.getState().getCode())
+                .description("AI 제공자 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.circuit.failure.rate", breaker, AICircuitBreaker::failureRate)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.circuit.slow.rate", breaker, AICircuitBreaker::slowCallRate)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        return breaker;
+    }
+
+    private void onTransition(String provider, CircuitState before, AICircuitBreaker breaker) {
+        CircuitState after = breaker.getState();
+        if (before == after) {
+            return;
+        }
+        log.warn("{} 서킷 상태 전환: {} -> {}", provider, before, after);
+        transitionCounter(provider, after).increment();
+        if (after == CircuitState.OPEN) {
+            publishOpen(provider, breaker.getOpenUntilMillis());
+        } else if (after == CircuitState.CLOSED) {
+            publishClosed(provider);
+        }
+    }
+
+    private void syncRemote(String provider, AICircuitBreaker breaker, long now) {
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        Long synced = lastSyncedAt.get(provider);
+        if (synced != null && now - synced < REMOTE_SYNC_INTERVAL_MILLIS) {
+            return;
+        }
+        lastSyncedAt.put(provider, now);
+        try {
+            String openUntil = stringRedisTemplate.opsForValue().get(KEY_PREFIX + provider);
+            if (openUntil == null) {
+                return;
+            }
+            CircuitState before = breaker.getState();
+            breaker.openUntil(Long.parseLong(openUntil), now);
+            if (before != breaker.getState()) {
+                log.warn("{} 서킷이 다른 노드에서 열려 함께 엽니다", provider);
+                transitionCounter(provider, breaker.getState()).increment();
+            }
+        } catch (Exception e) {
+            log.debug("{} 서킷 공유 상태 조회 실패: {}", provider, e.getMessage());
+        }
+    }
+
+    private void publishOpen(String provider, long openUntilMillis) {
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        long ttlMillis = openUntilMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue()
+                    .set(KEY_PREFIX + provider, String.valueOf(openUntilMillis), Duration.ofMillis(ttlMillis));
+        } catch (Exception e) {
+            log.debug("{} 서킷 열림 공유 실패: {}", provider, e.getMessage());
+        }
+    }
+
+    private void publishClosed(String provider) {
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + provider);
+        } catch (Exception e) {
+            log.debug("{} 서킷 닫힘 공유 실패: {}", provider, e.getMessage());
+        }
+    }
+
+    private Counter callCounter(String provider, String outcome) {
+        return Counter.builder("ai.circuit.calls")
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter transitionCounter(String provider, CircuitState state) {
+        return Counter.builder("ai.circuit.transitions")
+                .tag("provider", provider)
+                .tag("state", state.name())
+                .register(meterRegistry);
+    }
+}
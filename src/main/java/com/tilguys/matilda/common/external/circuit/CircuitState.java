@@ -0,0 +1,18 @@
+package com.tilguys.matilda.common.external.circuit;
+
+public enum CircuitState {
+
+    CLOSED(0),
+    HALF_OPEN(1),
+    OPEN(2);
+
+    private final int code;
+
+    CircuitState(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,208 @@
+package com.tilguys.matilda.common.external.concurrency;
+
+import com.tilguys.matilda.common.external.config.AIConcurrencyConfiguration;
+import com.tilguys.matilda.common.external.exception.AIConcurrencyLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AI 제공자별 적응형 동시 호출 제한. 태그/레퍼런스 리스너와 아웃박스 재처리가 모두 FailoverAIServiceManager 를 거치므로
+ * 여기서 상한 안의 호출만 들여보내고 나머지는 가상 스레드에서 대기시킨다.
+ * 상한은 AimdLimit 으로 조절하며, acquireTimeoutMillis 안에 자리가 나지 않으면 AIConcurrencyLimitException 으로 다음 제공자에 넘긴다.
+ */
+@Slf4j
+@Component
+public class AIConcurrencyLimiter {
+
+    private final AIConcurrencyConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    public AIConcurrencyLimiter(AIConcurrencyConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String provider, Supplier<T> call) {
+        Compartment compartment = compartmentOf(provider);
+        compartment.acquire(provider, configuration.getAcquireTimeoutMillis());
+
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.get();
+            long latencyMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            if (compartment.limit.onSuccess(latencyMillis, System.currentTimeMillis())) {
+                onDecreased(provider, compartment, "latency");
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (!isCancelled(e) && isOverload(e) && compartment.limit.onOverload(System.currentTimeMillis())) {
+                onDecreased(provider, compartment, "overload");
+            }
+            throw e;
+        } finally {
+            compartment.release();
+        }
+    }
+
+    public int inFlight(String provider) {
+        return compartmentOf(provider).inFlight();
+    }
+
+    public int limitOf(String provider) {
+        return compartmentOf(provider).limit.getLimit();
+    }
+
+    private void onDecreased(String provider, Compartment compartment, String reason) {
+        log.warn("{} 동시 호출 상한 감소 ({}): {}", provider, reason, compartment.limit.getLimit());
+        Counter.builder("ai.concurrency.limit.decreases")
+                .tag("provider", provider)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 헤지에서 진 시도는 인터럽트로 취소되고, 끊긴 HTTP 호출은 ResourceAccessException 으로 돌아온다.
+     * 제공자의 과부하가 아니므로 상한에 반영하지 않는다. SocketTimeoutException 은 InterruptedIOException 이지만
+     * 실제 타임아웃이라 제외한다.
+     */
+    private boolean isCancelled(Throwable exception) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException
+                    || (cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 429·503 응답이나 타임아웃만 과부하로 본다. 400 등 요청 자체의 오류는 상한에 반영하지 않는다.
+     */
+    private boolean isOverload(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException statusException) {
+                int status = statusException.getStatusCode().value();
+                return status == HttpStatus.TOO_MANY_REQUESTS.value() || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+            }
+            if (cause instanceof ResourceAccessException
+                    || cause instanceof SocketTimeoutException
+                    || cause instanceof HttpTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Compartment compartmentOf(String provider) {
+        return compartments.computeIfAbsent(provider, this::register);
+    }
+
+    private Compartment register(String provider) {
+        int maxLimit = configuration.maxConcurrentCallsOf(provider);
+        Compartment compartment = new Compartment(new AimdLimit(
+                Math.min(configuration.getInitialLimit(), maxLimit),
+                configuration.getMinLimit(),
+                maxLimit,
+                configuration.getLatencyToleranceRatio(),
+                configuration.getDecreaseCooldownMillis()
+        ));
+        Gauge.builder("ai.concurrency.limit", compartment, registered -> registered.limit.getLimit())
+                .description("AI 제공자별 현재 동시 호출 상한")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.concurrency.in.flight", compartment, Compartment::inFlight)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.concurrency.queue.depth", compartment, Compartment::waiting)
+                .description("상한에 막혀 대기 중인 호출 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        return compartment;
+    }
+
+    private static final class Compartment {
+
+        private final AimdLimit limit;
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final Condition available = lock.newCondition();
+        private int inFlight;
+        private int waiting;
+
+        private Compartment(AimdLimit limit) {
+            this.limit = limit;
+        }
+
+        private void acquire(String provider, long timeoutMillis) {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            lock.lock();
+            try {
+                waiting++;
+                try {
+                    while (inFlight >= limit.getLimit()) {
+                        if (remainingNanos <= 0) {
+                            throw new AIConcurrencyLimitException(provider + " 동시 호출 상한 초과");
+                        }
+                        remainingNanos = available.awaitNanos(remainingNanos);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AIConcurrencyLimitException(provider + " 동시 호출 허가 대기 중 인터럽트");
+                } finally {
+                    waiting--;
+                }
+                inFlight++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release() {
+            lock.lock();
+            try {
+                inFlight--;
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int inFlight() {
+            lock.lock();
+            try {
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int waiting() {
+            lock.lock();
+            try {
+                return waiting;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
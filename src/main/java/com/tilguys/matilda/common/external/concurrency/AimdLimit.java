@@ -0,0 +1,98 @@
+package com.tilguys.matilda.common.external.concurrency;
+
+import java.util.Arrays;
+
+/**
+ * TCP 혼잡 제어 방식의 동시 호출 상한. 정상 응답마다 1/limit 씩 늘려 상한 한 바퀴에 1 증가시키고,
+ * 429·타임아웃이나 기준 응답 시간 대비 급격한 지연이 이어지면 절반으로 줄인다.
+ * 한 번의 과부하로 연속 감소하지 않도록 감소 후 cooldownMillis 동안은 다시 줄이지 않는다.
+ * <p>
+ * 짧은 TIL 과 긴 TIL 의 응답 시간 차이가 커서, 기준은 최근 응답 시간의 p90 으로 잡고 그보다 tolerance 배 느린 응답이
+ * SLOW_CALLS_TO_DECREASE 번 연달아 와야 지연 급증으로 본다. 지연으로 줄인 뒤에는 기준 응답 시간 한 번만큼은 기다려
+ * 줄인 상한의 효과가 응답에 반영되기 전에 다시 줄이지 않는다.
+ */
+public class AimdLimit {
+
+    private static final double BACKOFF_RATIO = 0.5;
+    private static final int WINDOW_SIZE = 100;
+    private static final int MIN_SAMPLES = 10;
+    private static final double BASELINE_PERCENTILE = 0.9;
+    private static final int SLOW_CALLS_TO_DECREASE = 3;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyToleranceRatio;
+    private final long cooldownMillis;
+    private final long[] latencies = new long[WINDOW_SIZE];
+
+    private double limit;
+    private int samples;
+    private int nextSample;
+    private int consecutiveSlowCalls;
+    private long lastDecreasedAt = Long.MIN_VALUE;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double latencyToleranceRatio, long cooldownMillis) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyToleranceRatio = latencyToleranceRatio;
+        this.cooldownMillis = cooldownMillis;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * @return 지연 급증으로 상한을 줄였으면 true
+     */
+    public synchronized boolean onSuccess(long latencyMillis, long nowMillis) {
+        long baseline = getBaselineLatencyMillis();
+        boolean slow = samples >= MIN_SAMPLES && latencyMillis > baseline * latencyToleranceRatio;
+        record(latencyMillis);
+        if (!slow) {
+            consecutiveSlowCalls = 0;
+            limit = Math.min(maxLimit, limit + 1 / limit);
+            return false;
+        }
+        if (++consecutiveSlowCalls < SLOW_CALLS_TO_DECREASE) {
+            return false;
+        }
+        consecutiveSlowCalls = 0;
+        return decrease(nowMillis, Math.max(cooldownMillis, baseline));
+    }
+
+    /**
+     * @return 상한을 줄였으면 true (쿨다운 중이면 false)
+     */
+    public synchronized boolean onOverload(long nowMillis) {
+        return decrease(nowMillis, cooldownMillis);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 최근 WINDOW_SIZE 건 응답 시간의 p90. 표본이 없으면 0.
+     */
+    public synchronized long getBaselineLatencyMillis() {
+        if (samples == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, samples);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(samples * BASELINE_PERCENTILE) - 1];
+    }
+
+    private void record(long latencyMillis) {
+        latencies[nextSample] = latencyMillis;
+        nextSample = (nextSample + 1) % WINDOW_SIZE;
+        samples = Math.min(WINDOW_SIZE, samples + 1);
+    }
+
+    private boolean decrease(long nowMillis, long cooldown) {
+        if (lastDecreasedAt != Long.MIN_VALUE && nowMillis - lastDecreasedAt < cooldown) {
+            return false;
+        }
+        lastDecreasedAt = nowMillis;
+        limit = Math.max(minLimit, Math.floor(limit * BACKOFF_RATIO));
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package com.tilguys.matilda.common.external.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 제공자별 적응형 동시 호출 상한 설정. 상한은 initialLimit 에서 시작해 minLimit ~ 제공자별 최대값 사이에서 조절되며,
+ * providers 에 없는 제공자는 defaultMaxConcurrentCalls 를 최대값으로 쓴다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.ai.concurrency")
+public class AIConcurrencyConfiguration {
+
+    private int defaultMaxConcurrentCalls = 16;
+    private long acquireTimeoutMillis = 30000;
+    private int initialLimit = 4;
+    private int minLimit = 1;
+    private double latencyToleranceRatio = 2.0;
+    private long decreaseCooldownMillis = 1000;
+    private Map<String, Integer> providers = new HashMap<>(Map.of(
+            "openai", 32,
+            "Claude", 16
+    ));
+
+    public int maxConcurrentCallsOf(String provider) {
+        return providers.getOrDefault(provider, defaultMaxConcurrentCalls);
+    }
+
+    /**
+     * 제공자 중 가장 큰 최대 동시 호출 수. 이보다 많은 AI 작업은 리미터 앞에서 기다리기만 한다.
+     */
+    public int maxConcurrentCalls() {
+        return providers.values()
+                .stream()
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(defaultMaxConcurrentCalls);
+    }
+
+    public int getDefaultMaxConcurrentCalls() {
+        return defaultMaxConcurrentCalls;
+    }
+
+    public void setDefaultMaxConcurrentCalls(int defaultMaxConcurrentCalls) {
+        this.defaultMaxConcurrentCalls = defaultMaxConcurrentCalls;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public void setAcquireTimeoutMillis(long acquireTimeoutMillis) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public double getLatencyToleranceRatio() {
+        return latencyToleranceRatio;
+    }
+
+    public void setLatencyToleranceRatio(double latencyToleranceRatio) {
+        this.latencyToleranceRatio = latencyToleranceRatio;
+    }
+
+    public long getDecreaseCooldownMillis() {
+        return decreaseCooldownMillis;
+    }
+
+    public void setDecreaseCooldownMillis(long decreaseCooldownMillis) {
+        this.decreaseCooldownMillis = decreaseCooldownMillis;
+    }
+
+    public Map<String, Integer> getProviders() {
+        return providers;
+    }
+
+    public void setProviders(Map<String, Integer> providers) {
+        this.providers = providers;
+    }
+}
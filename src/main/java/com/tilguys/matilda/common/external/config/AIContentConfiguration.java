@@ -0,0 +1,50 @@
+package com.tilguys.matilda.common.external.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * AI 요청 전 TIL 내용 전처리 설정. 정리한 내용의 추정 토큰 수가 maxPromptTokens 를 넘으면
+ * chunkTokens 크기로 나눠 최대 maxChunks 개까지 병렬 추출한 뒤 결과를 합친다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.ai.content")
+public class AIContentConfiguration {
+
+    private boolean stripCodeBlocks = true;
+    private int maxPromptTokens = 3000;
+    private int chunkTokens = 2000;
+    private int maxChunks = 4;
+
+    public boolean isStripCodeBlocks() {
+        return stripCodeBlocks;
+    }
+
+    public void setStripCodeBlocks(boolean stripCodeBlocks) {
+        this.stripCodeBlocks = stripCodeBlocks;
+    }
+
+    public int getMaxPromptTokens() {
+        return maxPromptTokens;
+    }
+
+    public void setMaxPromptTokens(int maxPromptTokens) {
+        this.maxPromptTokens = maxPromptTokens;
+    }
+
+    public int getChunkTokens() {
+        return chunkTokens;
+    }
+
+    public void setChunkTokens(int chunkTokens) {
+        this.chunkTokens = chunkTokens;
+    }
+
+    public int getMaxChunks() {
+        return maxChunks;
+    }
+
+    public void setMaxChunks(int maxChunks) {
+        this.maxChunks = maxChunks;
+    }
+}
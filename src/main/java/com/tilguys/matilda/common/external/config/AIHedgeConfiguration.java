@@ -0,0 +1,76 @@
+package com.tilguys.matilda.common.external.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 헤지 요청 설정. 1순위 제공자가 최근 응답 시간의 percentile 백분위 안에 답하지 않으면 다음 제공자에도 요청한다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.ai.hedge")
+public class AIHedgeConfiguration {
+
+    private boolean enabled = false;
+    private int percentile = 95;
+    private int minSamples = 20;
+    private int sampleSize = 200;
+    private long minDelayMillis = 1000;
+    private int budgetWindowSize = 100;
+    private int maxHedgeRatioPercent = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(int percentile) {
+        this.percentile = percentile;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    public void setMinDelayMillis(long minDelayMillis) {
+        this.minDelayMillis = minDelayMillis;
+    }
+
+    public int getBudgetWindowSize() {
+        return budgetWindowSize;
+    }
+
+    public void setBudgetWindowSize(int budgetWindowSize) {
+        this.budgetWindowSize = budgetWindowSize;
+    }
+
+    public int getMaxHedgeRatioPercent() {
+        return maxHedgeRatioPercent;
+    }
+
+    public void setMaxHedgeRatioPercent(int maxHedgeRatioPercent) {
+        this.maxHedgeRatioPercent = maxHedgeRatioPercent;
+    }
+}
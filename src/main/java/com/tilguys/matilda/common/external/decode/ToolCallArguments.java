@@ -0,0 +1,19 @@
+package com.tilguys.matilda.common.external.decode;
+
+import java.util.List;
+
+/**
+ * 제공자와 무관하게 정규화한 함수 호출 인자. 응답에 없던 필드는 null.
+ */
+public record ToolCallArguments(
+        List<String> tags,
+        List<SubTagArgument> subTags,
+        List<ReferenceArgument> references
+) {
+
+    public record SubTagArgument(String coreTag, String subTag) {
+    }
+
+    public record ReferenceArgument(String word, String info) {
+    }
+}
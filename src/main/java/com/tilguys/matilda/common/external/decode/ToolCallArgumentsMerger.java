@@ -0,0 +1,150 @@
+package com.tilguys.matilda.common.external.decode;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.ReferenceArgument;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.SubTagArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 조각별 추출 결과를 하나로 합친다. 여러 조각에서 나온 값일수록 앞에 두고, 같은 횟수면 먼저 나온 순서를 따르므로
+ * 조각 응답 순서가 같으면 결과도 항상 같다. 개수 상한은 프롬프트가 요구하는 최대치와 맞춘다.
+ */
+public final class ToolCallArgumentsMerger {
+
+    public static final int MAX_TAGS = 5;
+    public static final int MAX_SUB_TAGS_PER_TAG = 5;
+    public static final int MAX_REFERENCES = 5;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ToolCallArgumentsMerger() {
+    }
+
+    public static ToolCallArguments merge(List<ToolCallArguments> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        List<String> tags = mergeTags(chunks);
+        return new ToolCallArguments(tags, mergeSubTags(chunks, tags), mergeReferences(chunks));
+    }
+
+    /**
+     * 기존 파서가 그대로 읽을 수 있도록 tool_use 블록 하나짜리 응답 JSON 으로 만든다.
+     */
+    public static String toResponseJson(ToolCallArguments arguments) {
+        Map<String, Object> input = new LinkedHashMap<>();
+        if (arguments.tags() != null) {
+            input.put("tags", arguments.tags());
+        }
+        if (arguments.subTags() != null) {
+            input.put("subTags", arguments.subTags());
+        }
+        if (arguments.references() != null) {
+            input.put("references", arguments.references());
+        }
+        Map<String, Object> toolUse = new LinkedHashMap<>();
+        toolUse.put("type", "tool_use");
+        toolUse.put("input", input);
+        try {
+            return OBJECT_MAPPER.writeValueAsString(Map.of("content", List.of(toolUse)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("병합한 함수 호출 인자 직렬화 실패", e);
+        }
+    }
+
+    private static List<String> mergeTags(List<ToolCallArguments> chunks) {
+        if (chunks.stream().allMatch(chunk -> chunk.tags() == null)) {
+            return null;
+        }
+        List<List<String>> values = chunks.stream()
+                .map(chunk -> chunk.tags() == null ? List.<String>of() : chunk.tags())
+                .toList();
+        return rank(values, String::strip, MAX_TAGS);
+    }
+
+    private static List<SubTagArgument> mergeSubTags(List<ToolCallArguments> chunks, List<String> tags) {
+        if (chunks.stream().allMatch(chunk -> chunk.subTags() == null)) {
+            return null;
+        }
+        Set<String> selected = tags == null ? Set.of() : tags.stream()
+                .map(String::strip)
+                .collect(Collectors.toSet());
+        List<List<SubTagArgument>> values = chunks.stream()
+                .map(chunk -> chunk.subTags() == null ? List.<SubTagArgument>of() : chunk.subTags())
+                .map(subTags -> subTags.stream()
+                        .filter(subTag -> selected.contains(subTag.coreTag().strip()))
+                        .toList())
+                .toList();
+
+        List<SubTagArgument> ranked = rank(
+                values,
+                subTag -> subTag.coreTag().strip() + "\u0000" + subTag.subTag().strip(),
+                Integer.MAX_VALUE
+        );
+        Map<String, Integer> perTag = new LinkedHashMap<>();
+        List<SubTagArgument> merged = new ArrayList<>();
+        for (SubTagArgument subTag : ranked) {
+            if (perTag.merge(subTag.coreTag().strip(), 1, Integer::sum) <= MAX_SUB_TAGS_PER_TAG) {
+                merged.add(subTag);
+            }
+        }
+        return merged;
+    }
+
+    private static List<ReferenceArgument> mergeReferences(List<ToolCallArguments> chunks) {
+        if (chunks.stream().allMatch(chunk -> chunk.references() == null)) {
+            return null;
+        }
+        List<List<ReferenceArgument>> values = chunks.stream()
+                .map(chunk -> chunk.references() == null ? List.<ReferenceArgument>of() : chunk.references())
+                .toList();
+        return rank(values, reference -> reference.word().strip().toLowerCase(), MAX_REFERENCES);
+    }
+
+    /**
+     * 조각마다 중복을 뺀 뒤 등장한 조각 수 내림차순, 첫 등장 순서 오름차순으로 정렬해 limit 개를 고른다.
+     * 같은 키의 값은 처음 나온 것을 쓴다.
+     */
+    private static <T> List<T> rank(List<List<T>> chunks, Function<T, String> key, int limit) {
+        Map<String, Ranked<T>> ranked = new LinkedHashMap<>();
+        for (List<T> chunk : chunks) {
+            Set<String> seen = new LinkedHashSet<>();
+            for (T value : chunk) {
+                String valueKey = key.apply(value);
+                if (!seen.add(valueKey)) {
+                    continue;
+                }
+                ranked.computeIfAbsent(valueKey, ignored -> new Ranked<>(value, ranked.size())).count++;
+            }
+        }
+        return ranked.values()
+                .stream()
+                .sorted(Comparator.<Ranked<T>>comparingInt(entry -> -entry.count)
+                        .thenComparingInt(entry -> entry.order))
+                .limit(limit)
+                .map(entry -> entry.value)
+                .toList();
+    }
+
+    private static final class Ranked<T> {
+
+        private final T value;
+        private final int order;
+        private int count;
+
+        private Ranked(T value, int order) {
+            this.value = value;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.tilguys.matilda.common.external.decode;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.ReferenceArgument;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.SubTagArgument;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 함수 호출 응답을 JsonParser 로 한 번만 훑어 ToolCallArguments 로 변환.
+ * OpenAI 는 choices[0].message.tool_calls[0].function.arguments (JSON 문자열),
+ * Claude 는 content[] 중 type 이 tool_use 인 블록의 input (JSON 객체) 을 읽고 나머지는 트리를 만들지 않고 건너뛴다.
+ */
+public class ToolCallDecoder {
+
+    private static final ToolCallDecoder SHARED = new ToolCallDecoder(new ObjectMapper());
+
+    private final JsonFactory jsonFactory;
+
+    public ToolCallDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public static ToolCallDecoder shared() {
+        return SHARED;
+    }
+
+    public ToolCallArguments decode(String responseJson) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(responseJson)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            ToolCallArguments arguments = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (arguments == null && "choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    arguments = readOpenAIChoices(parser);
+                } else if (arguments == null && "content".equals(field) && value == JsonToken.START_ARRAY) {
+                    arguments = readClaudeContent(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (arguments == null) {
+                throw new JsonParseException(parser, "No tool call found in response");
+            }
+            return arguments;
+        }
+    }
+
+    private ToolCallArguments readOpenAIChoices(JsonParser parser) throws IOException {
+        ToolCallArguments arguments = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (arguments == null && parser.currentToken() == JsonToken.START_OBJECT) {
+                arguments = readField(parser, "message", this::readOpenAIMessage);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return arguments;
+    }
+
+    private ToolCallArguments readOpenAIMessage(JsonParser parser) throws IOException {
+        return readField(parser, "tool_calls", toolCalls -> {
+            if (toolCalls.currentToken() != JsonToken.START_ARRAY) {
+                toolCalls.skipChildren();
+                return null;
+            }
+            ToolCallArguments arguments = null;
+            while (toolCalls.nextToken() != JsonToken.END_ARRAY) {
+                if (arguments == null && toolCalls.currentToken() == JsonToken.START_OBJECT) {
+                    arguments = readField(toolCalls, "function", function ->
+                            readField(function, "arguments", this::readArgumentsString));
+                } else {
+                    toolCalls.skipChildren();
+                }
+            }
+            return arguments;
+        });
+    }
+
+    private ToolCallArguments readArgumentsString(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.VALUE_STRING);
+        try (JsonParser arguments = jsonFactory.createParser(parser.getText())) {
+            arguments.nextToken();
+            return readArguments(arguments);
+        }
+    }
+
+    private ToolCallArguments readClaudeContent(JsonParser parser) throws IOException {
+        ToolCallArguments found = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (found != null || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String type = null;
+            ToolCallArguments input = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+                    type = parser.getText();
+                } else if ("input".equals(field) && value == JsonToken.START_OBJECT) {
+                    input = readArguments(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if ("tool_use".equals(type)) {
+                found = input;
+            }
+        }
+        return found;
+    }
+
+    private ToolCallArguments readArguments(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        List<String> tags = null;
+        List<SubTagArgument> subTags = null;
+        List<ReferenceArgument> references = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "tags" -> tags = readStrings(parser);
+                case "subTags" -> subTags = readPairs(parser, "coreTag", "subTag", SubTagArgument::new);
+                case "references" -> references = readPairs(parser, "word", "info", ReferenceArgument::new);
+                default -> parser.skipChildren();
+            }
+        }
+        return new ToolCallArguments(tags, subTags, references);
+    }
+
+    private List<String> readStrings(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken().isScalarValue()) {
+                values.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return values;
+    }
+
+    private <T> List<T> readPairs(JsonParser parser, String first, String second, PairFactory<T> factory)
+            throws IOException {
+        List<T> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String firstValue = null;
+            String secondValue = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!value.isScalarValue()) {
+                    parser.skipChildren();
+                } else if (first.equals(field)) {
+                    firstValue = parser.getText();
+                } else if (second.equals(field)) {
+                    secondValue = parser.getText();
+                }
+            }
+            if (firstValue == null || secondValue == null) {
+                throw new JsonParseException(parser, "Missing " + first + " or " + second + " in tool call arguments");
+            }
+            values.add(factory.create(firstValue, secondValue));
+        }
+        return values;
+    }
+
+    /**
+     * 현재 객체에서 field 값을 reader 로 읽고, 같은 객체의 나머지 필드는 건너뛴다.
+     */
+    private ToolCallArguments readField(JsonParser parser, String field, FieldReader reader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        ToolCallArguments arguments = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (arguments == null && field.equals(name)) {
+                arguments = reader.read(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return arguments;
+    }
+
+    private void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but was " + actual);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        ToolCallArguments read(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface PairFactory<T> {
+        T create(String first, String second);
+    }
+}
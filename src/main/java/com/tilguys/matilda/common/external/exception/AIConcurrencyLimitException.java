@@ -0,0 +1,8 @@
+package com.tilguys.matilda.common.external.exception;
+
+public class AIConcurrencyLimitException extends RuntimeException {
+
+    public AIConcurrencyLimitException(String message) {
+        super(message);
+    }
+}
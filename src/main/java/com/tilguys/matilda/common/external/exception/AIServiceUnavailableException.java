@@ -0,0 +1,11 @@
+package com.tilguys.matilda.common.external.exception;
+
+/**
+ * 설정되지 않았거나 서킷이 열려 호출해 볼 수 있는 AI 제공자가 하나도 없을 때.
+ */
+public class AIServiceUnavailableException extends RuntimeException {
+
+    public AIServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,87 @@
+package com.tilguys.matilda.common.external.hedge;
+
+import com.tilguys.matilda.common.external.config.AIHedgeConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제공자별 응답 시간 분포로 헤지 대기 시간을 정하고, 헤지 비율 상한과 발동/승리 횟수를 관리.
+ */
+@Component
+public class AIHedgePolicy {
+
+    private final AIHedgeConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final HedgeBudget budget;
+
+    public AIHedgePolicy(AIHedgeConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.budget = new HedgeBudget(configuration.getBudgetWindowSize(), configuration.getMaxHedgeRatioPercent());
+        Gauge.builder("ai.hedge.ratio", budget, HedgeBudget::hedgeRatio)
+                .description("최근 요청 중 헤지 요청 비율")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return configuration.isEnabled();
+    }
+
+    public void recordLatency(String provider, long latencyMillis) {
+        latencyWindowOf(provider).record(latencyMillis);
+    }
+
+    /**
+     * 헤지 대상 요청으로 집계하고, 표본이 충분하면 헤지를 보낼 대기 시간을 반환.
+     */
+    public OptionalLong hedgeDelayMillis(String provider) {
+        OptionalLong percentile = latencyWindowOf(provider)
+                .percentile(configuration.getPercentile(), configuration.getMinSamples());
+        if (percentile.isEmpty()) {
+            return percentile;
+        }
+        budget.recordRequest();
+        return OptionalLong.of(Math.max(configuration.getMinDelayMillis(), percentile.getAsLong()));
+    }
+
+    public boolean tryHedge() {
+        if (budget.tryHedge()) {
+            hedgeCounter("fired").increment();
+            return true;
+        }
+        hedgeCounter("budget_exhausted").increment();
+        return false;
+    }
+
+    public void recordHedgeWon() {
+        hedgeCounter("won").increment();
+    }
+
+    private LatencyWindow latencyWindowOf(String provider) {
+        return latencies.computeIfAbsent(provider, this::register);
+    }
+
+    private LatencyWindow register(String provider) {
+        LatencyWindow window = new LatencyWindow(configuration.getSampleSize());
+        Gauge.builder("ai.hedge.delay", window, registered -> registered
+                        .percentile(configuration.getPercentile(), configuration.getMinSamples())
+                        .orElse(0))
+                .description("헤지 기준 응답 시간 백분위 (ms)")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        return window;
+    }
+
+    private Counter hedgeCounter(String result) {
+        return Counter.builder("ai.hedge.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.tilguys.matilda.common.external.hedge;
+
+/**
+ * 최근 windowSize 건의 요청 중 헤지 요청 비율을 maxRatioPercent 이하로 제한.
+ * 장애로 모든 요청이 느려졌을 때 헤지가 부하를 두 배로 키우지 않게 한다.
+ */
+public class HedgeBudget {
+
+    private final boolean[] hedged;
+    private final int maxHedges;
+    private int cursor;
+    private int hedgeCount;
+
+    public HedgeBudget(int windowSize, int maxRatioPercent) {
+        this.hedged = new boolean[windowSize];
+        this.maxHedges = Math.max(1, windowSize * maxRatioPercent / 100);
+    }
+
+    public synchronized void recordRequest() {
+        if (hedged[cursor]) {
+            hedgeCount--;
+        }
+        hedged[cursor] = false;
+        cursor = (cursor + 1) % hedged.length;
+    }
+
+    /**
+     * 예산이 남아 있으면 직전에 기록한 요청을 헤지로 표시하고 true.
+     */
+    public synchronized boolean tryHedge() {
+        if (hedgeCount >= maxHedges) {
+            return false;
+        }
+        int last = (cursor - 1 + hedged.length) % hedged.length;
+        if (!hedged[last]) {
+            hedged[last] = true;
+            hedgeCount++;
+        }
+        return true;
+    }
+
+    public synchronized double hedgeRatio() {
+        return (double) hedgeCount / hedged.length;
+    }
+}
@@ -0,0 +1,44 @@
+package com.tilguys.matilda.common.external.hedge;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 최근 성공 호출 응답 시간을 고정 크기 링 버퍼로 보관하고 백분위를 계산.
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int recorded;
+    private int cursor;
+
+    public LatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+
+    public synchronized void record(long latencyMillis) {
+        samples[cursor] = latencyMillis;
+        cursor = (cursor + 1) % samples.length;
+        recorded = Math.min(recorded + 1, samples.length);
+    }
+
+    /**
+     * 표본이 minSamples 보다 적으면 비어 있다 (nearest-rank 방식).
+     */
+    public OptionalLong percentile(int percentile, int minSamples) {
+        long[] sorted;
+        synchronized (this) {
+            if (recorded == 0 || recorded < minSamples) {
+                return OptionalLong.empty();
+            }
+            sorted = Arrays.copyOf(samples, recorded);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return OptionalLong.of(sorted[Math.max(0, rank - 1)]);
+    }
+
+    public synchronized int size() {
+        return recorded;
+    }
+}
@@ -0,0 +1,15 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import java.util.List;
+import java.util.Map;
+
+public record AIPrompt(PromptTemplate template, String content) {
+
+    public List<Map<String, Object>> messages() {
+        return template.messages(content);
+    }
+
+    public Map<String, Object> functionDefinition() {
+        return template.getFunctionDefinition();
+    }
+}
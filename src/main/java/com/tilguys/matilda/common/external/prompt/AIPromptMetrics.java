@@ -0,0 +1,96 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 본문 조립 시간(ai.request.build)과 응답 usage 의 토큰 수(ai.prompt.tokens)를 기록.
+ * type 태그는 input(전체 입력), cached(캐시 적중), cache_write(캐시 생성) 이다.
+ * OpenAI 는 usage.prompt_tokens / usage.prompt_tokens_details.cached_tokens,
+ * Claude 는 usage.input_tokens / cache_read_input_tokens / cache_creation_input_tokens 를 읽는다.
+ */
+@Slf4j
+@Component
+public class AIPromptMetrics {
+
+    private final JsonFactory jsonFactory;
+    private final MeterRegistry meterRegistry;
+
+    public AIPromptMetrics(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordBuild(String provider, long elapsedNanos) {
+        Timer.builder("ai.request.build")
+                .description("AI 요청 본문 조립 시간")
+                .tag("provider", provider)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 최상위 usage 객체만 읽고 나머지 필드는 트리를 만들지 않고 건너뛴다.
+     */
+    public void recordUsage(String provider, String responseJson) {
+        if (responseJson == null) {
+            return;
+        }
+        try (JsonParser parser = jsonFactory.createParser(responseJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                    readUsage(provider, parser);
+                    return;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("{} 응답 usage 파싱 실패: {}", provider, e.getMessage());
+        }
+    }
+
+    private void readUsage(String provider, JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT && "prompt_tokens_details".equals(field)) {
+                readUsage(provider, parser);
+                continue;
+            }
+            if (value != JsonToken.VALUE_NUMBER_INT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "prompt_tokens", "input_tokens" -> count(provider, "input", parser.getLongValue());
+                case "cached_tokens", "cache_read_input_tokens" -> count(provider, "cached", parser.getLongValue());
+                case "cache_creation_input_tokens" -> count(provider, "cache_write", parser.getLongValue());
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void count(String provider, String type, long tokens) {
+        Counter.builder("ai.prompt.tokens")
+                .tag("provider", provider)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(tokens);
+    }
+}
@@ -0,0 +1,77 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.util.Arrays;
+
+/**
+ * 요청 본문을 한 번 직렬화해 두고 내용 자리만 바꿔 끼우는 바이트 템플릿.
+ * 본문에 CONTENT_PLACEHOLDER 를 넣어 직렬화한 뒤 그 앞뒤 바이트를 보관하고, 요청 시에는 내용만 JSON 이스케이프해 잇는다.
+ * 맵 키를 정렬해 직렬화하므로 노드나 재기동과 무관하게 같은 앞부분 바이트가 나와 제공자 프롬프트 캐시에 맞는다.
+ */
+public final class JsonBodyTemplate {
+
+    public static final String CONTENT_PLACEHOLDER = "\u0000TIL_CONTENT\u0000";
+
+    private final ObjectMapper objectMapper;
+    private final byte[] prefix;
+    private final byte[] suffix;
+
+    private JsonBodyTemplate(ObjectMapper objectMapper, byte[] prefix, byte[] suffix) {
+        this.objectMapper = objectMapper;
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    public static JsonBodyTemplate of(ObjectMapper objectMapper, Object body) {
+        try {
+            byte[] serialized = objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(body);
+            byte[] marker = unquoted(objectMapper.writeValueAsBytes(CONTENT_PLACEHOLDER));
+            int index = indexOf(serialized, marker, 0);
+            if (index < 0 || indexOf(serialized, marker, index + 1) >= 0) {
+                throw new IllegalArgumentException("요청 본문에 내용 자리가 정확히 한 번 있어야 합니다");
+            }
+            return new JsonBodyTemplate(
+                    objectMapper,
+                    Arrays.copyOfRange(serialized, 0, index),
+                    Arrays.copyOfRange(serialized, index + marker.length, serialized.length)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패", e);
+        }
+    }
+
+    public byte[] render(String content) {
+        try {
+            byte[] escaped = unquoted(objectMapper.writeValueAsBytes(content));
+            byte[] body = new byte[prefix.length + escaped.length + suffix.length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            System.arraycopy(escaped, 0, body, prefix.length, escaped.length);
+            System.arraycopy(suffix, 0, body, prefix.length + escaped.length, suffix.length);
+            return body;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 내용 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] unquoted(byte[] jsonString) {
+        return Arrays.copyOfRange(jsonString, 1, jsonString.length - 1);
+    }
+
+    private static int indexOf(byte[] source, byte[] target, int from) {
+        outer:
+        for (int i = from; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
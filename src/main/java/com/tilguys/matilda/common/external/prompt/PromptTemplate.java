@@ -0,0 +1,58 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청마다 바뀌지 않는 시스템 프롬프트·지시문·함수 스키마 묶음. TIL 내용은 항상 맨 뒤에 붙여
+ * 제공자 측 프롬프트 캐시가 앞부분(prefix)을 재사용할 수 있게 한다.
+ */
+public final class PromptTemplate {
+
+    private final String systemPrompt;
+    private final String instruction;
+    private final Map<String, Object> functionDefinition;
+
+    public PromptTemplate(String systemPrompt, String instruction, Map<String, Object> functionDefinition) {
+        this.systemPrompt = systemPrompt;
+        this.instruction = instruction;
+        this.functionDefinition = functionDefinition;
+    }
+
+    public AIPrompt with(String content) {
+        return new AIPrompt(this, content);
+    }
+
+    /**
+     * OpenAI 형식 메시지. 시스템 프롬프트가 없으면 user 메시지 하나만 만든다.
+     */
+    public List<Map<String, Object>> messages(String content) {
+        List<Map<String, Object>> messages = new ArrayList<>(2);
+        if (systemPrompt != null) {
+            messages.add(Map.of("role", "system", "content", systemPrompt));
+        }
+        messages.add(Map.of("role", "user", "content", instruction + contentBlock(content)));
+        return messages;
+    }
+
+    public String contentBlock(String content) {
+        return "\n\n[TIL 시작]\n" + content + "\n[TIL 끝]";
+    }
+
+    public String getSystemPrompt() {
+        return systemPrompt;
+    }
+
+    public String getInstruction() {
+        return instruction;
+    }
+
+    public Map<String, Object> getFunctionDefinition() {
+        return functionDefinition;
+    }
+
+    public String getFunctionName() {
+        return (String) functionDefinition.get("name");
+    }
+}
@@ -0,0 +1,134 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import com.tilguys.matilda.common.external.config.AIContentConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AI 에 보낼 TIL 내용을 정리하고, 추정 토큰 수가 한도를 넘으면 문단 경계로 나눈다.
+ * 코드 블록은 언어 표시만 남기고, 마크다운 링크·이미지·HTML 태그 같은 잡음을 걷어낸다.
+ */
+@Slf4j
+@Component
+public class TilContentPreprocessor {
+
+    private static final Pattern CODE_BLOCK = Pattern.compile("(?ms)^\\s*(```|~~~)\\s*([\\w#+.-]*)[^\\n]*\\n.*?(^\\s*\\1\\s*$|\\z)");
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern URL = Pattern.compile("https?://\\S+");
+    private static final Pattern HTML_TAG = Pattern.compile("</?[a-zA-Z][^>]*>");
+    private static final Pattern INLINE_CODE = Pattern.compile("`([^`\\n]+)`");
+    private static final Pattern LINE_MARKER = Pattern.compile("(?m)^\\s{0,3}(#{1,6}|>+|[-*+]|\\d+\\.)\\s+");
+    private static final Pattern EMPHASIS = Pattern.compile("(\\*\\*|__|~~)");
+    private static final Pattern TRAILING_SPACES = Pattern.compile("(?m)[ \\t]+$");
+    private static final Pattern BLANK_LINES = Pattern.compile("\\n{3,}");
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。])\\s+|\\n");
+
+    private final AIContentConfiguration configuration;
+
+    public TilContentPreprocessor(AIContentConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public String clean(String content) {
+        if (content == null) {
+            return "";
+        }
+        String cleaned = content.replace("\r\n", "\n");
+        if (configuration.isStripCodeBlocks()) {
+            cleaned = replaceCodeBlocks(cleaned);
+        }
+        cleaned = IMAGE.matcher(cleaned).replaceAll("$1");
+        cleaned = LINK.matcher(cleaned).replaceAll("$1");
+        cleaned = URL.matcher(cleaned).replaceAll("");
+        cleaned = HTML_TAG.matcher(cleaned).replaceAll("");
+        cleaned = INLINE_CODE.matcher(cleaned).replaceAll("$1");
+        cleaned = LINE_MARKER.matcher(cleaned).replaceAll("");
+        cleaned = EMPHASIS.matcher(cleaned).replaceAll("");
+        cleaned = TRAILING_SPACES.matcher(cleaned).replaceAll("");
+        cleaned = BLANK_LINES.matcher(cleaned).replaceAll("\n\n");
+        return cleaned.strip();
+    }
+
+    /**
+     * 정리한 내용을 한도 안의 조각들로 나눈다. 한도 이하이면 한 조각이며, maxChunks 를 넘는 뒷부분은 버린다.
+     */
+    public List<String> split(String content) {
+        String cleaned = clean(content);
+        if (TokenEstimator.estimate(cleaned) <= configuration.getMaxPromptTokens()) {
+            return List.of(cleaned);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        for (String piece : pieces(cleaned)) {
+            int pieceTokens = TokenEstimator.estimate(piece);
+            if (currentTokens > 0 && currentTokens + pieceTokens > configuration.getChunkTokens()) {
+                chunks.add(current.toString().strip());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+            current.append(piece).append("\n\n");
+            currentTokens += pieceTokens;
+        }
+        if (currentTokens > 0) {
+            chunks.add(current.toString().strip());
+        }
+
+        if (chunks.size() > configuration.getMaxChunks()) {
+            log.info("TIL 내용이 {}개 조각으로 나뉘어 앞의 {}개만 사용합니다", chunks.size(), configuration.getMaxChunks());
+            return List.copyOf(chunks.subList(0, configuration.getMaxChunks()));
+        }
+        return chunks;
+    }
+
+    private String replaceCodeBlocks(String content) {
+        Matcher matcher = CODE_BLOCK.matcher(content);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String language = matcher.group(2);
+            String marker = language.isEmpty() ? "\n[코드 생략]\n" : "\n[" + language + " 코드 생략]\n";
+            matcher.appendReplacement(result, Matcher.quoteReplacement(marker));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * 문단 단위로 자르고, 한 문단이 조각 크기를 넘으면 문장 단위로, 그래도 넘으면 글자 수로 자른다.
+     */
+    private List<String> pieces(String content) {
+        List<String> pieces = new ArrayList<>();
+        for (String paragraph : PARAGRAPH_BREAK.split(content)) {
+            if (TokenEstimator.estimate(paragraph) <= configuration.getChunkTokens()) {
+                pieces.add(paragraph);
+                continue;
+            }
+            for (String sentence : SENTENCE_END.split(paragraph)) {
+                pieces.addAll(hardSplit(sentence));
+            }
+        }
+        return pieces;
+    }
+
+    private List<String> hardSplit(String text) {
+        if (TokenEstimator.estimate(text) <= configuration.getChunkTokens()) {
+            return List.of(text);
+        }
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(text.length(), start + configuration.getChunkTokens());
+            parts.add(text.substring(start, end));
+            start = end;
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tilguys.matilda.common.external.prompt;
+
+/**
+ * 토크나이저 없이 문자 종류로 토큰 수를 어림한다. 한글·한자 등은 글자당 1토큰,
+ * 영문·숫자 연속 구간은 4글자당 1토큰, 공백은 0, 그 밖의 기호는 1토큰으로 센다.
+ * 실제보다 약간 크게 잡히도록 해 제공자 한도를 넘지 않게 하는 용도다.
+ */
+public final class TokenEstimator {
+
+    private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int tokens = 0;
+        int asciiRun = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && Character.isLetterOrDigit(c)) {
+                asciiRun++;
+                continue;
+            }
+            tokens += tokensOf(asciiRun);
+            asciiRun = 0;
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        return tokens + tokensOf(asciiRun);
+    }
+
+    private static int tokensOf(int asciiRun) {
+        return (asciiRun + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN;
+    }
+}
@@ -0,0 +1,56 @@
+package com.tilguys.matilda.common.http;
+
+import com.tilguys.matilda.common.http.config.OutboundHttpConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 호출 대상별로 하나씩 공유하는 RestTemplate.
+ * 대상마다 별도 JDK HttpClient(커넥션 풀, keep-alive, 가능하면 HTTP/2)를 두고 연결/읽기 타임아웃을 건다.
+ */
+@Component
+public class OutboundHttpClients {
+
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final OutboundHttpConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RestTemplate> restTemplates = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(
+            RestTemplateBuilder restTemplateBuilder,
+            OutboundHttpConfiguration configuration,
+            MeterRegistry meterRegistry
+    ) {
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RestTemplate restTemplate(String target) {
+        return restTemplates.computeIfAbsent(target, this::create);
+    }
+
+    private RestTemplate create(String target) {
+        OutboundHttpConfiguration.Target timeouts = configuration.targetOf(target);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(timeouts.getConnectTimeoutMillis()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(timeouts.getReadTimeoutMillis()));
+
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new OutboundHttpMetricsInterceptor(meterRegistry, target))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.tilguys.matilda.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * 외부 호출 대상별 응답 시간 타이머 (http.outbound.requests{target,method,status}).
+ */
+public class OutboundHttpMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final String target;
+
+    public OutboundHttpMetricsInterceptor(MeterRegistry meterRegistry, String target) {
+        this.meterRegistry = meterRegistry;
+        this.target = target;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } catch (CancellationException e) {
+            // JDK 클라이언트의 읽기 타임아웃은 요청 future 취소로 드러나므로 RestTemplate 이 I/O 오류로 감싸도록 변환
+            throw new SocketTimeoutException("Read timed out: " + request.getURI());
+        } finally {
+            sample.stop(Timer.builder("http.outbound.requests")
+                    .tag("target", target)
+                    .tag("method", request.getMethod().name())
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
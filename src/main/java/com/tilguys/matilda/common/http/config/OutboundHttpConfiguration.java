@@ -0,0 +1,80 @@
+package com.tilguys.matilda.common.http.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 호출 대상별 타임아웃 설정. targets 에 없는 대상은 기본값을 쓴다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.http")
+public class OutboundHttpConfiguration {
+
+    private int connectTimeoutMillis = 3000;
+    private int readTimeoutMillis = 10000;
+    private Map<String, Target> targets = new HashMap<>(Map.of(
+            "openai", new Target(3000, 60000),
+            "claude", new Target(3000, 60000)
+    ));
+
+    public Target targetOf(String name) {
+        return targets.getOrDefault(name, new Target(connectTimeoutMillis, readTimeoutMillis));
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public void setConnectTimeoutMillis(int connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    public int getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    public void setReadTimeoutMillis(int readTimeoutMillis) {
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    public Map<String, Target> getTargets() {
+        return targets;
+    }
+
+    public void setTargets(Map<String, Target> targets) {
+        this.targets = targets;
+    }
+
+    public static class Target {
+
+        private int connectTimeoutMillis;
+        private int readTimeoutMillis;
+
+        public Target() {
+        }
+
+        public Target(int connectTimeoutMillis, int readTimeoutMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.readTimeoutMillis = readTimeoutMillis;
+        }
+
+        public int getConnectTimeoutMillis() {
+            return connectTimeoutMillis;
+        }
+
+        public void setConnectTimeoutMillis(int connectTimeoutMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+        }
+
+        public int getReadTimeoutMillis() {
+            return readTimeoutMillis;
+        }
+
+        public void setReadTimeoutMillis(int readTimeoutMillis) {
+            this.readTimeoutMillis = readTimeoutMillis;
+        }
+    }
+}
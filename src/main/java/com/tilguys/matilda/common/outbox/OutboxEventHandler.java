@@ -0,0 +1,32 @@
+package com.tilguys.matilda.common.outbox;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트 유형 하나의 처리기. 빈으로 등록하면 OutboxDispatcher 가 eventType 으로 찾아 호출한다.
+ * 같은 이벤트가 선점 만료 뒤 다시 전달될 수 있으므로 처리는 멱등이어야 한다.
+ */
+public interface OutboxEventHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    void handle(T payload) throws Exception;
+
+    /**
+     * true 면 한 번에 선점한 이벤트들을 handleBatch 로 묶어 처리한다.
+     */
+    default boolean batchable() {
+        return false;
+    }
+
+    /**
+     * 묶음 처리가 실패하면 디스패처가 건별 handle 로 다시 시도한다.
+     */
+    default void handleBatch(List<T> payloads) throws Exception {
+        for (T payload : payloads) {
+            handle(payload);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tilguys.matilda.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 페이로드 JSON 변환. 읽을 수 없는 페이로드는 재시도해도 소용없으므로 IllegalArgumentException 으로 돌려
+ * 재시도 정책이 치명적 실패로 분류하게 한다.
+ */
+@Component
+public class OutboxPayloadCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox 페이로드 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public <T> T decode(String payload, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(payload, payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox 페이로드 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.tilguys.matilda.common.outbox.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 범용 Outbox 디스패처 설정. 유형별 동시 처리 수는 concurrency 에 유형 이름으로 지정하고, 없으면 defaultConcurrency 를 쓴다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.outbox")
+public class OutboxConfiguration {
+
+    private long leaseSeconds = 300;
+    private int claimSize = 50;
+    private int defaultConcurrency = 4;
+    private int retentionDays = 7;
+    private Map<String, Integer> concurrency = new HashMap<>();
+
+    public int concurrencyOf(String eventType) {
+        return Math.max(1, concurrency.getOrDefault(eventType, defaultConcurrency));
+    }
+
+    public long getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    public void setLeaseSeconds(long leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public int getClaimSize() {
+        return claimSize;
+    }
+
+    public void setClaimSize(int claimSize) {
+        this.claimSize = claimSize;
+    }
+
+    public int getDefaultConcurrency() {
+        return defaultConcurrency;
+    }
+
+    public void setDefaultConcurrency(int defaultConcurrency) {
+        this.defaultConcurrency = defaultConcurrency;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public Map<String, Integer> getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Map<String, Integer> concurrency) {
+        this.concurrency = concurrency;
+    }
+}
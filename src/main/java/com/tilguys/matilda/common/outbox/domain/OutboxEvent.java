@@ -0,0 +1,110 @@
+package com.tilguys.matilda.common.outbox.domain;
+
+import com.tilguys.matilda.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유형별 핸들러가 처리하는 범용 Outbox 이벤트. 페이로드는 핸들러가 정한 타입의 JSON 으로 저장한다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_type_status_scheduled", columnList = "event_type, status, scheduled_at"),
+        @Index(name = "idx_outbox_events_status_processed_at", columnList = "status, processed_at")
+})
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "retry_count", nullable = false)
+    @Builder.Default
+    private Integer retryCount = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    public static OutboxEvent pending(String eventType, Long aggregateId, String payload, LocalDateTime now) {
+        return OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .scheduledAt(now)
+                .build();
+    }
+
+    public void claim(String workerId, LocalDateTime leaseExpiresAt) {
+        this.status = OutboxStatus.PROCESSING;
+        this.lockedBy = workerId;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public void markAsCompleted() {
+        this.status = OutboxStatus.COMPLETED;
+        this.processedAt = LocalDateTime.now();
+        releaseLease();
+    }
+
+    public void markAsFailed(String errorMessage) {
+        this.retryCount++;
+        this.status = OutboxStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.processedAt = LocalDateTime.now();
+        releaseLease();
+    }
+
+    public void reschedule(LocalDateTime nextAttemptAt) {
+        this.status = OutboxStatus.PENDING;
+        this.scheduledAt = nextAttemptAt;
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
+    }
+}
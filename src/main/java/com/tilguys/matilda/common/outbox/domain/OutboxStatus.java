@@ -0,0 +1,8 @@
+package com.tilguys.matilda.common.outbox.domain;
+
+public enum OutboxStatus {
+    PENDING,    // 처리 대기 중
+    PROCESSING, // 작업자가 선점해 처리 중
+    COMPLETED,  // 처리 완료
+    FAILED      // 재시도 포기 (DLQ 로 넘김)
+}
@@ -0,0 +1,64 @@
+package com.tilguys.matilda.common.outbox.event;
+
+import com.tilguys.matilda.common.outbox.service.OutboxDispatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트를 기록한 트랜잭션이 커밋되면 해당 유형을 바로 처리해 폴링 주기만큼 지연되지 않게 한다.
+ * 한 번의 처리가 대기 중인 이벤트를 모두 가져가므로 유형마다 처리는 하나만 돌리고,
+ * 처리 중에 들어온 요청은 합쳐서 끝난 뒤 한 번 더 처리한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatchListener {
+
+    private final OutboxDispatcher outboxDispatcher;
+    private final Executor outboxDispatchTaskExecutor;
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    public OutboxDispatchListener(
+            OutboxDispatcher outboxDispatcher,
+            @Qualifier("outboxDispatchTaskExecutor") Executor outboxDispatchTaskExecutor
+    ) {
+        this.outboxDispatcher = outboxDispatcher;
+        this.outboxDispatchTaskExecutor = outboxDispatchTaskExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOutboxEventRecorded(OutboxEventRecordedEvent event) {
+        String eventType = event.eventType();
+        AtomicInteger pending = requests.computeIfAbsent(eventType, type -> new AtomicInteger());
+        if (pending.getAndIncrement() > 0) {
+            return;
+        }
+        try {
+            outboxDispatchTaskExecutor.execute(() -> drain(eventType, pending));
+        } catch (TaskRejectedException e) {
+            // 남은 이벤트는 주기적인 dispatchAll 이 처리한다
+            pending.set(0);
+            log.warn("Outbox 즉시 처리 요청이 거절됐습니다: type={}, {}", eventType, e.getMessage());
+        }
+    }
+
+    private void drain(String eventType, AtomicInteger pending) {
+        int handled;
+        do {
+            handled = pending.get();
+            try {
+                outboxDispatcher.dispatch(eventType);
+            } catch (Exception e) {
+                log.error("Outbox 처리 실패: type={}, {}", eventType, e.getMessage());
+            }
+        } while (pending.addAndGet(-handled) > 0);
+    }
+}
@@ -0,0 +1,5 @@
+package com.tilguys.matilda.common.outbox.event;
+
+public record OutboxEventRecordedEvent(String eventType) {
+
+}
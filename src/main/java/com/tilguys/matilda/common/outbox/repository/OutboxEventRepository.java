@@ -0,0 +1,109 @@
+package com.tilguys.matilda.common.outbox.repository;
+
+import com.tilguys.matilda.common.outbox.domain.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Hibernate 에서 잠금 대기 시간 -2 는 SKIP LOCKED 로 변환된다
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * 한 유형에서 처리 대기중이거나 선점이 만료된 이벤트를 스케줄 시간 순으로 잠가 조회 (FOR UPDATE SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.eventType = :eventType " +
+            "AND ((e.status = 'PENDING' AND e.scheduledAt <= :now) " +
+            "OR (e.status = 'PROCESSING' AND e.leaseExpiresAt < :now)) " +
+            "ORDER BY e.scheduledAt ASC")
+    List<OutboxEvent> findClaimableEvents(
+            @Param("eventType") String eventType,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 처리 완료 기록. 선점이 만료돼 다른 작업자가 가져갔으면 0건
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e " +
+            "SET e.status = 'COMPLETED', e.processedAt = :processedAt, e.lockedBy = NULL, e.leaseExpiresAt = NULL " +
+            "WHERE e.id = :id AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int completeIfClaimedBy(
+            @Param("id") Long id,
+            @Param("workerId") String workerId,
+            @Param("processedAt") LocalDateTime processedAt
+    );
+
+    /**
+     * 실패한 이벤트를 재시도 시각에 다시 대기시킨다. 선점이 만료돼 다른 작업자가 가져갔으면 0건
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e " +
+            "SET e.status = 'PENDING', e.retryCount = :retryCount, e.errorMessage = :errorMessage, " +
+            "e.scheduledAt = :scheduledAt, e.lockedBy = NULL, e.leaseExpiresAt = NULL " +
+            "WHERE e.id = :id AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int rescheduleIfClaimedBy(
+            @Param("id") Long id,
+            @Param("workerId") String workerId,
+            @Param("retryCount") int retryCount,
+            @Param("errorMessage") String errorMessage,
+            @Param("scheduledAt") LocalDateTime scheduledAt
+    );
+
+    /**
+     * 재시도를 포기한 이벤트를 실패로 기록. 선점이 만료돼 다른 작업자가 가져갔으면 0건
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e " +
+            "SET e.status = 'FAILED', e.retryCount = :retryCount, e.errorMessage = :errorMessage, " +
+            "e.processedAt = :processedAt, e.lockedBy = NULL, e.leaseExpiresAt = NULL " +
+            "WHERE e.id = :id AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int failIfClaimedBy(
+            @Param("id") Long id,
+            @Param("workerId") String workerId,
+            @Param("retryCount") int retryCount,
+            @Param("errorMessage") String errorMessage,
+            @Param("processedAt") LocalDateTime processedAt
+    );
+
+    /**
+     * 처리 중인 이벤트의 선점 만료 시각을 늘린다. 이미 다른 작업자에게 넘어간 행은 건드리지 않는다
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE e.id IN :ids AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int renewLeases(
+            @Param("ids") Collection<Long> ids,
+            @Param("workerId") String workerId,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
+
+    /**
+     * 오래된 완료/실패 이벤트 정리용. 페이로드를 읽지 않도록 ID 만 조회한다
+     */
+    @Query("SELECT e.id FROM OutboxEvent e " +
+            "WHERE e.status IN ('COMPLETED', 'FAILED') " +
+            "AND e.processedAt < :cutoffDate")
+    List<Long> findOldProcessedEventIds(@Param("cutoffDate") LocalDateTime cutoffDate, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,346 @@
+package com.tilguys.matilda.common.outbox.service;
+
+import com.tilguys.matilda.common.dlq.service.DLQService;
+import com.tilguys.matilda.common.outbox.OutboxEventHandler;
+import com.tilguys.matilda.common.outbox.OutboxPayloadCodec;
+import com.tilguys.matilda.common.outbox.config.OutboxConfiguration;
+import com.tilguys.matilda.common.outbox.domain.OutboxEvent;
+import com.tilguys.matilda.common.outbox.domain.OutboxStatus;
+import com.tilguys.matilda.common.outbox.repository.OutboxEventRepository;
+import com.tilguys.matilda.common.retry.RetryDecision;
+import com.tilguys.matilda.common.retry.RetryPolicyRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 범용 Outbox 디스패처. 유형별로 SKIP LOCKED 선점과 임대(lease)로 이벤트를 가져와 핸들러에 넘기고,
+ * 실패하면 유형별 재시도 정책에 따라 다시 스케줄링하거나 DLQ 로 넘긴다.
+ * 유형마다 세마포어로 동시 처리 수를 따로 제한해 느린 외부 연동이 다른 유형을 막지 않게 한다.
+ * 처리 중인 이벤트의 선점은 주기적으로 연장하므로 lease 는 외부 호출 시간과 무관하게 노드 장애 감지 시간으로 잡으면 된다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String LEASE_EXPIRED_MESSAGE = "처리 중 선점 만료";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPayloadCodec payloadCodec;
+    private final OutboxConfiguration configuration;
+    private final RetryPolicyRegistry retryPolicies;
+    private final DLQService dlqService;
+    private final MeterRegistry meterRegistry;
+    private final Executor outboxTaskExecutor;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Map<String, OutboxEventHandler<?>> handlers = new HashMap<>();
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final String workerId;
+    private final Duration lease;
+    private final Set<Long> heldLeases = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("OutboxLeaseRenewer").daemon().factory()
+    );
+
+    public OutboxDispatcher(
+            List<OutboxEventHandler<?>> handlers,
+            OutboxEventRepository outboxEventRepository,
+            OutboxPayloadCodec payloadCodec,
+            OutboxConfiguration configuration,
+            RetryPolicyRegistry retryPolicies,
+            DLQService dlqService,
+            MeterRegistry meterRegistry,
+            @Qualifier("outboxTaskExecutor") Executor outboxTaskExecutor,
+            PlatformTransactionManager transactionManager
+    ) {
+        for (OutboxEventHandler<?> handler : handlers) {
+            OutboxEventHandler<?> previous = this.handlers.put(handler.eventType(), handler);
+            if (previous != null) {
+                throw new IllegalStateException("Outbox 이벤트 유형의 핸들러가 중복됩니다: " + handler.eventType());
+            }
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.payloadCodec = payloadCodec;
+        this.configuration = configuration;
+        this.retryPolicies = retryPolicies;
+        this.dlqService = dlqService;
+        this.meterRegistry = meterRegistry;
+        this.outboxTaskExecutor = outboxTaskExecutor;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.workerId = createWorkerId();
+        this.lease = Duration.ofSeconds(configuration.getLeaseSeconds());
+        long renewIntervalMillis = Math.max(1000, lease.toMillis() / 3);
+        leaseRenewer.scheduleWithFixedDelay(
+                this::renewLeases, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * 선점해 둔 이벤트(유형별 허가를 기다리는 것 포함)의 선점을 lease 의 1/3 주기로 연장해,
+     * 핸들러의 외부 호출이 길어져도 처리 중에 다른 작업자가 가져가 중복 처리하지 않게 한다.
+     */
+    private void renewLeases() {
+        if (heldLeases.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> ids = List.copyOf(heldLeases);
+            requiresNewTransaction.executeWithoutResult(status ->
+                    outboxEventRepository.renewLeases(ids, workerId, LocalDateTime.now().plus(lease))
+            );
+        } catch (Exception e) {
+            log.warn("Outbox 선점 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String createWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 재시도 시각이 된 이벤트와 선점이 만료된 이벤트를 주기적으로 처리
+     */
+    @Scheduled(fixedDelayString = "${matilda.outbox.poll-millis:30000}")
+    public void dispatchAll() {
+        for (String eventType : handlers.keySet()) {
+            try {
+                dispatch(eventType);
+            } catch (Exception e) {
+                log.error("Outbox 처리 실패: type={}, {}", eventType, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한 유형의 처리할 이벤트가 없을 때까지 claimSize 건씩 선점해 처리
+     */
+    public void dispatch(String eventType) {
+        OutboxEventHandler<?> handler = handlers.get(eventType);
+        if (handler == null) {
+            log.warn("Outbox 이벤트 유형 {} 의 핸들러가 없어 처리하지 않습니다", eventType);
+            return;
+        }
+
+        Claimed claimed;
+        do {
+            claimed = claim(eventType);
+            if (!claimed.events().isEmpty()) {
+                List<Long> claimedIds = claimed.events().stream().map(OutboxEvent::getId).toList();
+                heldLeases.addAll(claimedIds);
+                try {
+                    runOnWorkers(planTasks(handler, claimed.events()));
+                } finally {
+                    claimedIds.forEach(heldLeases::remove);
+                }
+            }
+        } while (claimed.found() == configuration.getClaimSize());
+    }
+
+    /**
+     * 선점이 만료된 이벤트는 앞선 시도가 결과를 남기지 못하고 끝난 것이므로 실패한 시도로 센다.
+     * 처리 중 작업자를 죽이는 페이로드가 끝없이 다시 선점되지 않도록 시도 한도에 닿으면 DLQ 로 넘긴다.
+     * 조회한 수가 claimSize 와 같아야 다음 묶음을 이어서 가져오므로 반환 수와 별개로 조회한 수를 돌려준다.
+     */
+    private Claimed claim(String eventType) {
+        return requiresNewTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findClaimableEvents(
+                    eventType, now, PageRequest.of(0, configuration.getClaimSize())
+            );
+            int maxAttempts = retryPolicies.policyOf(eventType).getMaxAttempts();
+            List<OutboxEvent> claimed = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                if (event.getStatus() == OutboxStatus.PROCESSING) {
+                    event.markAsFailed(LEASE_EXPIRED_MESSAGE);
+                    if (event.getRetryCount() >= maxAttempts) {
+                        abandon(event);
+                        continue;
+                    }
+                }
+                event.claim(workerId, now.plus(lease));
+                claimed.add(event);
+            }
+            return new Claimed(claimed, events.size());
+        });
+    }
+
+    private void abandon(OutboxEvent event) {
+        String eventType = event.getEventType();
+        dlqService.sendToDLQ(eventType, event.getId(), event.getPayload(), LEASE_EXPIRED_MESSAGE, null);
+        log.warn("Outbox 이벤트 재시도 포기: type={}, id={}, retry={} (처리 중 선점 만료 반복)",
+                eventType, event.getId(), event.getRetryCount());
+        Counter.builder("outbox.events.processed")
+                .tag("type", eventType)
+                .tag("outcome", "dlq")
+                .register(meterRegistry)
+                .increment();
+        retryPolicies.recordFinished(eventType, "dlq", event.getRetryCount());
+    }
+
+    private List<Runnable> planTasks(OutboxEventHandler<?> handler, List<OutboxEvent> events) {
+        if (handler.batchable() && events.size() > 1) {
+            return List.of(() -> withPermit(handler.eventType(), () -> processBatch(handler, events)));
+        }
+        List<Runnable> tasks = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            tasks.add(() -> withPermit(handler.eventType(), () -> process(handler, event)));
+        }
+        return tasks;
+    }
+
+    private void runOnWorkers(List<Runnable> tasks) {
+        CompletableFuture.allOf(tasks.stream()
+                        .map(task -> CompletableFuture.runAsync(task, outboxTaskExecutor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void withPermit(String eventType, Runnable task) {
+        Semaphore semaphore = permits.computeIfAbsent(
+                eventType, type -> new Semaphore(configuration.concurrencyOf(type))
+        );
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("Outbox 처리 실패: type={}, {}", eventType, e.getMessage(), e);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private void processBatch(OutboxEventHandler<?> handler, List<OutboxEvent> events) {
+        try {
+            handleBatch(handler, events);
+        } catch (Exception e) {
+            log.warn("Outbox 묶음 처리 실패, 건별로 다시 처리합니다: type={}, {}건, {}",
+                    handler.eventType(), events.size(), e.getMessage());
+            events.forEach(event -> process(handler, event));
+            return;
+        }
+        events.forEach(event -> record(event, null));
+    }
+
+    private void process(OutboxEventHandler<?> handler, OutboxEvent event) {
+        Exception failure = null;
+        try {
+            handle(handler, event);
+        } catch (Exception e) {
+            failure = e;
+        }
+        record(event, failure);
+    }
+
+    private <T> void handle(OutboxEventHandler<T> handler, OutboxEvent event) throws Exception {
+        handler.handle(payloadCodec.decode(event.getPayload(), handler.payloadType()));
+    }
+
+    private <T> void handleBatch(OutboxEventHandler<T> handler, List<OutboxEvent> events) throws Exception {
+        List<T> payloads = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            payloads.add(payloadCodec.decode(event.getPayload(), handler.payloadType()));
+        }
+        handler.handleBatch(payloads);
+    }
+
+    /**
+     * 결과는 이 작업자가 아직 선점하고 있을 때만 조건부 UPDATE 로 기록한다.
+     * 처리 중 선점이 만료돼 다른 작업자가 가져갔으면 기록하지 않는다.
+     */
+    private void record(OutboxEvent event, Exception failure) {
+        String eventType = event.getEventType();
+        String outcome = requiresNewTransaction.execute(status -> {
+            if (failure == null) {
+                if (outboxEventRepository.completeIfClaimedBy(event.getId(), workerId, LocalDateTime.now()) != 1) {
+                    return "lease_lost";
+                }
+                event.markAsCompleted();
+                return "completed";
+            }
+
+            event.markAsFailed(failure.getMessage());
+            RetryDecision decision = retryPolicies.decide(
+                    eventType, event.getRetryCount(), event.getCreatedAt(), failure
+            );
+            if (decision.shouldRetry()) {
+                if (outboxEventRepository.rescheduleIfClaimedBy(event.getId(), workerId, event.getRetryCount(),
+                        event.getErrorMessage(), decision.nextAttemptAt()) != 1) {
+                    return "lease_lost";
+                }
+                event.reschedule(decision.nextAttemptAt());
+                return "rescheduled";
+            }
+            if (outboxEventRepository.failIfClaimedBy(event.getId(), workerId, event.getRetryCount(),
+                    event.getErrorMessage(), event.getProcessedAt()) != 1) {
+                return "lease_lost";
+            }
+            dlqService.sendToDLQ(eventType, event.getId(), event.getPayload(), failure.getMessage(), stackTraceOf(failure));
+            log.warn("Outbox 이벤트 재시도 포기: type={}, id={}, retry={} ({})",
+                    eventType, event.getId(), event.getRetryCount(), decision.verdict());
+            return "dlq";
+        });
+
+        Counter.builder("outbox.events.processed")
+                .tag("type", eventType)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        if ("completed".equals(outcome) || "dlq".equals(outcome)) {
+            retryPolicies.recordFinished(eventType, outcome, event.getRetryCount());
+        }
+    }
+
+    private record Claimed(List<OutboxEvent> events, int found) {
+    }
+
+    private String stackTraceOf(Exception exception) {
+        StringWriter sw = new StringWriter();
+        exception.printStackTrace(new PrintWriter(sw));
+        return sw.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.tilguys.matilda.common.outbox.service;
+
+import com.tilguys.matilda.common.outbox.OutboxPayloadCodec;
+import com.tilguys.matilda.common.outbox.config.OutboxConfiguration;
+import com.tilguys.matilda.common.outbox.domain.OutboxEvent;
+import com.tilguys.matilda.common.outbox.event.OutboxEventRecordedEvent;
+import com.tilguys.matilda.common.outbox.repository.OutboxEventRepository;
+import com.tilguys.matilda.common.retention.ChunkedRetentionCleaner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 부수 효과를 Outbox 에 기록. 호출한 쪽의 트랜잭션에 함께 커밋되고, 트랜잭션이 없으면 단독으로 저장한다.
+ */
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPayloadCodec payloadCodec;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxConfiguration configuration;
+    private final ChunkedRetentionCleaner retentionCleaner;
+
+    public OutboxService(
+            OutboxEventRepository outboxEventRepository,
+            OutboxPayloadCodec payloadCodec,
+            ApplicationEventPublisher eventPublisher,
+            OutboxConfiguration configuration,
+            ChunkedRetentionCleaner retentionCleaner
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.payloadCodec = payloadCodec;
+        this.eventPublisher = eventPublisher;
+        this.configuration = configuration;
+        this.retentionCleaner = retentionCleaner;
+    }
+
+    @Transactional
+    public void publish(String eventType, Long aggregateId, Object payload) {
+        outboxEventRepository.save(
+                OutboxEvent.pending(eventType, aggregateId, payloadCodec.encode(payload), LocalDateTime.now())
+        );
+        eventPublisher.publishEvent(new OutboxEventRecordedEvent(eventType));
+    }
+
+    /**
+     * 보관 기간이 지난 완료/실패 이벤트를 청크 단위로 정리
+     */
+    @Scheduled(cron = "0 30 2 * * ?") // 매일 새벽 2시 30분
+    public void cleanupOldEvents() {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(configuration.getRetentionDays());
+        retentionCleaner.purge("outbox_events", chunkSize -> {
+            List<Long> ids = outboxEventRepository.findOldProcessedEventIds(cutoffDate, PageRequest.of(0, chunkSize));
+            return ids.isEmpty() ? 0 : outboxEventRepository.deleteAllByIds(ids);
+        });
+    }
+}
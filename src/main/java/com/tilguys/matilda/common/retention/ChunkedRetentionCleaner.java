@@ -0,0 +1,88 @@
+package com.tilguys.matilda.common.retention;
+
+import com.tilguys.matilda.common.retention.config.RetentionConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 보관 기간이 지난 행을 청크 단위로 지운다. 청크마다 별도 트랜잭션이라 잠금과 undo 로그가 청크 크기로 제한되고,
+ * 청크 사이에 쉬어 야간 정리가 다른 쓰기와 복제 지연을 밀어내지 않게 한다.
+ * 삭제 건수와 소요 시간은 retention.deleted.rows, retention.duration 으로 노출한다.
+ */
+@Slf4j
+@Component
+public class ChunkedRetentionCleaner {
+
+    private final RetentionConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate chunkTransaction;
+
+    public ChunkedRetentionCleaner(
+            RetentionConfiguration configuration,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @param table       메트릭 태그로 쓸 테이블 이름
+     * @param deleteChunk 최대 n 건을 지우고 지운 건수를 돌려주는 삭제 쿼리
+     * @return 이번 실행에서 지운 전체 건수
+     */
+    public long purge(String table, IntUnaryOperator deleteChunk) {
+        int chunkSize = Math.max(1, configuration.getChunkSize());
+        Counter deletedRows = Counter.builder("retention.deleted.rows")
+                .tag("table", table)
+                .register(meterRegistry);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        long total = 0;
+        int chunks = 0;
+        try {
+            while (chunks < configuration.getMaxChunksPerRun()) {
+                Integer deleted = chunkTransaction.execute(status -> deleteChunk.applyAsInt(chunkSize));
+                int count = deleted == null ? 0 : deleted;
+                chunks++;
+                total += count;
+                deletedRows.increment(count);
+                if (count < chunkSize || !pause()) {
+                    break;
+                }
+            }
+        } finally {
+            sample.stop(Timer.builder("retention.duration")
+                    .tag("table", table)
+                    .register(meterRegistry));
+        }
+
+        if (total > 0) {
+            log.info("{} 보관 기간 지난 행 {}건 삭제 ({}개 청크)", table, total, chunks);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (configuration.getPauseMillis() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(configuration.getPauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
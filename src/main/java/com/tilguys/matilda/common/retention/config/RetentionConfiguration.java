@@ -0,0 +1,40 @@
+package com.tilguys.matilda.common.retention.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 보관 기간이 지난 행 삭제 설정. chunkSize 건씩 짧은 트랜잭션으로 지우고 청크 사이에 pauseMillis 만큼 쉰다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.retention")
+public class RetentionConfiguration {
+
+    private int chunkSize = 500;
+    private long pauseMillis = 100;
+    private int maxChunksPerRun = 2000;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getPauseMillis() {
+        return pauseMillis;
+    }
+
+    public void setPauseMillis(long pauseMillis) {
+        this.pauseMillis = pauseMillis;
+    }
+
+    public int getMaxChunksPerRun() {
+        return maxChunksPerRun;
+    }
+
+    public void setMaxChunksPerRun(int maxChunksPerRun) {
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tilguys.matilda.common.retry;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실패한 시도 뒤의 판정. RETRY 일 때만 nextAttemptAt 이 있다.
+ */
+public record RetryDecision(Verdict verdict, LocalDateTime nextAttemptAt) {
+
+    public enum Verdict {
+        RETRY,
+        FATAL,
+        EXHAUSTED,
+        EXPIRED
+    }
+
+    public static RetryDecision retryAt(LocalDateTime nextAttemptAt) {
+        return new RetryDecision(Verdict.RETRY, nextAttemptAt);
+    }
+
+    public static RetryDecision giveUp(Verdict verdict) {
+        return new RetryDecision(verdict, null);
+    }
+
+    public boolean shouldRetry() {
+        return verdict == Verdict.RETRY;
+    }
+}
@@ -0,0 +1,93 @@
+package com.tilguys.matilda.common.retry;
+
+import com.tilguys.matilda.common.retry.config.RetryPolicyConfiguration;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지수 백오프 + full jitter 재시도 정책. n 번째 실패 뒤 대기 시간은 [0, min(maxDelay, baseDelay * 2^(n-1))) 에서 고르게 뽑아
+ * 같은 장애로 실패한 이벤트들이 한꺼번에 다시 몰리지 않게 한다.
+ * 원인 체인에 치명적 예외가 있거나, 시도 횟수·최초 시도 후 경과 시간이 한도를 넘으면 포기한다.
+ * 시각과 난수는 호출 측에서 넘겨받아 테스트에서 조작할 수 있게 한다.
+ */
+@Slf4j
+public class RetryPolicy {
+
+    private static final int MAX_SHIFT = 30;
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxAge;
+    private final List<Class<?>> fatalTypes;
+
+    public RetryPolicy(RetryPolicyConfiguration.Policy policy) {
+        this.maxAttempts = policy.getMaxAttempts();
+        this.baseDelay = Duration.ofSeconds(policy.getBaseDelaySeconds());
+        this.maxDelay = Duration.ofSeconds(policy.getMaxDelaySeconds());
+        this.maxAge = Duration.ofMinutes(policy.getMaxAgeMinutes());
+        this.fatalTypes = loadTypes(policy.getFatalExceptions());
+    }
+
+    private static List<Class<?>> loadTypes(List<String> classNames) {
+        List<Class<?>> types = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                types.add(Class.forName(className));
+            } catch (ClassNotFoundException e) {
+                log.warn("치명적 예외로 등록된 클래스를 찾을 수 없어 무시합니다: {}", className);
+            }
+        }
+        return List.copyOf(types);
+    }
+
+    /**
+     * @param attempts       지금 실패한 시도를 포함한 누적 시도 횟수
+     * @param firstAttemptAt 최초 시도 시각. 모르면 null 이고 경과 시간 한도를 보지 않는다.
+     * @param random         [0, 1) 난수
+     */
+    public RetryDecision decide(
+            int attempts,
+            LocalDateTime firstAttemptAt,
+            Throwable failure,
+            LocalDateTime now,
+            double random
+    ) {
+        if (isFatal(failure)) {
+            return RetryDecision.giveUp(RetryDecision.Verdict.FATAL);
+        }
+        if (attempts >= maxAttempts) {
+            return RetryDecision.giveUp(RetryDecision.Verdict.EXHAUSTED);
+        }
+        LocalDateTime nextAttemptAt = now.plus(backoff(attempts, random));
+        if (firstAttemptAt != null && nextAttemptAt.isAfter(firstAttemptAt.plus(maxAge))) {
+            return RetryDecision.giveUp(RetryDecision.Verdict.EXPIRED);
+        }
+        return RetryDecision.retryAt(nextAttemptAt);
+    }
+
+    public Duration backoff(int attempts, double random) {
+        int shift = Math.min(Math.max(attempts - 1, 0), MAX_SHIFT);
+        long ceilingMillis = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << shift);
+        return Duration.ofMillis((long) (ceilingMillis * random));
+    }
+
+    public boolean isFatal(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            for (Class<?> fatalType : fatalTypes) {
+                if (fatalType.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
@@ -0,0 +1,60 @@
+package com.tilguys.matilda.common.retry;
+
+import com.tilguys.matilda.common.retry.config.RetryPolicyConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 이벤트 유형별 재시도 정책 보관소. 판정 결과는 retry.decisions 카운터로,
+ * 처리가 끝난 이벤트의 재시도 횟수는 retry.attempts 히스토그램으로 노출한다.
+ */
+@Component
+public class RetryPolicyRegistry {
+
+    private static final double[] ATTEMPT_BUCKETS = {1, 2, 3, 4, 6, 8, 12, 16};
+
+    private final RetryPolicyConfiguration configuration;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RetryPolicy> policies = new ConcurrentHashMap<>();
+
+    public RetryPolicyRegistry(RetryPolicyConfiguration configuration, MeterRegistry meterRegistry) {
+        this.configuration = configuration;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RetryDecision decide(String eventType, int attempts, LocalDateTime firstAttemptAt, Throwable failure) {
+        RetryDecision decision = policyOf(eventType).decide(
+                attempts, firstAttemptAt, failure, LocalDateTime.now(), ThreadLocalRandom.current().nextDouble()
+        );
+        Counter.builder("retry.decisions")
+                .tag("type", eventType)
+                .tag("verdict", decision.verdict().name())
+                .register(meterRegistry)
+                .increment();
+        return decision;
+    }
+
+    /**
+     * 더 이상 재시도하지 않는 이벤트의 최종 재시도 횟수를 기록한다.
+     */
+    public void recordFinished(String eventType, String outcome, int retryCount) {
+        DistributionSummary.builder("retry.attempts")
+                .description("처리가 끝난 이벤트의 재시도 횟수")
+                .tag("type", eventType)
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(ATTEMPT_BUCKETS)
+                .register(meterRegistry)
+                .record(retryCount);
+    }
+
+    public RetryPolicy policyOf(String eventType) {
+        return policies.computeIfAbsent(eventType, type -> new RetryPolicy(configuration.policyOf(type)));
+    }
+}
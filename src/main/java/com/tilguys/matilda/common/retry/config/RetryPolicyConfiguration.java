@@ -0,0 +1,89 @@
+package com.tilguys.matilda.common.retry.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 유형별 재시도 정책. policies 에 유형 이름(DLQ 이벤트 유형과 같은 값)으로 등록하지 않은 유형은 defaults 를 쓴다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.retry")
+public class RetryPolicyConfiguration {
+
+    private Policy defaults = new Policy();
+    private Map<String, Policy> policies = new HashMap<>();
+
+    public Policy policyOf(String eventType) {
+        return policies.getOrDefault(eventType, defaults);
+    }
+
+    public Policy getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Policy defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Policy> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(Map<String, Policy> policies) {
+        this.policies = policies;
+    }
+
+    public static class Policy {
+
+        private int maxAttempts = 8;
+        private long baseDelaySeconds = 60;
+        private long maxDelaySeconds = 3600;
+        private long maxAgeMinutes = 1440;
+        private List<String> fatalExceptions = new ArrayList<>(List.of(IllegalArgumentException.class.getName()));
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getBaseDelaySeconds() {
+            return baseDelaySeconds;
+        }
+
+        public void setBaseDelaySeconds(long baseDelaySeconds) {
+            this.baseDelaySeconds = baseDelaySeconds;
+        }
+
+        public long getMaxDelaySeconds() {
+            return maxDelaySeconds;
+        }
+
+        public void setMaxDelaySeconds(long maxDelaySeconds) {
+            this.maxDelaySeconds = maxDelaySeconds;
+        }
+
+        public long getMaxAgeMinutes() {
+            return maxAgeMinutes;
+        }
+
+        public void setMaxAgeMinutes(long maxAgeMinutes) {
+            this.maxAgeMinutes = maxAgeMinutes;
+        }
+
+        public List<String> getFatalExceptions() {
+            return fatalExceptions;
+        }
+
+        public void setFatalExceptions(List<String> fatalExceptions) {
+            this.fatalExceptions = fatalExceptions;
+        }
+    }
+}
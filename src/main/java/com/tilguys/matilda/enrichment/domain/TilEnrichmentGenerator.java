@@ -0,0 +1,62 @@
+package com.tilguys.matilda.enrichment.domain;
+
+import com.tilguys.matilda.common.external.prompt.PromptTemplate;
+import com.tilguys.matilda.reference.domain.TilReferenceGenerator;
+import com.tilguys.matilda.tag.domain.TilTagGenerator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그/서브태그/레퍼런스를 한 번의 AI 호출로 추출하는 프롬프트와 함수 스키마.
+ * 스키마는 태그·레퍼런스 생성기의 프로퍼티를 그대로 합치므로 기존 파서로 각각 파싱할 수 있다.
+ */
+public class TilEnrichmentGenerator {
+
+    private static final String DESCRIPTION = "description";
+    private static final String SYSTEM_PROMPT = "당신은 TIL 내용을 분석하여 태그와 서브태그를 만들고, 핵심 기술 용어의 설명을 제공하는 전문가입니다.";
+    private static final String ENRICHMENT_PROMPT = """
+            아래 TIL 내용을 기반으로 AI는 아래의 작업을 모두 수행해야 합니다:
+            A. 아래 '핵심 태그 후보들' 중에서 TIL과 연관성이 높은 핵심 태그를 최대 5개 추출해 주세요. **연관성 없는 태그는 제외**하며, 반드시 아래 목록에서만 선택해 주세요.
+            핵심 태그 후보:
+            %s
+            B. 위에서 추출한 각 핵심 태그에 대해 TIL과 관련된 서브 태그를 최대 5개씩 생성해 주세요. **실제 TIL 내용과 연관성이 있어야 하며, 의미 없는 일반 키워드는 제외**합니다.
+            C. A와 B에서 절대로 연관성,의미없는 태그를 생성하지마십시오.
+            D. 독자가 이해하기 어려울 수 있는 핵심 기술 용어나 개념(CS 전문 용어, 라이브러리명, 프레임워크, 알고리즘 등)을 최대 5개 선별하고, 각 용어에 대한 간단한 설명을 반드시 한국어로 작성해 주세요. CS 분야와 관련 없는 내용은 절대 추출하지 않습니다.""";
+
+    private static final PromptTemplate TEMPLATE = new PromptTemplate(
+            SYSTEM_PROMPT,
+            ENRICHMENT_PROMPT.formatted(TilTagGenerator.CORE_TAG_CANDIDATES),
+            functionDefinition()
+    );
+
+    public PromptTemplate promptTemplate() {
+        return TEMPLATE;
+    }
+
+    public List<Map<String, Object>> createPrompt(String tilContent) {
+        return TEMPLATE.messages(tilContent);
+    }
+
+    public Map<String, Object> createFunctionDefinition() {
+        return TEMPLATE.getFunctionDefinition();
+    }
+
+    private static Map<String, Object> functionDefinition() {
+        Map<String, Object> properties = new HashMap<>(new TilTagGenerator().createProperties());
+        properties.putAll(new TilReferenceGenerator().createProperties());
+
+        Map<String, Object> parameters = Map.of(
+                "type", "object",
+                "properties", properties,
+                "required", List.of("tags", "subTags", "references")
+        );
+
+        return Map.of(
+                "name", "extractTilEnrichment",
+                DESCRIPTION, "TIL 내용에서 핵심,서브태그와 핵심 기술 용어의 참조 정보를 함께 추출합니다.",
+                "parameters", parameters
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.tilguys.matilda.enrichment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.FailoverAIServiceManager;
+import com.tilguys.matilda.common.external.cache.AIPromptVersion;
+import com.tilguys.matilda.common.external.cache.AIResultCache;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments;
+import com.tilguys.matilda.enrichment.domain.TilEnrichmentGenerator;
+import com.tilguys.matilda.reference.domain.TilReferenceParser;
+import com.tilguys.matilda.reference.event.ReferenceCreateEvent;
+import com.tilguys.matilda.reference.service.ReferenceService;
+import com.tilguys.matilda.tag.domain.TagGenerationClaimResult;
+import com.tilguys.matilda.tag.domain.TilTagParser;
+import com.tilguys.matilda.tag.service.TilTagService;
+import com.tilguys.matilda.til.event.TilCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * TIL 한 건당 AI 를 한 번만 호출해 태그와 레퍼런스를 함께 만든다.
+ * 한쪽 저장이 실패하면 그 부분만 기존 단독 경로(태그: Outbox 재시도, 레퍼런스: ReferenceCreateEvent)로 다시 생성한다.
+ */
+@Slf4j
+@Service
+public class TilEnrichmentService {
+
+    private static final String AI_CACHE_NAMESPACE = "enrichment";
+
+    private final FailoverAIServiceManager failoverAIServiceManager;
+    private final TilEnrichmentGenerator enrichmentGenerator;
+    private final TilTagService tilTagService;
+    private final ReferenceService referenceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AIResultCache aiResultCache;
+    private final TilTagParser tagParser;
+    private final TilReferenceParser referenceParser;
+    private final String promptVersion;
+
+    public TilEnrichmentService(
+            FailoverAIServiceManager failoverAIServiceManager,
+            TilTagService tilTagService,
+            ReferenceService referenceService,
+            ApplicationEventPublisher eventPublisher,
+            AIResultCache aiResultCache,
+            ObjectMapper objectMapper
+    ) {
+        this.failoverAIServiceManager = failoverAIServiceManager;
+        this.enrichmentGenerator = new TilEnrichmentGenerator();
+        this.tilTagService = tilTagService;
+        this.referenceService = referenceService;
+        this.eventPublisher = eventPublisher;
+        this.aiResultCache = aiResultCache;
+        this.tagParser = new TilTagParser(objectMapper);
+        this.referenceParser = new TilReferenceParser(objectMapper);
+        this.promptVersion = AIPromptVersion.of(
+                enrichmentGenerator.createPrompt(""),
+                enrichmentGenerator.createFunctionDefinition()
+        );
+    }
+
+    public String requestEnrichmentResponseJson(String tilContent) {
+        return aiResultCache.getOrCall(
+                AI_CACHE_NAMESPACE,
+                promptVersion,
+                tilContent,
+                () -> failoverAIServiceManager.callAI(
+                        enrichmentGenerator.promptTemplate().with(tilContent),
+                        this::isParsableEnrichmentResponse
+                ),
+                this::isParsableEnrichmentResponse
+        );
+    }
+
+    private boolean isParsableEnrichmentResponse(String responseJson) {
+        try {
+            ToolCallArguments arguments = tagParser.decode(responseJson);
+            tagParser.extractTags(arguments);
+            referenceParser.extractReferences(arguments);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 태그 생성 실패는 호출자에게 던져 Outbox 로 넘기고, 레퍼런스 실패는 레퍼런스만 재생성한다.
+     * 같은 내용으로 이미 태그가 만들어졌으면 AI 를 부르지 않는다.
+     */
+    public void enrich(TilCreatedEvent tilCreatedEvent) {
+        TagGenerationClaimResult claim =
+                tilTagService.claimTagGeneration(tilCreatedEvent.getTilId(), tilCreatedEvent.getTilContent());
+        if (claim == TagGenerationClaimResult.DUPLICATE) {
+            return;
+        }
+        if (claim == TagGenerationClaimResult.IN_PROGRESS) {
+            throw new IllegalStateException("다른 작업자가 태그를 생성 중입니다: tilId=" + tilCreatedEvent.getTilId());
+        }
+
+        String responseJson;
+        try {
+            responseJson = requestEnrichmentResponseJson(tilCreatedEvent.getTilContent());
+        } catch (Exception e) {
+            tilTagService.releaseTagGeneration(tilCreatedEvent.getTilId());
+            regenerateReferences(tilCreatedEvent);
+            throw e;
+        }
+
+        try {
+            referenceService.createReferencesFromResponse(tilCreatedEvent.getTilId(), responseJson);
+        } catch (Exception e) {
+            log.warn("통합 응답으로 레퍼런스 저장 실패: tilId={}, {}", tilCreatedEvent.getTilId(), e.getMessage());
+            regenerateReferences(tilCreatedEvent);
+        }
+
+        try {
+            tilTagService.createTagsFromResponse(
+                    tilCreatedEvent.getTilId(),
+                    tilCreatedEvent.getTilContent(),
+                    responseJson
+            );
+        } catch (Exception e) {
+            tilTagService.releaseTagGeneration(tilCreatedEvent.getTilId());
+            throw e;
+        }
+    }
+
+    private void regenerateReferences(TilCreatedEvent tilCreatedEvent) {
+        eventPublisher.publishEvent(
+                new ReferenceCreateEvent(tilCreatedEvent.getTilId(), tilCreatedEvent.getTilContent())
+        );
+    }
+}
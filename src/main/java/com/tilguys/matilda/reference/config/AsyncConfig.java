@@ -1,8 +1,11 @@
 package com.tilguys.matilda.reference.config;
 
+import com.tilguys.matilda.common.external.config.AIConcurrencyConfiguration;
+import com.tilguys.matilda.tag.config.TagOutboxConfiguration;
 import java.util.concurrent.Executor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -12,23 +15,90 @@ public class AsyncConfig {
 
     @Bean(name = "tilReferenceTaskExecutor")
     public Executor tilReferenceTaskExecutor() {
+        return virtualThreadExecutor("TilReference-");
+    }
+
+    @Bean(name = "tilTagTaskExecutor")
+    public Executor tilTagTaskExecutor() {
+        return virtualThreadExecutor("TilTag-");
+    }
+
+    /**
+     * 커밋된 태그 생성 Outbox 이벤트를 바로 처리하는 리스너용. tilTagTaskExecutor 작업이 커밋하면서
+     * 이 실행기에 제출하므로 같은 실행기를 쓰거나 동시 실행 수를 제한하면 서로를 기다리며 멈출 수 있다.
+     */
+    @Bean(name = "tagOutboxEventTaskExecutor")
+    public Executor tagOutboxEventTaskExecutor() {
+        return virtualThreadExecutor("TagOutboxEvent-");
+    }
+
+    @Bean(name = "tagIndexTaskExecutor")
+    public Executor tagIndexTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(1);
-        executor.setMaxPoolSize(4);
+        executor.setMaxPoolSize(1);
         executor.setQueueCapacity(16);
-        executor.setThreadNamePrefix("TilReference-");
+        executor.setThreadNamePrefix("TagIndex-");
         executor.initialize();
         return executor;
     }
 
-    @Bean(name = "tilTagTaskExecutor")
-    public Executor tilTagTaskExecutor() {
+    /**
+     * 태그 생성 Outbox 작업자. 설정한 작업자 수와 AI 제공자 최대 동시 호출 수 중 작은 값까지만 동시에 실행하고,
+     * 자리가 없으면 제출하는 쪽이 기다리므로 먼저 제출한 우선순위 높은 차선이 먼저 자리를 얻는다.
+     */
+    @Bean(name = "tagOutboxTaskExecutor")
+    public SimpleAsyncTaskExecutor tagOutboxTaskExecutor(
+            TagOutboxConfiguration outboxConfiguration,
+            AIConcurrencyConfiguration concurrencyConfiguration
+    ) {
+        SimpleAsyncTaskExecutor executor = virtualThreadExecutor("TagOutbox-");
+        executor.setConcurrencyLimit(Math.max(1, Math.min(
+                outboxConfiguration.getWorkers(),
+                concurrencyConfiguration.maxConcurrentCalls()
+        )));
+        return executor;
+    }
+
+    /**
+     * 범용 Outbox 핸들러 실행용. 유형별 동시 처리 수는 OutboxDispatcher 가 제한한다.
+     */
+    @Bean(name = "outboxTaskExecutor")
+    public SimpleAsyncTaskExecutor outboxTaskExecutor() {
+        return virtualThreadExecutor("Outbox-");
+    }
+
+    /**
+     * 커밋 직후 범용 Outbox 유형을 바로 처리하는 리스너용. OutboxDispatchListener 가 유형마다 처리를 하나로 합치므로
+     * 스레드는 유형 수 정도면 되고, 큐도 유형 수를 넘지 않는다.
+     */
+    @Bean(name = "outboxDispatchTaskExecutor")
+    public Executor outboxDispatchTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);
+        executor.setCorePoolSize(4);
         executor.setMaxPoolSize(4);
         executor.setQueueCapacity(16);
-        executor.setThreadNamePrefix("TilTag-");
+        executor.setThreadNamePrefix("OutboxDispatch-");
         executor.initialize();
         return executor;
     }
+
+    /**
+     * AI 호출 및 헤지 요청용. 제공자별 동시 호출 수는 AIConcurrencyLimiter 가 적응형으로 제한한다.
+     */
+    @Bean(name = "aiCallTaskExecutor")
+    public SimpleAsyncTaskExecutor aiCallTaskExecutor() {
+        return virtualThreadExecutor("AICall-");
+    }
+
+    /**
+     * AI 응답을 기다리는 작업은 가상 스레드에서 블로킹하도록 해 몰린 요청이 큐 거절 없이 대기하게 한다.
+     * 요청 스레드와 리스너가 제출하는 실행기라 동시 실행 수를 제한하지 않는다 (제한에 걸리면 제출한 쪽이 막힌다).
+     * AI 호출 수는 AIConcurrencyLimiter 가 제공자별로 제한한다.
+     */
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
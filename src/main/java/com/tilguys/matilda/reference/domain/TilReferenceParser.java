@@ -1,56 +1,49 @@
 package com.tilguys.matilda.reference.domain;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.ReferenceArgument;
+import com.tilguys.matilda.common.external.decode.ToolCallDecoder;
 import com.tilguys.matilda.common.external.exception.OpenAIException;
 import com.tilguys.matilda.til.domain.Reference;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public class TilReferenceParser {
 
-    private final ObjectMapper objectMapper;
+    private final ToolCallDecoder toolCallDecoder;
+
+    public TilReferenceParser(ObjectMapper objectMapper) {
+        this.toolCallDecoder = new ToolCallDecoder(objectMapper);
+    }
 
     public List<Reference> parseReferences(String responseJson) {
         if (responseJson == null || responseJson.trim().isEmpty()) {
             throw new OpenAIException("Response JSON is null or empty");
         }
         try {
-            JsonNode root = objectMapper.readTree(responseJson);
-
-            String arguments = root.path("choices").get(0)
-                    .path("message").path("tool_calls").get(0)
-                    .path("function").path("arguments").asText();
-
-            JsonNode argsNode = objectMapper.readTree(arguments);
-
-            JsonNode referencesNode = argsNode.get("references");
-
-            Set<Reference> referenceSet = new HashSet<>();
-
-            for (JsonNode referenceNode : referencesNode) {
-                String word = referenceNode.get("word").asText();
-                String referenceText = referenceNode.get("info").asText();
-
-                Reference reference = Reference.builder()
-                        .word(word.toLowerCase().trim())
-                        .info(referenceText.trim())
-                        .build();
-
-                referenceSet.add(reference);
-            }
-
-            return new ArrayList<>(referenceSet);
-
-        } catch (JsonProcessingException e) {
+            return extractReferences(toolCallDecoder.decode(responseJson));
+        } catch (IOException e) {
             throw new OpenAIException("Failed to process reference extraction response: " + e.getMessage());
-        } catch (Exception e) {
-            throw new OpenAIException("Unexpected error parsing response: " + e.getMessage());
         }
     }
+
+    public List<Reference> extractReferences(ToolCallArguments arguments) {
+        if (arguments.references() == null) {
+            throw new OpenAIException("Unexpected error parsing response: references not found");
+        }
+        Set<Reference> referenceSet = new HashSet<>();
+        for (ReferenceArgument referenceArgument : arguments.references()) {
+            Reference reference = Reference.builder()
+                    .word(referenceArgument.word().toLowerCase().trim())
+                    .info(referenceArgument.info().trim())
+                    .build();
+
+            referenceSet.add(reference);
+        }
+        return new ArrayList<>(referenceSet);
+    }
 }
@@ -0,0 +1,30 @@
+package com.tilguys.matilda.reference.event;
+
+import com.tilguys.matilda.common.outbox.OutboxEventHandler;
+import com.tilguys.matilda.reference.service.ReferenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReferenceCreateOutboxHandler implements OutboxEventHandler<ReferenceCreateEvent> {
+
+    public static final String EVENT_TYPE = "REFERENCE_CREATE";
+
+    private final ReferenceService referenceService;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<ReferenceCreateEvent> payloadType() {
+        return ReferenceCreateEvent.class;
+    }
+
+    @Override
+    public void handle(ReferenceCreateEvent payload) {
+        referenceService.createReference(payload);
+    }
+}
@@ -1,28 +1,26 @@
 package com.tilguys.matilda.reference.event;
 
-import com.tilguys.matilda.reference.service.ReferenceService;
+import com.tilguys.matilda.common.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 레퍼런스 생성 요청을 발행한 트랜잭션에 Outbox 로 함께 기록한다.
+ * 실제 생성은 ReferenceCreateOutboxHandler 가 커밋 뒤 처리하고, 실패하면 재시도 정책에 따라 다시 시도한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TilReferenceGeneratorListener {
 
-    private final ReferenceService referenceService;
+    private final OutboxService outboxService;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async("tilReferenceTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleTilReferenceCreateEvent(ReferenceCreateEvent event) {
-        try {
-            log.debug("TIL Reference 추출");
-            referenceService.createReference(event);
-        } catch (Exception e) {
-            log.error("TIL Reference 추출 실패: tilId={}, {}", event.tilId(), e.getMessage());
-        }
+        log.debug("TIL Reference 추출 요청 기록: tilId={}", event.tilId());
+        outboxService.publish(ReferenceCreateOutboxHandler.EVENT_TYPE, event.tilId(), event);
     }
 }
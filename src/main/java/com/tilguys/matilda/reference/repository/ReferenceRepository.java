@@ -3,10 +3,17 @@ package com.tilguys.matilda.reference.repository;
 import com.tilguys.matilda.til.domain.Reference;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ReferenceRepository extends JpaRepository<Reference, Long> {
 
     List<Reference> getAllByTil_TilId(Long tilId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Reference r WHERE r.til.tilId = :tilId")
+    int deleteAllByTilId(@Param("tilId") Long tilId);
 }
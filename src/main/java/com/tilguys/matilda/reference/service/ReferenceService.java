@@ -2,6 +2,8 @@ package com.tilguys.matilda.reference.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tilguys.matilda.common.external.FailoverAIServiceManager;
+import com.tilguys.matilda.common.external.cache.AIPromptVersion;
+import com.tilguys.matilda.common.external.cache.AIResultCache;
 import com.tilguys.matilda.reference.domain.TilReferenceGenerator;
 import com.tilguys.matilda.reference.domain.TilReferenceParser;
 import com.tilguys.matilda.reference.event.ReferenceCreateEvent;
@@ -11,30 +13,45 @@ import com.tilguys.matilda.til.domain.Til;
 import com.tilguys.matilda.til.dto.ReferencesResponse;
 import com.tilguys.matilda.til.repository.TilRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
 @Service
 public class ReferenceService {
 
+    private static final String AI_CACHE_NAMESPACE = "reference";
+
     private final FailoverAIServiceManager failoverAIServiceManager;
     private final TilReferenceGenerator tilReferenceGenerator;
     private final TilReferenceParser tilReferenceParser;
     private final ReferenceRepository referenceRepository;
     private final TilRepository tilRepository;
+    private final AIResultCache aiResultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final String promptVersion;
 
     public ReferenceService(
             FailoverAIServiceManager failoverAIServiceManager,
             ReferenceRepository referenceRepository,
             ObjectMapper objectMapper,
-            TilRepository tilRepository
+            TilRepository tilRepository,
+            AIResultCache aiResultCache,
+            PlatformTransactionManager transactionManager
     ) {
         this.failoverAIServiceManager = failoverAIServiceManager;
         this.tilReferenceGenerator = new TilReferenceGenerator();
         this.tilReferenceParser = new TilReferenceParser(objectMapper);
         this.referenceRepository = referenceRepository;
         this.tilRepository = tilRepository;
+        this.aiResultCache = aiResultCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.promptVersion = AIPromptVersion.of(
+                tilReferenceGenerator.createPrompt(""),
+                tilReferenceGenerator.createFunctionDefinition()
+        );
     }
 
     public ReferencesResponse getReferencesByTilId(Long tilId) {
@@ -42,27 +59,60 @@ public class ReferenceService {
         return new ReferencesResponse(references);
     }
 
-    @Transactional
+    /**
+     * AI 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 저장만 트랜잭션으로 묶는다.
+     */
     public void createReference(ReferenceCreateEvent event) {
         try {
-            List<Reference> references = extractTilReference(event.tilContent());
+            String responseJson = requestReferenceResponseJson(event.tilContent());
+            transactionTemplate.executeWithoutResult(
+                    status -> createReferencesFromResponse(event.tilId(), responseJson)
+            );
+        } catch (Exception e) {
+            throw new RuntimeException("TIL Reference 저장 실패: " + e.getMessage(), e);
+        }
+    }
 
-            Til til = tilRepository.findById(event.tilId())
-                    .orElseThrow(() -> new IllegalArgumentException("TIL을 찾을 수 없습니다"));
+    /**
+     * 이미 받은 AI 응답(통합 추출 포함)으로 TIL 의 레퍼런스를 교체한다.
+     * Outbox 이벤트는 선점 만료 뒤 다시 전달될 수 있으므로 기존 레퍼런스를 지우고 저장해 여러 번 호출돼도 한 벌만 남긴다.
+     */
+    @Transactional
+    public void createReferencesFromResponse(Long tilId, String responseJson) {
+        List<Reference> references = tilReferenceParser.parseReferences(responseJson);
 
-            references.forEach(reference -> reference.setTil(til));
+        Til til = tilRepository.findById(tilId)
+                .orElseThrow(() -> new IllegalArgumentException("TIL을 찾을 수 없습니다"));
 
-            referenceRepository.saveAll(references);
-        } catch (Exception e) {
-            throw new RuntimeException("TIL Reference 저장 실패: " + e.getMessage());
-        }
+        references.forEach(reference -> reference.setTil(til));
+
+        referenceRepository.deleteAllByTilId(tilId);
+        referenceRepository.saveAll(references);
     }
 
     public List<Reference> extractTilReference(String tilContent) {
-        String responseJson = failoverAIServiceManager.callAIWithSimpleFallback(
-                tilReferenceGenerator.createPrompt(tilContent),
-                tilReferenceGenerator.createFunctionDefinition()
+        return tilReferenceParser.parseReferences(requestReferenceResponseJson(tilContent));
+    }
+
+    private String requestReferenceResponseJson(String tilContent) {
+        return aiResultCache.getOrCall(
+                AI_CACHE_NAMESPACE,
+                promptVersion,
+                tilContent,
+                () -> failoverAIServiceManager.callAI(
+                        tilReferenceGenerator.promptTemplate().with(tilContent),
+                        this::isParsableReferenceResponse
+                ),
+                this::isParsableReferenceResponse
         );
-        return tilReferenceParser.parseReferences(responseJson);
+    }
+
+    private boolean isParsableReferenceResponse(String responseJson) {
+        try {
+            tilReferenceParser.parseReferences(responseJson);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
     }
 }
@@ -1,10 +1,11 @@
 package com.tilguys.matilda.slack.service;
 
+import com.tilguys.matilda.common.http.OutboundHttpClients;
+import com.tilguys.matilda.common.outbox.service.OutboxService;
 import com.tilguys.matilda.til.domain.Tag;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -12,11 +13,11 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-@RequiredArgsConstructor
 @Service
 public class SlackService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final OutboxService outboxService;
 
     // 웹훅 URL 대신 Slack API URL 사용
     @Value("${slack.post.message.url}")
@@ -30,10 +31,30 @@ public class SlackService {
     @Value("${slack.channel.id}")
     private String channelId;
 
+    public SlackService(OutboundHttpClients outboundHttpClients, OutboxService outboxService) {
+        this.restTemplate = outboundHttpClients.restTemplate("slack");
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * 알림을 Outbox 에 기록해 요청 스레드가 Slack 응답을 기다리지 않게 한다. 전송 실패는 재시도 정책에 따라 다시 보낸다.
+     */
+    public void scheduleTilWriteAlarm(String content, String nickname, String dateString, List<Tag> tags) {
+        outboxService.publish(
+                TilWriteAlarmOutboxHandler.EVENT_TYPE,
+                null,
+                new TilWriteAlarm(content, nickname, dateString, tagStringsOf(tags))
+        );
+    }
+
     public void sendTilWriteAlarm(String content, String nickname, String dateString, List<Tag> tags) {
+        sendTilWriteAlarm(new TilWriteAlarm(content, nickname, dateString, tagStringsOf(tags)));
+    }
+
+    public void sendTilWriteAlarm(TilWriteAlarm alarm) {
         Map<String, Object> payload = new HashMap<>();
-        List<String> tagStrings = tags.stream().map(Tag::getTagString).toList();
-        SlackAlarmBlock slackAlarmBlock = new SlackAlarmBlock(content, nickname, dateString, tagStrings);
+        SlackAlarmBlock slackAlarmBlock =
+                new SlackAlarmBlock(alarm.content(), alarm.nickname(), alarm.dateString(), alarm.tags());
         List<Map<String, Object>> blocks = slackAlarmBlock.alarmBlock();
 
         // chat.postMessage API에 필요한 파라미터 추가
@@ -49,4 +70,8 @@ public class SlackService {
 
         restTemplate.postForEntity(slackPostMessageApiUrl, entity, String.class);
     }
+
+    private List<String> tagStringsOf(List<Tag> tags) {
+        return tags.stream().map(Tag::getTagString).toList();
+    }
 }
@@ -0,0 +1,7 @@
+package com.tilguys.matilda.slack.service;
+
+import java.util.List;
+
+public record TilWriteAlarm(String content, String nickname, String dateString, List<String> tags) {
+
+}
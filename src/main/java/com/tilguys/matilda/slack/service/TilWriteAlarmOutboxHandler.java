@@ -0,0 +1,29 @@
+package com.tilguys.matilda.slack.service;
+
+import com.tilguys.matilda.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TilWriteAlarmOutboxHandler implements OutboxEventHandler<TilWriteAlarm> {
+
+    public static final String EVENT_TYPE = "SLACK_TIL_WRITE_ALARM";
+
+    private final SlackService slackService;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public Class<TilWriteAlarm> payloadType() {
+        return TilWriteAlarm.class;
+    }
+
+    @Override
+    public void handle(TilWriteAlarm payload) {
+        slackService.sendTilWriteAlarm(payload);
+    }
+}
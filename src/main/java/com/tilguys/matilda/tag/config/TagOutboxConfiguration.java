@@ -0,0 +1,122 @@
+package com.tilguys.matilda.tag.config;
+
+import com.tilguys.matilda.tag.domain.OutboxLane;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 태그 생성 Outbox 작업자 설정. 한 번에 claimSize 건을 선점하고, 차선별 몫은 laneWeights 비율로 나눈다.
+ * 몫을 다 채우지 못한 차선의 자리는 다른 차선의 오래된 이벤트가 가져간다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "matilda.tag.outbox")
+public class TagOutboxConfiguration {
+
+    private long leaseSeconds = 300;
+    private int claimSize = 20;
+    private int workers = 8;
+    private Map<OutboxLane, Integer> laneWeights = new EnumMap<>(Map.of(
+            OutboxLane.NEW, 6,
+            OutboxLane.RETRY, 3,
+            OutboxLane.BACKFILL, 1
+    ));
+    private Batch batch = new Batch();
+
+    public int weightOf(OutboxLane lane) {
+        return Math.max(0, laneWeights.getOrDefault(lane, 1));
+    }
+
+    public int totalLaneWeight() {
+        int total = 0;
+        for (OutboxLane lane : OutboxLane.values()) {
+            total += weightOf(lane);
+        }
+        return Math.max(1, total);
+    }
+
+    public long getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    public void setLeaseSeconds(long leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public int getClaimSize() {
+        return claimSize;
+    }
+
+    public void setClaimSize(int claimSize) {
+        this.claimSize = claimSize;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public Map<OutboxLane, Integer> getLaneWeights() {
+        return laneWeights;
+    }
+
+    public void setLaneWeights(Map<OutboxLane, Integer> laneWeights) {
+        this.laneWeights = laneWeights;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
+    /**
+     * 밀린 이벤트가 threshold 건 이상이면 짧은 TIL 을 size 개 또는 maxTokens 토큰까지 묶어 한 번에 태깅한다.
+     */
+    public static class Batch {
+
+        private int threshold = 20;
+        private int size = 5;
+        private int maxTokens = 2400;
+        private int maxTilTokens = 600;
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public int getMaxTokens() {
+            return maxTokens;
+        }
+
+        public void setMaxTokens(int maxTokens) {
+            this.maxTokens = maxTokens;
+        }
+
+        public int getMaxTilTokens() {
+            return maxTilTokens;
+        }
+
+        public void setMaxTilTokens(int maxTilTokens) {
+            this.maxTilTokens = maxTilTokens;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.tilguys.matilda.tag.config;
+
+import com.tilguys.matilda.tag.schedule.TagOutboxWakeupScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다른 노드의 Outbox 재시도 예약 알림 구독 설정.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TagOutboxWakeupConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final TagOutboxWakeupScheduler tagOutboxWakeupScheduler;
+
+    @Value("${matilda.tag.outbox.wakeup.topic:tag:outbox:wakeup}")
+    private String topic;
+
+    @Bean
+    public RedisMessageListenerContainer tagOutboxWakeupListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tagOutboxWakeupScheduler, new ChannelTopic(topic));
+        container.start();
+        return container;
+    }
+}
@@ -0,0 +1,43 @@
+package com.tilguys.matilda.tag.controller;
+
+import com.tilguys.matilda.tag.dto.InterestResponse;
+import com.tilguys.matilda.tag.dto.SimilarCrewResponse;
+import com.tilguys.matilda.tag.service.UserInterestService;
+import jakarta.validation.constraints.Max;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/interests")
+public class InterestController {
+
+    private final UserInterestService userInterestService;
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<List<InterestResponse>> getInterests(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "10")
+            @Max(value = 30)
+            int limit
+    ) {
+        return ResponseEntity.ok(userInterestService.getTopInterests(userId, limit));
+    }
+
+    @GetMapping("/{userId}/similar")
+    public ResponseEntity<List<SimilarCrewResponse>> getSimilarCrews(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "5")
+            @Max(value = 20)
+            int limit
+    ) {
+        return ResponseEntity.ok(userInterestService.getSimilarCrews(userId, limit));
+    }
+}
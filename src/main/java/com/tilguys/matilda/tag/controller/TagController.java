@@ -2,15 +2,23 @@ package com.tilguys.matilda.tag.controller;
 
 import com.tilguys.matilda.tag.cache.RecentTilTagsCacheService;
 import com.tilguys.matilda.tag.domain.TilTagRelations;
+import com.tilguys.matilda.tag.dto.TagSuggestionResponse;
+import com.tilguys.matilda.tag.dto.TagTrendResponse;
 import com.tilguys.matilda.tag.service.RecentTilTagsProvider;
+import com.tilguys.matilda.tag.service.TagSuggestionService;
+import com.tilguys.matilda.tag.service.TagTrendService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalTime;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -20,6 +28,8 @@ public class TagController {
 
     private final RecentTilTagsCacheService recentTilTagsCacheService;
     private final RecentTilTagsProvider recentTilTagsProvider;
+    private final TagTrendService tagTrendService;
+    private final TagSuggestionService tagSuggestionService;
 
     @GetMapping("/recent")
     public ResponseEntity<TilTagRelations> getRecentTags() {
@@ -33,4 +43,25 @@ public class TagController {
         );
         return ResponseEntity.ok(recentTagRelations);
     }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TagTrendResponse>> getTrendingTags(
+            @RequestParam(defaultValue = "7d") String window,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1)
+            @Max(value = 50)
+            int limit
+    ) {
+        return ResponseEntity.ok(tagTrendService.getTrendingTags(window, limit));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TagSuggestionResponse>> suggestTags(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10")
+            @Max(value = 10)
+            int limit
+    ) {
+        return ResponseEntity.ok(tagSuggestionService.suggest(q, limit));
+    }
 }
@@ -0,0 +1,79 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 음절을 자모 단위로 풀어 접두어 비교가 가능하도록 정규화.
+ * 예) "슾" → "ㅅㅡㅍ" 은 "스프링" → "ㅅㅡㅍㅡㄹㅣㅇ" 의 접두어가 된다.
+ */
+public final class HangulJamoDecomposer {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 입력 도중에는 겹받침/겹모음이 두 번의 키 입력으로 나뉘므로 분리해서 비교
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamoDecomposer() {
+    }
+
+    /**
+     * 공백 제거, 소문자화, 한글 자모 분해.
+     */
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(lowerCase.length() * 3);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = lowerCase.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                appendSyllable(builder, c);
+                continue;
+            }
+            appendJamo(builder, c);
+        }
+        return builder.toString();
+    }
+
+    private static void appendSyllable(StringBuilder builder, char syllable) {
+        int index = syllable - SYLLABLE_BEGIN;
+        int choseong = index / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+        int jungseong = (index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT;
+        int jongseong = index % JONGSEONG_COUNT;
+
+        builder.append(CHOSEONG.charAt(choseong));
+        appendJamo(builder, JUNGSEONG.charAt(jungseong));
+        if (jongseong != 0) {
+            appendJamo(builder, JONGSEONG.charAt(jongseong));
+        }
+    }
+
+    private static void appendJamo(StringBuilder builder, char jamo) {
+        String split = COMPOUND_JAMO.get(jamo);
+        if (split == null) {
+            builder.append(jamo);
+            return;
+        }
+        builder.append(split);
+    }
+}
@@ -0,0 +1,10 @@
+package com.tilguys.matilda.tag.domain;
+
+/**
+ * Outbox 처리 우선순위 차선. 선언 순서가 우선순위다.
+ */
+public enum OutboxLane {
+    NEW,      // 방금 작성된 TIL
+    RETRY,    // 실패 후 재시도
+    BACKFILL  // 일괄 재생성
+}
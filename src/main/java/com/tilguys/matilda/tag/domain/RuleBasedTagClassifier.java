@@ -0,0 +1,115 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.domain.TagKeywordAutomaton.Keyword;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 없이 키워드 사전만으로 핵심 태그 후보를 고르는 분류기.
+ * 후보 이름 자체는 2점, 동의어·관련어는 1점이며 같은 키워드는 3번까지만 센다.
+ * MIN_SCORE 이상인 후보를 점수 내림차순(같으면 후보 목록 순서)으로 최대 MAX_TAGS 개 돌려준다.
+ */
+public class RuleBasedTagClassifier {
+
+    public static final int MAX_TAGS = 5;
+
+    private static final int MIN_SCORE = 2;
+    private static final int NAME_WEIGHT = 2;
+    private static final int SYNONYM_WEIGHT = 1;
+    private static final int MAX_COUNT_PER_KEYWORD = 3;
+
+    private static final Map<String, List<String>> SYNONYMS = Map.ofEntries(
+            Map.entry("자바", List.of("java", "jvm", "jdk", "제네릭", "generic", "람다", "lambda", "stream api",
+                    "optional", "가비지 컬렉션", "garbage collection")),
+            Map.entry("스프링", List.of("spring", "spring boot", "스프링부트", "@transactional", "@autowired",
+                    "@component", "@service", "@controller", "@restcontroller", "빈 등록", "의존성 주입",
+                    "dependency injection", "aop", "spring security")),
+            Map.entry("JPA", List.of("hibernate", "하이버네이트", "영속성 컨텍스트", "entitymanager", "@entity", "jpql",
+                    "querydsl", "n+1", "지연 로딩", "lazy loading", "fetch join", "페치 조인", "spring data jpa")),
+            Map.entry("데이터베이스", List.of("database", "db", "인덱스", "index", "트랜잭션", "transaction", "sql", "쿼리",
+                    "query", "정규화", "rdbms", "nosql", "redis", "격리 수준")),
+            Map.entry("MySQL", List.of("innodb", "mariadb")),
+            Map.entry("테스트", List.of("test", "junit", "mockito", "assertj", "단위 테스트", "통합 테스트", "tdd",
+                    "@springboottest", "테스트 코드", "mock")),
+            Map.entry("서버 관리", List.of("서버", "linux", "리눅스", "nginx", "tomcat", "톰캣", "ssh", "systemd")),
+            Map.entry("https", List.of("http", "ssl", "tls", "인증서", "certificate")),
+            Map.entry("ci/cd", List.of("github actions", "jenkins", "배포 자동화", "파이프라인", "pipeline", "ci", "cd",
+                    "지속적 통합", "무중단 배포")),
+            Map.entry("aws", List.of("ec2", "s3", "rds", "cloudfront", "lambda", "ecs", "iam", "route53", "elb")),
+            Map.entry("모니터링", List.of("monitoring", "prometheus", "grafana", "메트릭", "metric", "micrometer", "apm",
+                    "actuator")),
+            Map.entry("로깅", List.of("logging", "log", "로그", "slf4j", "logback", "log4j", "elk", "kibana")),
+            Map.entry("객체지향", List.of("oop", "캡슐화", "다형성", "상속", "추상화", "solid", "객체")),
+            Map.entry("디자인패턴", List.of("디자인 패턴", "design pattern", "싱글톤", "singleton", "전략 패턴", "strategy pattern",
+                    "팩토리", "factory", "옵저버", "observer", "템플릿 메서드", "프록시 패턴", "빌더 패턴", "builder pattern")),
+            Map.entry("리팩터링", List.of("리팩토링", "refactoring", "중복 제거")),
+            Map.entry("클린코드", List.of("클린 코드", "clean code", "가독성", "네이밍")),
+            Map.entry("시스템아키텍쳐", List.of("아키텍처", "아키텍쳐", "architecture", "msa", "마이크로서비스", "microservice",
+                    "레이어드", "헥사고날", "모놀리식", "이벤트 기반")),
+            Map.entry("동시성", List.of("concurrency", "thread", "스레드", "쓰레드", "synchronized", "데드락", "deadlock",
+                    "race condition", "경쟁 조건", "비동기", "async", "completablefuture", "virtual thread")),
+            Map.entry("성능최적화", List.of("성능", "performance", "최적화", "optimization", "캐시", "cache", "병목", "튜닝",
+                    "tuning", "부하 테스트", "latency", "지연 시간")),
+            Map.entry("확장성", List.of("scalability", "스케일 아웃", "scale out", "스케일 업", "수평 확장", "샤딩", "sharding",
+                    "로드 밸런서", "load balancer", "레플리케이션", "replication")),
+            Map.entry("깃", List.of("git", "github", "브랜치", "branch", "커밋", "commit", "merge", "rebase",
+                    "pull request")),
+            Map.entry("코드리뷰", List.of("코드 리뷰", "code review", "리뷰어", "reviewer")),
+            Map.entry("페어프로그래밍", List.of("페어 프로그래밍", "pair programming", "페어", "드라이버", "네비게이터")),
+            Map.entry("팀프로젝트", List.of("팀 프로젝트", "협업", "팀원", "스프린트", "프로젝트")),
+            Map.entry("애자일", List.of("agile", "스크럼", "scrum", "칸반", "kanban", "스탠드업")),
+            Map.entry("api", List.of("rest", "restful", "endpoint", "엔드포인트", "swagger", "openapi", "graphql")),
+            Map.entry("설계", List.of("design", "erd", "도메인 모델", "모델링", "ddd", "도메인 주도")),
+            Map.entry("문서화", List.of("documentation", "문서", "readme", "위키", "wiki", "javadoc", "restdocs")),
+            Map.entry("자료구조", List.of("data structure", "배열", "array", "연결 리스트", "linked list", "스택", "stack",
+                    "queue", "해시", "hash", "heap", "그래프")),
+            Map.entry("알고리즘", List.of("algorithm", "정렬", "sort", "탐색", "bfs", "dfs", "다이나믹 프로그래밍", "dp",
+                    "그리디", "이분 탐색", "시간 복잡도", "백준", "프로그래머스", "leetcode")),
+            Map.entry("네트워크", List.of("network", "tcp", "udp", "ip", "dns", "osi", "소켓", "socket", "패킷")),
+            Map.entry("운영체제", List.of("os", "operating system", "프로세스", "process", "메모리", "memory", "스케줄링",
+                    "페이징", "가상 메모리", "커널", "kernel", "컨텍스트 스위칭")),
+            Map.entry("소프트스킬", List.of("소프트 스킬", "soft skill", "커뮤니케이션", "소통", "피드백", "발표")),
+            Map.entry("회고", List.of("retrospective", "kpt", "돌아보며", "느낀 점")),
+            Map.entry("학습법", List.of("공부 방법", "공부법", "메타인지", "학습")),
+            Map.entry("인프라", List.of("infra", "infrastructure", "docker", "도커", "kubernetes", "k8s", "쿠버네티스",
+                    "컨테이너", "container", "terraform", "클라우드", "cloud")),
+            Map.entry("보안", List.of("security", "인증", "인가", "authentication", "authorization", "jwt", "oauth",
+                    "xss", "csrf", "sql injection", "암호화", "encryption"))
+    );
+
+    private final List<String> candidates;
+    private final TagKeywordAutomaton automaton;
+
+    public RuleBasedTagClassifier() {
+        this(List.of(TilTagGenerator.CORE_TAG_CANDIDATES.split(",")), SYNONYMS);
+    }
+
+    public RuleBasedTagClassifier(List<String> candidates, Map<String, List<String>> synonyms) {
+        this.candidates = List.copyOf(candidates);
+        List<Keyword> keywords = new ArrayList<>();
+        for (String candidate : candidates) {
+            keywords.add(new Keyword(candidate, candidate, NAME_WEIGHT));
+            for (String synonym : synonyms.getOrDefault(candidate, List.of())) {
+                keywords.add(new Keyword(synonym, candidate, SYNONYM_WEIGHT));
+            }
+        }
+        this.automaton = TagKeywordAutomaton.of(keywords);
+    }
+
+    public List<String> classify(String content) {
+        Map<String, Integer> scores = new HashMap<>();
+        automaton.countMatches(content).forEach((keyword, count) ->
+                scores.merge(keyword.tag(), keyword.weight() * Math.min(count, MAX_COUNT_PER_KEYWORD), Integer::sum));
+
+        return candidates.stream()
+                .filter(candidate -> scores.getOrDefault(candidate, 0) >= MIN_SCORE)
+                .sorted(Comparator.comparingInt((String candidate) -> -scores.get(candidate))
+                        .thenComparingInt(candidates::indexOf))
+                .limit(MAX_TAGS)
+                .toList();
+    }
+}
@@ -0,0 +1,5 @@
+package com.tilguys.matilda.tag.domain;
+
+public record SimilarTil(Long tilId, double similarity) {
+
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,7 +18,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tag_creation_outbox_events")
+@Table(name = "tag_creation_outbox_events", indexes = {
+        @Index(name = "idx_tag_outbox_status_processed_at", columnList = "status, processed_at")
+})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -54,32 +57,64 @@ public class TagCreationOutboxEvent extends BaseEntity {
     @Column(name = "scheduled_at", nullable = false)
     private LocalDateTime scheduledAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "lane")
+    @Builder.Default
+    private OutboxLane lane = OutboxLane.NEW;
+
+    // 처리 중인 노드(작업자)와 선점 만료 시각. 만료되면 다른 작업자가 다시 선점한다
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
     // 상태 변경 메서드들
+    // 차선 도입 전에 쌓인 이벤트는 새 TIL 로 취급
+    public OutboxLane getLane() {
+        return lane == null ? OutboxLane.NEW : lane;
+    }
+
     public void markAsProcessing() {
         this.status = OutboxEventStatus.PROCESSING;
     }
 
+    public void claim(String workerId, LocalDateTime leaseExpiresAt) {
+        this.status = OutboxEventStatus.PROCESSING;
+        this.lockedBy = workerId;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public boolean isClaimedBy(String workerId) {
+        return status == OutboxEventStatus.PROCESSING && workerId.equals(lockedBy);
+    }
+
     public void markAsCompleted() {
         this.status = OutboxEventStatus.COMPLETED;
         this.processedAt = LocalDateTime.now();
+        releaseLease();
     }
 
     public void markAsFailed(String errorMessage) {
         this.status = OutboxEventStatus.FAILED;
         this.errorMessage = errorMessage;
         this.processedAt = LocalDateTime.now();
+        releaseLease();
     }
 
     public void incrementRetryCount() {
         this.retryCount++;
     }
 
-    public boolean canRetry() {
-        return retryCount < 2 && status == OutboxEventStatus.FAILED;
-    }
-
     public void reschedule(LocalDateTime newScheduledTime) {
         this.scheduledAt = newScheduledTime;
         this.status = OutboxEventStatus.PENDING;
+        this.lane = OutboxLane.RETRY;
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.lockedBy = null;
+        this.leaseExpiresAt = null;
     }
 }
@@ -0,0 +1,67 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * TIL 당 하나의 태그 생성 선점 기록. 내용 해시를 버전으로 삼아
+ * 같은 내용에 대한 AI 재호출과 태그 중복 저장을 막는다.
+ */
+@Entity
+@Table(name = "tag_generation_claim")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagGenerationClaim extends BaseEntity {
+
+    @Id
+    @Column(name = "til_id")
+    private Long tilId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private TagGenerationStatus status;
+
+    @Column(name = "claimed_at", nullable = false)
+    private LocalDateTime claimedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // 직접 할당한 id 라도 save 가 merge 대신 insert 하도록 버전으로 신규 여부를 판단한다
+    @Version
+    private Long version;
+
+    private TagGenerationClaim(Long tilId, String contentHash, TagGenerationStatus status, LocalDateTime now) {
+        this.tilId = tilId;
+        this.contentHash = contentHash;
+        this.status = status;
+        this.claimedAt = now;
+        this.completedAt = status == TagGenerationStatus.COMPLETED ? now : null;
+    }
+
+    public static TagGenerationClaim claimed(Long tilId, String contentHash, LocalDateTime now) {
+        return new TagGenerationClaim(tilId, contentHash, TagGenerationStatus.CLAIMED, now);
+    }
+
+    public static TagGenerationClaim completed(Long tilId, String contentHash, LocalDateTime now) {
+        return new TagGenerationClaim(tilId, contentHash, TagGenerationStatus.COMPLETED, now);
+    }
+
+    public boolean isCompletedFor(String contentHash) {
+        return status == TagGenerationStatus.COMPLETED && this.contentHash.equals(contentHash);
+    }
+}
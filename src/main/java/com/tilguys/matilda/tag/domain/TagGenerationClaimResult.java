@@ -0,0 +1,7 @@
+package com.tilguys.matilda.tag.domain;
+
+public enum TagGenerationClaimResult {
+    CLAIMED,     // 이번 호출이 태그 생성을 맡는다
+    DUPLICATE,   // 같은 내용으로 이미 태그가 저장됐다
+    IN_PROGRESS  // 다른 작업자가 생성 중이다
+}
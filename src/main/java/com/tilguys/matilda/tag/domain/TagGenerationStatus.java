@@ -0,0 +1,7 @@
+package com.tilguys.matilda.tag.domain;
+
+public enum TagGenerationStatus {
+    CLAIMED,    // 태그 생성 중 (선점)
+    COMPLETED,  // 태그 저장 완료
+    RELEASED    // 생성 실패로 선점 해제
+}
@@ -0,0 +1,258 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * 태그 동시 출현 가중치 그래프. 라벨 전파로 커뮤니티를 나누고 Fruchterman-Reingold 로 좌표를 계산한다.
+ * 같은 입력이면 같은 결과가 나오도록 난수 시드를 고정한다.
+ */
+class TagGraph {
+
+    private static final long SEED = 42L;
+    private static final int MAX_PROPAGATION_ROUNDS = 30;
+    private static final int MAX_LAYOUT_ITERATIONS = 150;
+    private static final long LAYOUT_WORK_BUDGET = 30_000_000L;
+    private static final double MARGIN = 0.05;
+
+    private final String[] names;
+    private final int[][] neighbors;
+    private final double[][] weights;
+
+    private TagGraph(String[] names, int[][] neighbors, double[][] weights) {
+        this.names = names;
+        this.neighbors = neighbors;
+        this.weights = weights;
+    }
+
+    static TagGraph from(Map<String, List<String>> tagRelationMap) {
+        TreeSet<String> sortedNames = new TreeSet<>(tagRelationMap.keySet());
+        tagRelationMap.values().forEach(sortedNames::addAll);
+        String[] names = sortedNames.toArray(String[]::new);
+        Map<String, Integer> indexes = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+
+        List<Map<Integer, Double>> adjacency = new ArrayList<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            adjacency.add(new HashMap<>());
+        }
+        for (Map.Entry<String, List<String>> entry : tagRelationMap.entrySet()) {
+            int from = indexes.get(entry.getKey());
+            for (String otherTag : entry.getValue()) {
+                int to = indexes.get(otherTag);
+                if (from == to) {
+                    continue;
+                }
+                adjacency.get(from).merge(to, 1.0, Double::sum);
+                adjacency.get(to).merge(from, 1.0, Double::sum);
+            }
+        }
+
+        int[][] neighbors = new int[names.length][];
+        double[][] weights = new double[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            int[] sortedNeighbors = adjacency.get(i).keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            neighbors[i] = sortedNeighbors;
+            weights[i] = new double[sortedNeighbors.length];
+            for (int j = 0; j < sortedNeighbors.length; j++) {
+                weights[i][j] = adjacency.get(i).get(sortedNeighbors[j]);
+            }
+        }
+        return new TagGraph(names, neighbors, weights);
+    }
+
+    Map<String, TagGraphNode> layout() {
+        int[] clusters = detectCommunities();
+        double[][] positions = forceDirected(clusters);
+
+        Map<String, TagGraphNode> nodes = new LinkedHashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            nodes.put(names[i], new TagGraphNode(round(positions[i][0]), round(positions[i][1]), clusters[i]));
+        }
+        return nodes;
+    }
+
+    /**
+     * 가중 라벨 전파. 동점이면 작은 라벨을 택하고, 결과 클러스터 번호는 크기 내림차순으로 다시 매긴다.
+     */
+    int[] detectCommunities() {
+        int size = names.length;
+        int[] labels = new int[size];
+        for (int i = 0; i < size; i++) {
+            labels[i] = i;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Random random = new Random(SEED);
+        Map<Integer, Double> labelWeights = new HashMap<>();
+
+        for (int round = 0; round < MAX_PROPAGATION_ROUNDS; round++) {
+            shuffle(order, random);
+            boolean changed = false;
+            for (int node : order) {
+                if (neighbors[node].length == 0) {
+                    continue;
+                }
+                labelWeights.clear();
+                for (int j = 0; j < neighbors[node].length; j++) {
+                    labelWeights.merge(labels[neighbors[node][j]], weights[node][j], Double::sum);
+                }
+                int best = labels[node];
+                double bestWeight = labelWeights.getOrDefault(best, 0.0);
+                for (Map.Entry<Integer, Double> entry : labelWeights.entrySet()) {
+                    double weight = entry.getValue();
+                    if (weight > bestWeight || (weight == bestWeight && entry.getKey() < best)) {
+                        best = entry.getKey();
+                        bestWeight = weight;
+                    }
+                }
+                if (best != labels[node]) {
+                    labels[node] = best;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+        }
+        return renumberBySize(labels);
+    }
+
+    private int[] renumberBySize(int[] labels) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        Map<Integer, Integer> firstNode = new HashMap<>();
+        for (int i = 0; i < labels.length; i++) {
+            counts.merge(labels[i], 1, Integer::sum);
+            firstNode.putIfAbsent(labels[i], i);
+        }
+        List<Integer> ordered = new ArrayList<>(counts.keySet());
+        ordered.sort(Comparator.<Integer>comparingInt(counts::get).reversed().thenComparingInt(firstNode::get));
+
+        Map<Integer, Integer> clusterIds = new HashMap<>(ordered.size() * 2);
+        for (int i = 0; i < ordered.size(); i++) {
+            clusterIds.put(ordered.get(i), i);
+        }
+        int[] clusters = new int[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            clusters[i] = clusterIds.get(labels[i]);
+        }
+        return clusters;
+    }
+
+    /**
+     * 클러스터별로 원 위에 모아 초기 배치한 뒤 Fruchterman-Reingold 로 다듬는다.
+     * 노드 수 제곱에 비례하므로 반복 횟수는 작업량 상한 안에서 정한다.
+     */
+    private double[][] forceDirected(int[] clusters) {
+        int size = names.length;
+        double[][] positions = new double[size][2];
+        if (size == 0) {
+            return positions;
+        }
+
+        int clusterCount = Arrays.stream(clusters).max().orElse(0) + 1;
+        Random random = new Random(SEED);
+        for (int i = 0; i < size; i++) {
+            double angle = 2 * Math.PI * clusters[i] / clusterCount;
+            positions[i][0] = 0.5 + 0.3 * Math.cos(angle) + (random.nextDouble() - 0.5) * 0.1;
+            positions[i][1] = 0.5 + 0.3 * Math.sin(angle) + (random.nextDouble() - 0.5) * 0.1;
+        }
+
+        double k = Math.sqrt(1.0 / size);
+        int iterations = (int) Math.max(1, Math.min(MAX_LAYOUT_ITERATIONS, LAYOUT_WORK_BUDGET / ((long) size * size)));
+        double temperature = 0.1;
+        double cooling = temperature / (iterations + 1);
+        double[][] displacement = new double[size][2];
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (double[] row : displacement) {
+                Arrays.fill(row, 0);
+            }
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    double dx = positions[i][0] - positions[j][0];
+                    double dy = positions[i][1] - positions[j][1];
+                    double distance = Math.max(Math.hypot(dx, dy), 1e-4);
+                    double force = k * k / distance;
+                    displacement[i][0] += dx / distance * force;
+                    displacement[i][1] += dy / distance * force;
+                    displacement[j][0] -= dx / distance * force;
+                    displacement[j][1] -= dy / distance * force;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                for (int n = 0; n < neighbors[i].length; n++) {
+                    int j = neighbors[i][n];
+                    if (j <= i) {
+                        continue;
+                    }
+                    double dx = positions[i][0] - positions[j][0];
+                    double dy = positions[i][1] - positions[j][1];
+                    double distance = Math.max(Math.hypot(dx, dy), 1e-4);
+                    double force = distance * distance / k * Math.log1p(weights[i][n]);
+                    displacement[i][0] -= dx / distance * force;
+                    displacement[i][1] -= dy / distance * force;
+                    displacement[j][0] += dx / distance * force;
+                    displacement[j][1] += dy / distance * force;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                double length = Math.max(Math.hypot(displacement[i][0], displacement[i][1]), 1e-9);
+                double step = Math.min(length, temperature);
+                positions[i][0] += displacement[i][0] / length * step;
+                positions[i][1] += displacement[i][1] / length * step;
+            }
+            temperature -= cooling;
+        }
+        normalize(positions);
+        return positions;
+    }
+
+    private void normalize(double[][] positions) {
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (double[] position : positions) {
+            minX = Math.min(minX, position[0]);
+            minY = Math.min(minY, position[1]);
+            maxX = Math.max(maxX, position[0]);
+            maxY = Math.max(maxY, position[1]);
+        }
+        double scale = Math.max(maxX - minX, maxY - minY);
+        for (double[] position : positions) {
+            if (scale < 1e-9) {
+                position[0] = 0.5;
+                position[1] = 0.5;
+                continue;
+            }
+            position[0] = MARGIN + (position[0] - minX) / scale * (1 - 2 * MARGIN);
+            position[1] = MARGIN + (position[1] - minY) / scale * (1 - 2 * MARGIN);
+        }
+    }
+
+    private static void shuffle(Integer[] order, Random random) {
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 태그 관계 그래프의 노드 좌표(0~1 정규화)와 커뮤니티 id. version 은 관계 맵 내용으로 계산한 해시.
+ */
+public record TagGraphLayout(long version, Map<String, TagGraphNode> nodes) {
+
+    public static final TagGraphLayout EMPTY = new TagGraphLayout(0L, Map.of());
+
+    public static TagGraphLayout of(Map<String, List<String>> tagRelationMap) {
+        TagGraph graph = TagGraph.from(tagRelationMap);
+        return new TagGraphLayout(versionOf(tagRelationMap), graph.layout());
+    }
+
+    /**
+     * 리스트 순서와 무관하게 같은 관계 맵이면 같은 값이 나오도록 정렬 후 해시.
+     */
+    public static long versionOf(Map<String, List<String>> tagRelationMap) {
+        long version = 1125899906842597L;
+        for (Map.Entry<String, List<String>> entry : new TreeMap<>(tagRelationMap).entrySet()) {
+            version = 31 * version + entry.getKey().hashCode();
+            for (String otherTag : entry.getValue().stream().sorted().toList()) {
+                version = 31 * version + otherTag.hashCode();
+            }
+            version = 31 * version + entry.getValue().size();
+        }
+        return version;
+    }
+}
@@ -0,0 +1,5 @@
+package com.tilguys.matilda.tag.domain;
+
+public record TagGraphNode(double x, double y, int cluster) {
+
+}
@@ -0,0 +1,161 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 태그 키워드 사전을 Aho-Corasick 오토마톤으로 만들어 본문을 한 번만 훑으며 모든 키워드 출현을 찾는다.
+ * 대소문자는 구분하지 않고, 영문·숫자로 시작하거나 끝나는 키워드는 앞뒤가 영문·숫자가 아닐 때만 인정해
+ * "api" 가 "rapid" 안에서 잡히지 않게 한다. 한글은 조사가 붙으므로 경계를 보지 않는다.
+ */
+public class TagKeywordAutomaton {
+
+    private final Node root;
+
+    private TagKeywordAutomaton(Node root) {
+        this.root = root;
+    }
+
+    public static TagKeywordAutomaton of(Collection<Keyword> keywords) {
+        BuildNode buildRoot = new BuildNode();
+        for (Keyword keyword : keywords) {
+            String text = normalize(keyword.text());
+            if (text.isEmpty()) {
+                continue;
+            }
+            BuildNode node = buildRoot;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.children.computeIfAbsent(text.charAt(i), c -> new BuildNode());
+            }
+            node.outputs.add(new Keyword(text, keyword.tag(), keyword.weight()));
+        }
+        linkFailures(buildRoot);
+        return new TagKeywordAutomaton(buildRoot.freeze(new IdentityHashMap<>()));
+    }
+
+    /**
+     * 키워드별 출현 횟수. 키는 사전에 등록된 Keyword 이다.
+     */
+    public Map<Keyword, Integer> countMatches(String content) {
+        Map<Keyword, Integer> counts = new HashMap<>();
+        if (content == null || content.isEmpty()) {
+            return counts;
+        }
+        String text = normalize(content);
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Node next = node.child(c);
+            while (next == null && node != root) {
+                node = node.fail;
+                next = node.child(c);
+            }
+            node = next == null ? root : next;
+            for (Keyword keyword : node.outputs) {
+                int start = i - keyword.text().length() + 1;
+                if (isBounded(text, start, i, keyword.text())) {
+                    counts.merge(keyword, 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBounded(String text, int start, int end, String keyword) {
+        if (isAsciiWordChar(keyword.charAt(0)) && start > 0 && isAsciiWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        return !isAsciiWordChar(keyword.charAt(keyword.length() - 1))
+                || end + 1 >= text.length()
+                || !isAsciiWordChar(text.charAt(end + 1));
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return c < 128 && Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * 너비 우선으로 실패 링크를 잇고, 실패 링크 쪽 출력(더 짧은 접미 키워드)을 각 노드 출력에 합쳐 둔다.
+     */
+    private static void linkFailures(BuildNode root) {
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        for (BuildNode child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            for (Map.Entry<Character, BuildNode> entry : node.children.entrySet()) {
+                BuildNode child = entry.getValue();
+                BuildNode fail = node.fail;
+                while (fail != root && !fail.children.containsKey(entry.getKey())) {
+                    fail = fail.fail;
+                }
+                BuildNode target = fail.children.get(entry.getKey());
+                child.fail = target == null || target == child ? root : target;
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+        root.fail = root;
+    }
+
+    public record Keyword(String text, String tag, int weight) {
+    }
+
+    private static final class Node {
+
+        private char[] keys;
+        private Node[] children;
+        private Keyword[] outputs;
+        private Node fail;
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return null;
+            }
+            return children[index];
+        }
+    }
+
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<Keyword> outputs = new ArrayList<>(1);
+        private BuildNode fail;
+
+        private Node freeze(Map<BuildNode, Node> frozen) {
+            Node node = frozen.get(this);
+            if (node != null) {
+                return node;
+            }
+            node = new Node();
+            frozen.put(this, node);
+            node.keys = new char[children.size()];
+            node.children = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                node.keys[index] = entry.getKey();
+                node.children[index] = entry.getValue().freeze(frozen);
+                index++;
+            }
+            node.outputs = outputs.toArray(new Keyword[0]);
+            node.fail = fail == null ? node : fail.freeze(frozen);
+            return node;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.dto.TagSuggestionResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 핵심 태그/서브 태그 자동완성용 불변 트라이.
+ * 키는 자모 분해된 문자열이며, 각 노드에 하위 항목 중 빈도 상위 후보를 미리 계산해 두어
+ * 조회는 질의 길이에만 비례한다.
+ */
+public class TagSuggestionTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<TagSuggestionResponse> SUGGESTION_ORDER = Comparator
+            .comparingInt(TagSuggestionResponse::frequency)
+            .reversed()
+            .thenComparing(TagSuggestionResponse::type)
+            .thenComparing(TagSuggestionResponse::tag);
+
+    private static final TagSuggestionTrie EMPTY = new TagSuggestionTrie(Node.LEAF, 0);
+
+    private final Node root;
+    private final int size;
+
+    private TagSuggestionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static TagSuggestionTrie empty() {
+        return EMPTY;
+    }
+
+    public static TagSuggestionTrie from(TilTagRelations relations) {
+        Map<String, Integer> coreFrequencies = new HashMap<>();
+        Set<String> coreTags = new HashSet<>();
+        coreTags.addAll(relations.getKeywordTagMap().keySet());
+        coreTags.addAll(relations.getTagTilIdMap().keySet());
+        coreTags.addAll(relations.getTagRelationMap().keySet());
+        for (String coreTag : coreTags) {
+            int tilCount = relations.getTagTilIdMap()
+                    .getOrDefault(coreTag, List.of())
+                    .size();
+            coreFrequencies.put(coreTag, Math.max(1, tilCount));
+        }
+
+        Map<String, Integer> subFrequencies = new HashMap<>();
+        for (List<String> subTags : relations.getKeywordTagMap().values()) {
+            for (String subTag : subTags) {
+                subFrequencies.merge(subTag, 1, Integer::sum);
+            }
+        }
+
+        List<TagSuggestionResponse> suggestions = new ArrayList<>(coreFrequencies.size() + subFrequencies.size());
+        coreFrequencies.forEach((tag, frequency) ->
+                suggestions.add(new TagSuggestionResponse(tag, TagType.CORE, frequency)));
+        subFrequencies.forEach((tag, frequency) ->
+                suggestions.add(new TagSuggestionResponse(tag, TagType.SUB, frequency)));
+        return of(suggestions);
+    }
+
+    public static TagSuggestionTrie of(Collection<TagSuggestionResponse> suggestions) {
+        BuildNode buildRoot = new BuildNode();
+        int size = 0;
+        for (TagSuggestionResponse suggestion : suggestions) {
+            String key = HangulJamoDecomposer.decompose(suggestion.tag());
+            if (key.isEmpty()) {
+                continue;
+            }
+            BuildNode node = buildRoot;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.terms.add(suggestion);
+            size++;
+        }
+        return new TagSuggestionTrie(buildRoot.freeze(), size);
+    }
+
+    public List<TagSuggestionResponse> suggest(String query, int limit) {
+        String key = HangulJamoDecomposer.decompose(query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        int count = Math.min(limit, node.top.length);
+        return Arrays.asList(node.top).subList(0, count);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static final class Node {
+
+        private static final Node LEAF = new Node(new char[0], new Node[0], new TagSuggestionResponse[0]);
+
+        private final char[] keys;
+        private final Node[] children;
+        private final TagSuggestionResponse[] top;
+
+        private Node(char[] keys, Node[] children, TagSuggestionResponse[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return null;
+            }
+            return children[index];
+        }
+    }
+
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<TagSuggestionResponse> terms = new ArrayList<>(1);
+
+        private Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozenChildren = new Node[children.size()];
+            List<TagSuggestionResponse> candidates = new ArrayList<>(terms);
+
+            int index = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                Node child = entry.getValue().freeze();
+                keys[index] = entry.getKey();
+                frozenChildren[index] = child;
+                candidates.addAll(Arrays.asList(child.top));
+                index++;
+            }
+
+            candidates.sort(SUGGESTION_ORDER);
+            int count = Math.min(MAX_SUGGESTIONS, candidates.size());
+            TagSuggestionResponse[] top = candidates.subList(0, count)
+                    .toArray(new TagSuggestionResponse[0]);
+            return new Node(keys, frozenChildren, top);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.Arrays;
+
+/**
+ * 태그 하나의 일자별 작성 수를 고정 크기 링 버퍼로 보관.
+ * 슬롯은 epochDay % capacity 로 정해지며, 슬롯에 기록된 날짜가 다르면 오래된 값으로 보고 덮어쓴다.
+ * <p>
+ * 슬롯마다 마지막으로 읽은 Redis 값(stored)과 아직 Redis 에 반영되지 않은 로컬 증감(pending)을 따로 두고
+ * 둘의 합을 작성 수로 본다. Redis 값으로 stored 를 교체해도 반영 전 증감은 잃지 않고,
+ * 다른 노드의 삭제로 Redis 값이 줄면 그대로 내려간다.
+ */
+public class TagTrendBuckets {
+
+    private static final long EMPTY_DAY = Long.MIN_VALUE;
+
+    private final long[] days;
+    private final int[] stored;
+    private final int[] pending;
+
+    public TagTrendBuckets(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("버킷 크기는 1 이상이어야 합니다.");
+        }
+        this.days = new long[capacity];
+        this.stored = new int[capacity];
+        this.pending = new int[capacity];
+        Arrays.fill(days, EMPTY_DAY);
+    }
+
+    /**
+     * 로컬 증감. Redis 에 반영되면 {@link #flushed} 로 알려야 한다.
+     */
+    public synchronized void add(long epochDay, int delta) {
+        int slot = slotFor(epochDay);
+        if (slot < 0) {
+            // 링 버퍼 범위를 벗어난 과거 데이터는 무시
+            return;
+        }
+        pending[slot] += delta;
+    }
+
+    /**
+     * Redis 에 반영된 증감을 반영 전 증감에서 Redis 값 쪽으로 옮긴다.
+     */
+    public synchronized void flushed(long epochDay, int delta) {
+        int slot = slotOf(epochDay);
+        if (days[slot] != epochDay) {
+            return;
+        }
+        pending[slot] -= delta;
+        stored[slot] += delta;
+    }
+
+    /**
+     * Redis 에서 읽은 값으로 교체한다. 아직 반영되지 않은 로컬 증감은 그대로 둔다.
+     */
+    public synchronized void restore(long epochDay, int count) {
+        int slot = slotFor(epochDay);
+        if (slot < 0) {
+            return;
+        }
+        stored[slot] = count;
+    }
+
+    /**
+     * [fromDay, toDay] 구간의 합계. 일자별 작성 수는 0 아래로 내려가지 않는다.
+     */
+    public synchronized int sum(long fromDay, long toDay) {
+        int total = 0;
+        for (long day = fromDay; day <= toDay; day++) {
+            int slot = slotOf(day);
+            if (days[slot] == day) {
+                total += Math.max(0, stored[slot] + pending[slot]);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 해당 날짜의 슬롯. 다른 날짜가 쓰던 슬롯이면 비우고, 더 최근 날짜가 쓰고 있으면 -1.
+     */
+    private int slotFor(long epochDay) {
+        int slot = slotOf(epochDay);
+        if (days[slot] > epochDay) {
+            return -1;
+        }
+        if (days[slot] != epochDay) {
+            days[slot] = epochDay;
+            stored[slot] = 0;
+            pending[slot] = 0;
+        }
+        return slot;
+    }
+
+    private int slotOf(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) days.length);
+    }
+}
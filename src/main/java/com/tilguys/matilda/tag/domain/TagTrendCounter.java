@@ -0,0 +1,101 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.dto.TagTrendResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그별 일자 버킷 카운터 모음. 조회는 태그 수에 비례하며 tag 테이블을 읽지 않는다.
+ */
+public class TagTrendCounter {
+
+    private static final Comparator<TagTrendResponse> TREND_ORDER = Comparator
+            .comparingInt(TagTrendResponse::count)
+            .thenComparingInt(TagTrendResponse::delta)
+            .thenComparing(TagTrendResponse::tag, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final Map<String, TagTrendBuckets> buckets = new ConcurrentHashMap<>();
+
+    public TagTrendCounter() {
+        this(TagTrendWindow.maxBucketDays());
+    }
+
+    public TagTrendCounter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void increment(String tag, LocalDate day) {
+        add(tag, day.toEpochDay(), 1);
+    }
+
+    public void decrement(String tag, LocalDate day) {
+        add(tag, day.toEpochDay(), -1);
+    }
+
+    public void add(String tag, long epochDay, int delta) {
+        if (tag == null || tag.isBlank()) {
+            return;
+        }
+        buckets.computeIfAbsent(tag, key -> new TagTrendBuckets(capacity))
+                .add(epochDay, delta);
+    }
+
+    public void flushed(String tag, long epochDay, int delta) {
+        TagTrendBuckets tagBuckets = buckets.get(tag);
+        if (tagBuckets != null) {
+            tagBuckets.flushed(epochDay, delta);
+        }
+    }
+
+    /**
+     * Redis 에서 읽은 값으로 교체. 아직 Redis 에 반영되지 않은 로컬 증감은 유지된다.
+     */
+    public void restore(String tag, long epochDay, int count) {
+        if (tag == null || tag.isBlank()) {
+            return;
+        }
+        buckets.computeIfAbsent(tag, key -> new TagTrendBuckets(capacity))
+                .restore(epochDay, count);
+    }
+
+    /**
+     * 기간 내 작성 수 상위 태그와 직전 동일 기간 대비 증감.
+     */
+    public List<TagTrendResponse> top(TagTrendWindow window, LocalDate today, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long to = today.toEpochDay();
+        long from = to - window.getDays() + 1;
+        long previousTo = from - 1;
+        long previousFrom = previousTo - window.getDays() + 1;
+
+        PriorityQueue<TagTrendResponse> topTrends = new PriorityQueue<>(limit + 1, TREND_ORDER);
+        for (Map.Entry<String, TagTrendBuckets> entry : buckets.entrySet()) {
+            int count = entry.getValue().sum(from, to);
+            if (count == 0) {
+                continue;
+            }
+            int previousCount = entry.getValue().sum(previousFrom, previousTo);
+            topTrends.offer(new TagTrendResponse(entry.getKey(), count, previousCount, count - previousCount));
+            if (topTrends.size() > limit) {
+                topTrends.poll();
+            }
+        }
+
+        List<TagTrendResponse> result = new ArrayList<>(topTrends);
+        result.sort(TREND_ORDER.reversed());
+        return result;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,42 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.Arrays;
+
+public enum TagTrendWindow {
+    TODAY("1d", 1),
+    WEEK("7d", 7),
+    MONTH("30d", 30);
+
+    private final String expression;
+    private final int days;
+
+    TagTrendWindow(String expression, int days) {
+        this.expression = expression;
+        this.days = days;
+    }
+
+    public static TagTrendWindow from(String expression) {
+        return Arrays.stream(values())
+                .filter(window -> window.expression.equalsIgnoreCase(expression))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 기간입니다: " + expression));
+    }
+
+    /**
+     * 현재 기간과 직전 기간을 함께 비교하므로 링 버퍼는 가장 긴 기간의 두 배를 보관해야 한다.
+     */
+    public static int maxBucketDays() {
+        return Arrays.stream(values())
+                .mapToInt(window -> window.days)
+                .max()
+                .orElse(1) * 2;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public int getDays() {
+        return days;
+    }
+}
@@ -0,0 +1,6 @@
+package com.tilguys.matilda.tag.domain;
+
+public enum TagType {
+    CORE, // 핵심 태그
+    SUB   // 서브 태그
+}
@@ -0,0 +1,183 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * TIL 태그/서브태그 집합의 MinHash 서명을 LSH 밴드 버킷에 넣어 두고, 같은 버킷을 공유하는 후보만 비교한다.
+ * 태그+서브태그 집합이 5~15개 정도라 인기 태그 하나만 겹쳐도 자카드가 0.1 근처가 된다. 3행 x 21밴드로
+ * 문턱을 0.35 안팎에 두어 그런 TIL 은 대부분 같은 버킷에 들어오지 않게 하고, 그래도 후보가 많으면 MAX_CANDIDATES 에서 끊는다.
+ * 점수 계산은 후보 서명만 잠금 안에서 모은 뒤 잠금 밖에서 한다.
+ */
+public class TilSimilarityIndex {
+
+    private static final int NUM_HASHES = 64;
+    private static final int ROWS_PER_BAND = 3;
+    private static final int NUM_BANDS = NUM_HASHES / ROWS_PER_BAND;
+    private static final int DEFAULT_MAX_CANDIDATES = 500;
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(NUM_HASHES).toArray();
+
+    private final Map<Long, long[]> signatures = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+    private final int maxCandidates;
+
+    public TilSimilarityIndex() {
+        this(DEFAULT_MAX_CANDIDATES);
+    }
+
+    TilSimilarityIndex(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * 서명을 등록(또는 교체)하고 추천 결과가 바뀔 수 있는 TIL id 들을 반환.
+     */
+    public synchronized Set<Long> put(Long tilId, Collection<String> tags) {
+        Set<Long> affected = remove(tilId);
+        long[] signature = signature(tags);
+        if (signature == null) {
+            return affected;
+        }
+        signatures.put(tilId, signature);
+        for (int band = 0; band < NUM_BANDS; band++) {
+            Set<Long> bucket = buckets.computeIfAbsent(bandKey(signature, band), key -> new HashSet<>());
+            affected.addAll(bucket);
+            bucket.add(tilId);
+        }
+        affected.add(tilId);
+        return affected;
+    }
+
+    public synchronized Set<Long> remove(Long tilId) {
+        Set<Long> affected = new HashSet<>();
+        long[] signature = signatures.remove(tilId);
+        if (signature == null) {
+            return affected;
+        }
+        for (int band = 0; band < NUM_BANDS; band++) {
+            long key = bandKey(signature, band);
+            Set<Long> bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.remove(tilId);
+            affected.addAll(bucket);
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+        affected.add(tilId);
+        return affected;
+    }
+
+    /**
+     * 같은 버킷에 들어온 후보들의 추정 자카드 유사도 상위 limit 개. 후보는 밴드 순서대로 최대 maxCandidates 개까지만 본다.
+     */
+    public List<SimilarTil> related(Long tilId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long[] signature;
+        Map<Long, long[]> candidates = new HashMap<>();
+        synchronized (this) {
+            signature = signatures.get(tilId);
+            if (signature == null) {
+                return List.of();
+            }
+            collectCandidates(tilId, signature, candidates);
+        }
+
+        PriorityQueue<SimilarTil> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(SimilarTil::similarity));
+        for (Map.Entry<Long, long[]> candidate : candidates.entrySet()) {
+            top.offer(new SimilarTil(candidate.getKey(), estimate(signature, candidate.getValue())));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<SimilarTil> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(SimilarTil::similarity).reversed()
+                .thenComparing(SimilarTil::tilId, Comparator.reverseOrder()));
+        return result;
+    }
+
+    private void collectCandidates(Long tilId, long[] signature, Map<Long, long[]> candidates) {
+        for (int band = 0; band < NUM_BANDS; band++) {
+            for (Long candidate : buckets.getOrDefault(bandKey(signature, band), Set.of())) {
+                if (!candidate.equals(tilId)) {
+                    candidates.putIfAbsent(candidate, signatures.get(candidate));
+                }
+                if (candidates.size() >= maxCandidates) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return signatures.size();
+    }
+
+    private static long[] signature(Collection<String> tags) {
+        long[] signature = new long[NUM_HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        boolean hasElement = false;
+        for (String tag : tags) {
+            if (tag == null || tag.isBlank()) {
+                continue;
+            }
+            hasElement = true;
+            long base = fnv1a(tag.strip().toLowerCase(Locale.ROOT));
+            for (int i = 0; i < NUM_HASHES; i++) {
+                signature[i] = Math.min(signature[i], mix(base ^ SEEDS[i]));
+            }
+        }
+        return hasElement ? signature : null;
+    }
+
+    private static double estimate(long[] left, long[] right) {
+        int matches = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (left[i] == right[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / NUM_HASHES;
+    }
+
+    private static long bandKey(long[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+            key = mix(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
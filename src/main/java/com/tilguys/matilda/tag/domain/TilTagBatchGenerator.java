@@ -0,0 +1,73 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.common.external.prompt.PromptTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 짧은 TIL 여러 개를 한 번의 AI 호출로 태깅하는 프롬프트와 함수 스키마.
+ * 각 TIL 은 [TIL id=번호] 머리말로 구분하고, 결과는 tilId 별 태그/서브태그 목록으로 받는다.
+ */
+public class TilTagBatchGenerator {
+
+    private static final String DESCRIPTION = "description";
+    private static final String SYSTEM_PROMPT = "당신은 여러 TIL 을 각각 분석하여 관련 태그를 추출하고, 태그별로 서브태그를 만드는 전문가입니다.";
+    private static final String BATCH_PROMPT = """
+            아래에는 여러 개의 TIL 이 [TIL id=번호] 머리말로 구분되어 있습니다.
+            각 TIL 마다 다른 TIL 의 내용은 참고하지 말고 독립적으로 아래의 세 작업을 수행한 뒤, 결과의 tilId 에 머리말의 번호를 그대로 넣어 주세요:
+            A. 아래 '핵심 태그 후보들' 중에서 TIL과 연관성이 높은 핵심 태그를 최대 5개 추출해 주세요. **연관성 없는 태그는 제외**하며, 반드시 아래 목록에서만 선택해 주세요.
+            핵심 태그 후보:
+            %s
+            B. 위에서 추출한 각 핵심 태그에 대해 TIL과 관련된 서브 태그를 최대 5개씩 생성해 주세요. **실제 TIL 내용과 연관성이 있어야 하며, 의미 없는 일반 키워드는 제외**합니다.
+            C. A와 B에서 절대로 연관성,의미없는 태그를 생성하지마십시오.""";
+
+    private static final PromptTemplate TEMPLATE = new PromptTemplate(
+            SYSTEM_PROMPT,
+            BATCH_PROMPT.formatted(TilTagGenerator.CORE_TAG_CANDIDATES),
+            functionDefinition()
+    );
+
+    public PromptTemplate promptTemplate() {
+        return TEMPLATE;
+    }
+
+    public String createContent(Map<Long, String> tilContents) {
+        return tilContents.entrySet()
+                .stream()
+                .map(entry -> "[TIL id=" + entry.getKey() + "]\n" + entry.getValue())
+                .collect(Collectors.joining("\n\n"));
+    }
+
+    private static Map<String, Object> functionDefinition() {
+        Map<String, Object> properties = new HashMap<>(new TilTagGenerator().createProperties());
+        properties.put("tilId", Map.of(
+                "type", "integer",
+                DESCRIPTION, "결과가 속한 TIL 의 머리말 번호"
+        ));
+
+        Map<String, Object> parameters = Map.of(
+                "type", "object",
+                "properties", Map.of(
+                        "results", Map.of(
+                                "type", "array",
+                                DESCRIPTION, "TIL 별 태그 추출 결과",
+                                "items", Map.of(
+                                        "type", "object",
+                                        "properties", properties,
+                                        "required", List.of("tilId", "tags", "subTags")
+                                )
+                        )
+                ),
+                "required", List.of("results")
+        );
+
+        return Map.of(
+                "name", "extractTilTagsBatch",
+                DESCRIPTION, "여러 TIL 각각에서 관련 핵심,서브태그들을 추출합니다.",
+                "parameters", parameters
+        );
+    }
+}
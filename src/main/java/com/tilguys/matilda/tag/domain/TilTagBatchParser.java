@@ -0,0 +1,91 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.SubTagArgument;
+import com.tilguys.matilda.common.external.exception.OpenAIException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 묶음 태깅 응답을 tilId 별 ToolCallArguments 로 나눈다. tilId 나 tags 가 없는 항목은 버려
+ * 호출 측이 해당 TIL 만 단건 호출로 다시 처리하게 한다.
+ */
+public class TilTagBatchParser {
+
+    private final ObjectMapper objectMapper;
+
+    public TilTagBatchParser() {
+        this(new ObjectMapper());
+    }
+
+    public TilTagBatchParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Map<Long, ToolCallArguments> parse(String responseJson) {
+        try {
+            JsonNode results = readArguments(objectMapper.readTree(responseJson)).path("results");
+            if (!results.isArray()) {
+                throw new OpenAIException("Failed to process batch tag extraction response");
+            }
+            Map<Long, ToolCallArguments> parsed = new LinkedHashMap<>();
+            for (JsonNode result : results) {
+                JsonNode tilId = result.path("tilId");
+                JsonNode tags = result.path("tags");
+                if (!tilId.canConvertToLong() || !tags.isArray()) {
+                    continue;
+                }
+                parsed.putIfAbsent(tilId.asLong(), new ToolCallArguments(strings(tags), subTags(result.path("subTags")), null));
+            }
+            return parsed;
+        } catch (IOException e) {
+            throw new OpenAIException("Failed to process batch tag extraction response");
+        }
+    }
+
+    /**
+     * OpenAI 는 tool_calls 의 arguments 문자열, Claude 는 tool_use 블록의 input 객체.
+     */
+    private JsonNode readArguments(JsonNode root) throws IOException {
+        JsonNode arguments = root.path("choices").path(0)
+                .path("message").path("tool_calls").path(0)
+                .path("function").path("arguments");
+        if (arguments.isTextual()) {
+            return objectMapper.readTree(arguments.asText());
+        }
+        for (JsonNode content : root.path("content")) {
+            if ("tool_use".equals(content.path("type").asText())) {
+                return content.path("input");
+            }
+        }
+        throw new OpenAIException("Failed to process batch tag extraction response");
+    }
+
+    private List<String> strings(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        for (JsonNode value : array) {
+            if (value.isValueNode()) {
+                values.add(value.asText());
+            }
+        }
+        return values;
+    }
+
+    private List<SubTagArgument> subTags(JsonNode array) {
+        List<SubTagArgument> values = new ArrayList<>();
+        for (JsonNode value : array) {
+            JsonNode coreTag = value.path("coreTag");
+            JsonNode subTag = value.path("subTag");
+            if (coreTag.isValueNode() && subTag.isValueNode()) {
+                values.add(new SubTagArgument(coreTag.asText(), subTag.asText()));
+            }
+        }
+        return values;
+    }
+}
@@ -1,74 +1,65 @@
 package com.tilguys.matilda.tag.domain;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.SubTagArgument;
+import com.tilguys.matilda.common.external.decode.ToolCallDecoder;
 import com.tilguys.matilda.common.external.exception.OpenAIException;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 public class TilTagParser {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ToolCallDecoder toolCallDecoder;
 
-    public Set<String> parseTags(String responseJson) {
-        try {
-            JsonNode root = objectMapper.readTree(responseJson);
-
-            // tool_calls에서 arguments를 가져옴
-            String arguments = root.path("choices").get(0)
-                    .path("message").path("tool_calls").get(0)
-                    .path("function").path("arguments").asText();
+    public TilTagParser() {
+        this.toolCallDecoder = ToolCallDecoder.shared();
+    }
 
-            // arguments는 JSON 문자열이므로 이를 파싱
-            JsonNode argsNode = objectMapper.readTree(arguments);
-            JsonNode tagsNode = argsNode.get("tags");
+    public TilTagParser(ObjectMapper objectMapper) {
+        this.toolCallDecoder = new ToolCallDecoder(objectMapper);
+    }
 
-            // 반환할 태그 세트 생성
-            Set<String> tagSet = new HashSet<>();
+    /**
+     * OpenAI / Claude 응답을 한 번 디코딩해 태그와 서브태그 파싱에 함께 쓴다.
+     */
+    public ToolCallArguments decode(String responseJson) {
+        try {
+            return toolCallDecoder.decode(responseJson);
+        } catch (IOException e) {
+            throw new OpenAIException("Failed to process tag extraction response");
+        }
+    }
 
-            // JsonNode 배열을 순회하면서 태그 추가
-            for (JsonNode tagNode : tagsNode) {
-                tagSet.add(tagNode.asText().toLowerCase());
-            }
+    public Set<String> parseTags(String responseJson) {
+        return extractTags(decode(responseJson));
+    }
 
-            return tagSet;
-        } catch (JsonProcessingException e) {
+    public Set<String> extractTags(ToolCallArguments arguments) {
+        if (arguments.tags() == null) {
             throw new OpenAIException("Failed to process tag extraction response");
         }
+        Set<String> tagSet = new HashSet<>();
+        for (String tag : arguments.tags()) {
+            tagSet.add(tag.toLowerCase());
+        }
+        return tagSet;
     }
 
     public List<SubTag> parseSubTags(String responseJson, TilTags coreTags) {
-        try {
-            JsonNode root = objectMapper.readTree(responseJson);
-
-            // tool_calls에서 arguments를 가져옴
-            String arguments = root.path("choices").get(0)
-                    .path("message").path("tool_calls").get(0)
-                    .path("function").path("arguments").asText();
-
-            // arguments는 JSON 문자열이므로 이를 파싱
-            JsonNode argsNode = objectMapper.readTree(arguments);
-            JsonNode tagsNode = argsNode.get("subTags");
-
-            // 반환할 태그 세트 생성
-            List<SubTag> subTags = new ArrayList<>();
-
-            if (tagsNode == null) {
-                return new ArrayList<>();
-            }
-            // JsonNode 배열을 순회하면서 태그 추가
-            for (JsonNode node : tagsNode) {
-                String coreTagName = node.get("coreTag").asText();
-                String subTagName = node.get("subTag").asText();
-
-                subTags.add(new SubTag(coreTags.findTag(coreTagName), subTagName));
-            }
+        return extractSubTags(decode(responseJson), coreTags);
+    }
 
+    public List<SubTag> extractSubTags(ToolCallArguments arguments, TilTags coreTags) {
+        List<SubTag> subTags = new ArrayList<>();
+        if (arguments.subTags() == null) {
             return subTags;
-        } catch (JsonProcessingException e) {
-            throw new OpenAIException("Failed to process tag extraction response");
         }
+        for (SubTagArgument subTag : arguments.subTags()) {
+            subTags.add(new SubTag(coreTags.findTag(subTag.coreTag()), subTag.subTag()));
+        }
+        return subTags;
     }
 }
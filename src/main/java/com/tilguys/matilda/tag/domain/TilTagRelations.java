@@ -16,6 +16,7 @@ public class TilTagRelations {
     private final Map<String, List<String>> keywordTagMap;
     private final Map<String, List<Long>> tagTilIdMap;
     private final Map<String, List<String>> tagRelationMap;
+    private TagGraphLayout graphLayout = TagGraphLayout.EMPTY;
 
     public TilTagRelations(List<Tag> tags, List<SubTag> subTags, Map<Tag, List<Tag>> tagRelationMap) {
         int estimatedSize = Math.max(16, tags.size() / 2);
@@ -26,6 +27,13 @@ public class TilTagRelations {
         this.tagTilIdMap = convertToTagTilId(keywordTagMap, coreTagFinder, estimatedSize);
     }
 
+    /**
+     * 백그라운드에서 계산한 그래프 좌표/클러스터를 스냅샷에 붙인다.
+     */
+    public void attachGraphLayout(TagGraphLayout graphLayout) {
+        this.graphLayout = graphLayout;
+    }
+
     private Map<String, List<Tag>> coreTagFinder(List<Tag> tags, int initialCapacity) {
         Map<String, List<Tag>> coreTagFinder = new HashMap<>(initialCapacity);
         for (Tag tag : tags) {
@@ -0,0 +1,127 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.dto.InterestResponse;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저별 태그 빈도 희소 벡터. 차원은 "CORE:태그" / "SUB:서브태그" 이며 작성일 기준으로 반감기 감쇠를 적용한다.
+ * 감쇠는 referenceDay 에 맞춰 lazy 하게 일괄 반영하며, 전체 스케일만 바뀌므로 코사인 유사도에는 영향이 없다.
+ */
+public class UserInterestProfile {
+
+    private static final double HALF_LIFE_DAYS = 30.0;
+    private static final double DECAY_RATE = Math.log(2) / HALF_LIFE_DAYS;
+    private static final double CORE_TAG_WEIGHT = 1.0;
+    private static final double SUB_TAG_WEIGHT = 0.5;
+    private static final double MIN_WEIGHT = 0.01;
+    private static final int MAX_DIMENSIONS = 200;
+    private static final String DIMENSION_DELIMITER = ":";
+
+    private final Long userId;
+    private final Map<String, Double> weights;
+    private long referenceDay;
+
+    public UserInterestProfile(Long userId, UserInterestSnapshot snapshot) {
+        this.userId = userId;
+        this.weights = new HashMap<>(snapshot.weights());
+        this.referenceDay = snapshot.referenceDay();
+    }
+
+    public static UserInterestProfile empty(Long userId, LocalDate today) {
+        return new UserInterestProfile(userId, new UserInterestSnapshot(today.toEpochDay(), Map.of()));
+    }
+
+    public synchronized void add(List<String> tags, List<String> subTags, LocalDate writtenDay, LocalDate today) {
+        apply(tags, subTags, writtenDay, today, 1);
+    }
+
+    public synchronized void remove(List<String> tags, List<String> subTags, LocalDate writtenDay, LocalDate today) {
+        apply(tags, subTags, writtenDay, today, -1);
+    }
+
+    private void apply(List<String> tags, List<String> subTags, LocalDate writtenDay, LocalDate today, int sign) {
+        decayTo(today.toEpochDay());
+        double recency = Math.exp(-DECAY_RATE * Math.max(0, referenceDay - writtenDay.toEpochDay()));
+        for (String tag : tags) {
+            weights.merge(dimension(TagType.CORE, tag), sign * CORE_TAG_WEIGHT * recency, Double::sum);
+        }
+        for (String subTag : subTags) {
+            weights.merge(dimension(TagType.SUB, subTag), sign * SUB_TAG_WEIGHT * recency, Double::sum);
+        }
+        prune();
+    }
+
+    private void decayTo(long day) {
+        if (day <= referenceDay) {
+            return;
+        }
+        double factor = Math.exp(-DECAY_RATE * (day - referenceDay));
+        weights.replaceAll((dimension, weight) -> weight * factor);
+        referenceDay = day;
+    }
+
+    private void prune() {
+        weights.values().removeIf(weight -> weight < MIN_WEIGHT);
+        if (weights.size() <= MAX_DIMENSIONS) {
+            return;
+        }
+        double threshold = weights.values()
+                .stream()
+                .sorted(Comparator.reverseOrder())
+                .skip(MAX_DIMENSIONS - 1L)
+                .findFirst()
+                .orElse(0.0);
+        weights.values().removeIf(weight -> weight < threshold);
+    }
+
+    public synchronized List<InterestResponse> topInterests(int limit) {
+        return weights.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> toInterest(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public double cosineSimilarity(UserInterestProfile other) {
+        return vector().cosineSimilarity(other.vector());
+    }
+
+    /**
+     * 두 프로필에 공통으로 등장하는 핵심 태그를 가중치 곱 순으로.
+     */
+    public List<String> commonCoreTags(UserInterestProfile other, int limit) {
+        return vector().commonCoreTags(other.vector(), limit);
+    }
+
+    public synchronized UserInterestVector vector() {
+        return new UserInterestVector(userId, weights);
+    }
+
+    public synchronized UserInterestSnapshot snapshot() {
+        return new UserInterestSnapshot(referenceDay, new HashMap<>(weights));
+    }
+
+    public synchronized boolean isEmpty() {
+        return weights.isEmpty();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    private static String dimension(TagType type, String tag) {
+        return type.name() + DIMENSION_DELIMITER + tag;
+    }
+
+    private static InterestResponse toInterest(String dimension, double weight) {
+        String[] parts = dimension.split(DIMENSION_DELIMITER, 2);
+        double score = Math.round(weight * 1000) / 1000.0;
+        return new InterestResponse(parts[1], TagType.valueOf(parts[0]), score);
+    }
+}
@@ -0,0 +1,10 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.Map;
+
+/**
+ * Redis 저장용 관심사 프로필 직렬화 형태.
+ */
+public record UserInterestSnapshot(long referenceDay, Map<String, Double> weights) {
+
+}
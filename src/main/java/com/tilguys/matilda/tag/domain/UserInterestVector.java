@@ -0,0 +1,83 @@
+package com.tilguys.matilda.tag.domain;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유사도 계산용 관심사 프로필의 불변 사본. 노름을 미리 계산해 두어 후보마다 맵을 복사하거나 다시 합산하지 않는다.
+ */
+public class UserInterestVector {
+
+    private static final String CORE_PREFIX = TagType.CORE.name() + ":";
+
+    private final Long userId;
+    private final Map<String, Double> weights;
+    private final double norm;
+
+    public UserInterestVector(Long userId, Map<String, Double> weights) {
+        this.userId = userId;
+        this.weights = Map.copyOf(weights);
+        double sum = 0;
+        for (double weight : this.weights.values()) {
+            sum += weight * weight;
+        }
+        this.norm = Math.sqrt(sum);
+    }
+
+    public double cosineSimilarity(UserInterestVector other) {
+        if (norm == 0 || other.norm == 0) {
+            return 0;
+        }
+        Map<String, Double> smaller = weights.size() <= other.weights.size() ? weights : other.weights;
+        Map<String, Double> larger = smaller == weights ? other.weights : weights;
+        double dot = 0;
+        for (Map.Entry<String, Double> entry : smaller.entrySet()) {
+            Double weight = larger.get(entry.getKey());
+            if (weight != null) {
+                dot += entry.getValue() * weight;
+            }
+        }
+        return dot / (norm * other.norm);
+    }
+
+    /**
+     * 두 프로필에 공통으로 등장하는 핵심 태그를 가중치 곱 순으로.
+     */
+    public List<String> commonCoreTags(UserInterestVector other, int limit) {
+        return weights.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().startsWith(CORE_PREFIX))
+                .filter(entry -> other.weights.containsKey(entry.getKey()))
+                .sorted(Comparator.comparingDouble(
+                        (Map.Entry<String, Double> entry) -> entry.getValue() * other.weights.get(entry.getKey())
+                ).reversed())
+                .limit(limit)
+                .map(entry -> entry.getKey().substring(CORE_PREFIX.length()))
+                .toList();
+    }
+
+    /**
+     * 후보 탐색에 쓸 가중치 상위 차원.
+     */
+    public List<String> topDimensions(int limit) {
+        return weights.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public Map<String, Double> getWeights() {
+        return weights;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public boolean isEmpty() {
+        return weights.isEmpty();
+    }
+}
@@ -0,0 +1,12 @@
+package com.tilguys.matilda.tag.dto;
+
+import java.util.List;
+
+public record SimilarCrewResponse(
+        Long userId,
+        String nickname,
+        String avatarUrl,
+        double similarity,
+        List<String> commonInterests
+) {
+}
@@ -0,0 +1,10 @@
+package com.tilguys.matilda.tag.dto;
+
+import com.tilguys.matilda.tag.domain.TagType;
+
+public record TagSuggestionResponse(
+        String tag,
+        TagType type,
+        int frequency
+) {
+}
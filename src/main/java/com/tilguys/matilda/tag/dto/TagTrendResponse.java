@@ -0,0 +1,9 @@
+package com.tilguys.matilda.tag.dto;
+
+public record TagTrendResponse(
+        String tag,
+        int count,
+        int previousCount,
+        int delta
+) {
+}
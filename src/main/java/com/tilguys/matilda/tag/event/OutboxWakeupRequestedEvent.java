@@ -0,0 +1,9 @@
+package com.tilguys.matilda.tag.event;
+
+import java.time.LocalDateTime;
+
+public record OutboxWakeupRequestedEvent(
+        LocalDateTime dueAt
+) {
+
+}
@@ -0,0 +1,40 @@
+package com.tilguys.matilda.tag.event;
+
+import com.tilguys.matilda.tag.service.RelatedTilService;
+import com.tilguys.matilda.til.event.TilDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedTilIndexListener {
+
+    private final RelatedTilService relatedTilService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTilTagsCreated(TilTagsCreatedEvent event) {
+        relatedTilService.index(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTilDeleted(TilDeletedEvent event) {
+        relatedTilService.remove(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Async("tagIndexTaskExecutor")
+    public void buildIndex() {
+        try {
+            relatedTilService.rebuild();
+        } catch (Exception e) {
+            log.error("관련 TIL 인덱스 초기 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.tilguys.matilda.tag.event;
+
+import com.tilguys.matilda.tag.service.TagCreationOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TagCreationOutboxListener {
+
+    private final TagCreationOutboxService tagCreationOutboxService;
+
+    /**
+     * Outbox 행이 커밋된 뒤 다른 스레드에서 처리해야 선점이 커밋 전 행을 기다리지 않고,
+     * AI 호출이 저장 트랜잭션에 묶이지 않는다. 이 이벤트는 tilTagTaskExecutor 작업 안에서도 발행되므로
+     * 별도 실행기에서 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Async("tagOutboxEventTaskExecutor")
+    public void handleTagCreationScheduled(TagCreationScheduledEvent event) {
+        tagCreationOutboxService.processEvent(event.outboxEventId());
+    }
+}
@@ -0,0 +1,7 @@
+package com.tilguys.matilda.tag.event;
+
+public record TagCreationScheduledEvent(
+        Long outboxEventId
+) {
+
+}
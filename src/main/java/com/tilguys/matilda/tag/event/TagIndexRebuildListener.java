@@ -0,0 +1,47 @@
+package com.tilguys.matilda.tag.event;
+
+import com.tilguys.matilda.tag.cache.RecentTilTagsCacheService;
+import com.tilguys.matilda.tag.service.RecentTilTagsProvider;
+import com.tilguys.matilda.tag.service.TagSuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 스냅샷이 갱신되면 요청 스레드와 분리된 스레드에서 메모리 인덱스를 다시 만든다.
+ * 스냅샷 갱신 잡이 꺼져 있거나 아직 돌지 않은 기동 직후에도 자동완성이 비지 않도록 기동 시 한 번 구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagIndexRebuildListener {
+
+    private final TagSuggestionService tagSuggestionService;
+    private final RecentTilTagsCacheService recentTilTagsCacheService;
+    private final RecentTilTagsProvider recentTilTagsProvider;
+
+    @EventListener
+    @Async("tagIndexTaskExecutor")
+    public void handleTagSnapshotRefreshed(TagSnapshotRefreshedEvent event) {
+        try {
+            tagSuggestionService.rebuild(event.tilTagRelations());
+        } catch (Exception e) {
+            log.error("태그 자동완성 인덱스 재생성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Async("tagIndexTaskExecutor")
+    public void buildIndex() {
+        try {
+            tagSuggestionService.rebuild(
+                    recentTilTagsCacheService.getRecentTagRelations(recentTilTagsProvider::load)
+            );
+        } catch (Exception e) {
+            log.error("태그 자동완성 인덱스 초기 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.tilguys.matilda.tag.event;
+
+import com.tilguys.matilda.tag.domain.TilTagRelations;
+
+public record TagSnapshotRefreshedEvent(TilTagRelations tilTagRelations) {
+
+}
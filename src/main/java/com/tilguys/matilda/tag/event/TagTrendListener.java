@@ -0,0 +1,25 @@
+package com.tilguys.matilda.tag.event;
+
+import com.tilguys.matilda.tag.service.TagTrendService;
+import com.tilguys.matilda.til.event.TilDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class TagTrendListener {
+
+    private final TagTrendService tagTrendService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTilTagsCreated(TilTagsCreatedEvent event) {
+        tagTrendService.recordCreated(event.tags(), event.createdDate());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTilDeleted(TilDeletedEvent event) {
+        tagTrendService.recordDeleted(event.tags(), event.createdDate());
+    }
+}
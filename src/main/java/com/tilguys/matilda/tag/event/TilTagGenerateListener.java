@@ -1,5 +1,6 @@
 package com.tilguys.matilda.tag.event;
 
+import com.tilguys.matilda.enrichment.service.TilEnrichmentService;
 import com.tilguys.matilda.tag.service.TilTagService;
 import com.tilguys.matilda.til.event.TilCreatedEvent;
 import org.slf4j.Logger;
@@ -14,19 +15,28 @@ public class TilTagGenerateListener {
 
     private static final Logger log = LoggerFactory.getLogger(TilTagGenerateListener.class);
     private final TilTagService tilTagService;
+    private final TilEnrichmentService tilEnrichmentService;
 
-    public TilTagGenerateListener(TilTagService tilTagService) {
+    public TilTagGenerateListener(TilTagService tilTagService, TilEnrichmentService tilEnrichmentService) {
         this.tilTagService = tilTagService;
+        this.tilEnrichmentService = tilEnrichmentService;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async("tilTagTaskExecutor")
     public void handleTilReferenceExtractionRequested(TilCreatedEvent tilCreatedEvent) {
         log.debug("TIL 태그 추출 시작");
-        
+
+        try {
+            // AI 응답 전에도 태그가 보이도록 키워드 규칙으로 임시 태그를 먼저 붙인다
+            tilTagService.createProvisionalTags(tilCreatedEvent);
+        } catch (Exception e) {
+            log.warn("Provisional tag creation failed for TIL {}: {}", tilCreatedEvent.getTilId(), e.getMessage());
+        }
+
         try {
-            // 먼저 직접 Failover AI 호출 시도
-            tilTagService.createTagsDirect(tilCreatedEvent);
+            // 태그와 레퍼런스를 한 번의 Failover AI 호출로 생성
+            tilEnrichmentService.enrich(tilCreatedEvent);
             log.info("Tag creation succeeded immediately for TIL {}", tilCreatedEvent.getTilId());
             
         } catch (Exception e) {
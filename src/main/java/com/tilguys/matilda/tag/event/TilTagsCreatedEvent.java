@@ -0,0 +1,15 @@
+package com.tilguys.matilda.tag.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TilTagsCreatedEvent(
+        Long tilId,
+        Long userId,
+        List<String> tags,
+        List<String> subTags,
+        boolean publicTil,
+        LocalDate createdDate
+) {
+
+}
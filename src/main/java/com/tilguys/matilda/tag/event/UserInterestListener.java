@@ -0,0 +1,40 @@
+package com.tilguys.matilda.tag.event;
+
+import com.tilguys.matilda.tag.service.UserInterestService;
+import com.tilguys.matilda.til.event.TilDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserInterestListener {
+
+    private final UserInterestService userInterestService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTilTagsCreated(TilTagsCreatedEvent event) {
+        userInterestService.recordCreated(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTilDeleted(TilDeletedEvent event) {
+        userInterestService.recordDeleted(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Async("tagIndexTaskExecutor")
+    public void bootstrap() {
+        try {
+            userInterestService.bootstrap();
+        } catch (Exception e) {
+            log.error("관심사 프로필 초기 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
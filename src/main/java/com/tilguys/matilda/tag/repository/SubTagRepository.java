@@ -18,4 +18,11 @@ public interface SubTagRepository extends JpaRepository<SubTag, Long> {
                 WHERE st.createdAt >= :start
             """)
     List<SubTag> findByCreatedAtGreaterThanEqual(@Param("start") LocalDateTime recent);
+
+    @Query("""
+                SELECT st FROM SubTag st
+                JOIN FETCH st.tag t
+                WHERE t.til.tilId = :tilId
+            """)
+    List<SubTag> findByTilId(@Param("tilId") Long tilId);
 }
@@ -1,36 +1,151 @@
 package com.tilguys.matilda.tag.repository;
 
 import com.tilguys.matilda.tag.domain.OutboxEventStatus;
+import com.tilguys.matilda.tag.domain.OutboxLane;
 import com.tilguys.matilda.tag.domain.TagCreationOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TagCreationOutboxEventRepository extends JpaRepository<TagCreationOutboxEvent, Long> {
 
+    // Hibernate 에서 잠금 대기 시간 -2 는 SKIP LOCKED 로 변환된다
+    String SKIP_LOCKED = "-2";
+
     /**
-     * 처리 대기중인 이벤트들을 스케줄 시간 순으로 조회
+     * 처리 대기중이거나 선점이 만료된 이벤트를 스케줄 시간 순으로 잠가 조회 (FOR UPDATE SKIP LOCKED).
+     * 다른 작업자가 잠근 행은 기다리지 않고 건너뛴다.
      */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
     @Query("SELECT e FROM TagCreationOutboxEvent e " +
-            "WHERE e.status = 'PENDING' " +
-            "AND e.scheduledAt <= :now " +
+            "WHERE (e.status = 'PENDING' AND e.scheduledAt <= :now) " +
+            "OR (e.status = 'PROCESSING' AND e.leaseExpiresAt < :now) " +
             "ORDER BY e.scheduledAt ASC")
-    List<TagCreationOutboxEvent> findPendingEvents(@Param("now") LocalDateTime now);
+    List<TagCreationOutboxEvent> findClaimableEvents(@Param("now") LocalDateTime now, Pageable pageable);
 
     /**
-     * 재시도 가능한 실패 이벤트들 조회
+     * 차선 하나에서 선점 가능한 이벤트를 잠가 조회 (FOR UPDATE SKIP LOCKED)
      */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
     @Query("SELECT e FROM TagCreationOutboxEvent e " +
-            "WHERE e.status = 'FAILED' " +
-            "AND e.retryCount < 2 " +
-            "AND e.scheduledAt <= :now " +
+            "WHERE e.lane = :lane " +
+            "AND ((e.status = 'PENDING' AND e.scheduledAt <= :now) " +
+            "OR (e.status = 'PROCESSING' AND e.leaseExpiresAt < :now)) " +
             "ORDER BY e.scheduledAt ASC")
-    List<TagCreationOutboxEvent> findRetryableFailedEvents(@Param("now") LocalDateTime now);
+    List<TagCreationOutboxEvent> findClaimableEventsInLane(
+            @Param("now") LocalDateTime now,
+            @Param("lane") OutboxLane lane,
+            Pageable pageable
+    );
+
+    /**
+     * 다음에 처리할 시각. 대기 이벤트는 스케줄 시각, 처리 중 이벤트는 선점 만료 시각 중 가장 이른 값
+     */
+    @Query("SELECT MIN(CASE WHEN e.status = 'PENDING' THEN e.scheduledAt ELSE e.leaseExpiresAt END) " +
+            "FROM TagCreationOutboxEvent e " +
+            "WHERE e.status IN ('PENDING', 'PROCESSING')")
+    LocalDateTime findNextDueAt();
+
+    /**
+     * 차선별 처리 대기 건수와 가장 오래된 스케줄 시각
+     */
+    @Query("SELECT e.lane, COUNT(e), MIN(e.scheduledAt) FROM TagCreationOutboxEvent e " +
+            "WHERE e.status = 'PENDING' " +
+            "AND e.scheduledAt <= :now " +
+            "GROUP BY e.lane")
+    List<Object[]> getBacklogByLane(@Param("now") LocalDateTime now);
+
+    /**
+     * 단건 이벤트 선점. 이미 다른 작업자가 가져갔으면 0건
+     */
+    @Modifying
+    @Query("UPDATE TagCreationOutboxEvent e " +
+            "SET e.status = 'PROCESSING', e.lockedBy = :workerId, e.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE e.id = :id AND e.status = 'PENDING'")
+    int claimPendingEvent(
+            @Param("id") Long id,
+            @Param("workerId") String workerId,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
+
+    /**
+     * 아직 이 작업자의 선점이면 완료로 바꾸고 선점을 푼다. 선점을 잃었으면 0건
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TagCreationOutboxEvent e " +
+            "SET e.status = 'COMPLETED', e.processedAt = :processedAt, e.lockedBy = NULL, e.leaseExpiresAt = NULL " +
+            "WHERE e.id = :id AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int completeIfClaimedBy(
+            @Param("id") Long id,
+            @Param("workerId") String workerId,
+            @Param("processedAt") LocalDateTime processedAt
+    );
+
+    /**
+     * 아직 이 작업자의 선점이면 재시도 차선으로 다시 스케줄하고 선점을 푼다. 선점을 잃었으면 0건
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TagCreationOutboxEvent e " +
+            "SET e.status = 'PENDING', e.lane = 'RETRY', e.retryCount = :retryCount, " +
+            "e.errorMessage = :errorMessage, e.scheduledAt = :scheduledAt, e.lockedBy = NULL, e.leaseExpiresAt = NULL " +
+            "WHERE e.id = :id AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int rescheduleIfClaimedBy(
+            @Param("id") Long id,
+            @Param("workerId") String workerId,
+            @Param("retryCount") int retryCount,
+            @Param("errorMessage") String errorMessage,
+            @Param("scheduledAt") LocalDateTime scheduledAt
+    );
+
+    /**
+     * 아직 이 작업자의 선점이면 실패로 바꾸고 선점을 푼다. 선점을 잃었으면 0건
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TagCreationOutboxEvent e " +
+            "SET e.status = 'FAILED', e.retryCount = :retryCount, e.errorMessage = :errorMessage, " +
+            "e.processedAt = :processedAt, e.lockedBy = NULL, e.leaseExpiresAt = NULL " +
+            "WHERE e.id = :id AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int failIfClaimedBy(
+            @Param("id") Long id,
+            @Param("workerId") String workerId,
+            @Param("retryCount") int retryCount,
+            @Param("errorMessage") String errorMessage,
+            @Param("processedAt") LocalDateTime processedAt
+    );
+
+    /**
+     * 재시도를 포기한 뒤 규칙 기반 태그로 마무리한 이벤트를 완료로 바꾼다. FAILED 행은 선점되지 않으므로 실패로 바꾼 작업자만 호출한다
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TagCreationOutboxEvent e SET e.status = 'COMPLETED', e.processedAt = :processedAt " +
+            "WHERE e.id = :id AND e.status = 'FAILED'")
+    int completeFailedEvent(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 처리 중인 이벤트의 선점 만료 시각을 늘린다. 이미 다른 작업자에게 넘어간 행은 건드리지 않는다
+     */
+    @Modifying
+    @Query("UPDATE TagCreationOutboxEvent e SET e.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE e.id IN :ids AND e.lockedBy = :workerId AND e.status = 'PROCESSING'")
+    int renewLeases(
+            @Param("ids") Collection<Long> ids,
+            @Param("workerId") String workerId,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
 
     /**
      * 특정 TIL의 처리 상태 확인
@@ -38,12 +153,16 @@ public interface TagCreationOutboxEventRepository extends JpaRepository<TagCreat
     List<TagCreationOutboxEvent> findByTilIdAndStatus(Long tilId, OutboxEventStatus status);
 
     /**
-     * 오래된 완료/실패 이벤트 정리용
+     * 오래된 완료/실패 이벤트 정리용. TEXT 컬럼을 읽지 않도록 ID 만 조회한다
      */
-    @Query("SELECT e FROM TagCreationOutboxEvent e " +
+    @Query("SELECT e.id FROM TagCreationOutboxEvent e " +
             "WHERE e.status IN ('COMPLETED', 'FAILED') " +
             "AND e.processedAt < :cutoffDate")
-    List<TagCreationOutboxEvent> findOldProcessedEvents(@Param("cutoffDate") LocalDateTime cutoffDate);
+    List<Long> findOldProcessedEventIds(@Param("cutoffDate") LocalDateTime cutoffDate, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TagCreationOutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
 
     /**
      * 특정 기간 내 이벤트 통계
@@ -0,0 +1,49 @@
+package com.tilguys.matilda.tag.repository;
+
+import com.tilguys.matilda.tag.domain.TagGenerationClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TagGenerationClaimRepository extends JpaRepository<TagGenerationClaim, Long> {
+
+    /**
+     * 같은 내용으로 완료됐거나 다른 작업자가 선점 유효 시간 안에 생성 중이면 갱신하지 않는다
+     */
+    @Modifying
+    @Query("UPDATE TagGenerationClaim c " +
+            "SET c.contentHash = :contentHash, c.status = 'CLAIMED', c.claimedAt = :now, c.completedAt = null " +
+            "WHERE c.tilId = :tilId " +
+            "AND NOT (c.status = 'COMPLETED' AND c.contentHash = :contentHash) " +
+            "AND NOT (c.status = 'CLAIMED' AND c.claimedAt > :staleBefore)")
+    int claim(
+            @Param("tilId") Long tilId,
+            @Param("contentHash") String contentHash,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+
+    /**
+     * 같은 내용으로 이미 완료된 기록이 있으면 0건을 반환한다
+     */
+    @Modifying
+    @Query("UPDATE TagGenerationClaim c " +
+            "SET c.contentHash = :contentHash, c.status = 'COMPLETED', c.completedAt = :now " +
+            "WHERE c.tilId = :tilId " +
+            "AND NOT (c.status = 'COMPLETED' AND c.contentHash = :contentHash)")
+    int complete(
+            @Param("tilId") Long tilId,
+            @Param("contentHash") String contentHash,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("UPDATE TagGenerationClaim c SET c.status = 'RELEASED' " +
+            "WHERE c.tilId = :tilId AND c.status = 'CLAIMED'")
+    int release(@Param("tilId") Long tilId);
+}
@@ -0,0 +1,140 @@
+package com.tilguys.matilda.tag.schedule;
+
+import com.tilguys.matilda.tag.event.OutboxWakeupRequestedEvent;
+import com.tilguys.matilda.tag.service.TagCreationOutboxService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태그 생성 Outbox 를 다음 처리 예정 시각에 맞춰 깨운다. 타이머는 가장 이른 시각 하나만 걸어 두고,
+ * 더 이른 요청이 오면 다시 건다. 처리를 마치면 DB 에서 다음 예정 시각을 읽어 타이머를 건다.
+ * 재시도 예약은 Redis Pub/Sub 으로 다른 노드에도 알리고, 고정 주기 폴링은 유실 대비용으로만 남긴다.
+ */
+@Slf4j
+@Component
+public class TagOutboxWakeupScheduler implements MessageListener {
+
+    // 다른 노드가 잠근 행처럼 바로 가져갈 수 없는 이벤트 때문에 쉬지 않고 깨어나는 것을 막는다
+    private static final long MIN_REARM_DELAY_MILLIS = 1000;
+
+    private final TagCreationOutboxService tagCreationOutboxService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String topic;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("TagOutboxWakeup").daemon().factory()
+    );
+
+    private ScheduledFuture<?> armed;
+    private long armedAtMillis = Long.MAX_VALUE;
+
+    public TagOutboxWakeupScheduler(
+            TagCreationOutboxService tagCreationOutboxService,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${matilda.tag.outbox.wakeup.topic:tag:outbox:wakeup}") String topic
+    ) {
+        this.tagCreationOutboxService = tagCreationOutboxService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.topic = topic;
+    }
+
+    /**
+     * 이미 같은 시각이나 더 이른 시각으로 걸려 있으면 그대로 둔다.
+     */
+    public synchronized void wakeAt(long dueMillis) {
+        if (armed != null && armedAtMillis <= dueMillis) {
+            return;
+        }
+        if (armed != null) {
+            armed.cancel(false);
+        }
+        armedAtMillis = dueMillis;
+        long delayMillis = Math.max(0, dueMillis - System.currentTimeMillis());
+        armed = timer.schedule(this::drain, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized long armedAtMillis() {
+        return armedAtMillis;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleWakeupRequested(OutboxWakeupRequestedEvent event) {
+        long dueMillis = toEpochMillis(event.dueAt());
+        wakeAt(dueMillis);
+        publish(dueMillis);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            wakeAt(Long.parseLong(payload.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed outbox wakeup message: {}", payload);
+        }
+    }
+
+    /**
+     * 알림 유실이나 다른 노드의 선점 만료에 대비한 저빈도 폴링.
+     */
+    @Scheduled(fixedDelayString = "${matilda.tag.outbox.safety-poll-millis:600000}")
+    public void safetyPoll() {
+        wakeAt(System.currentTimeMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void drain() {
+        synchronized (this) {
+            armed = null;
+            armedAtMillis = Long.MAX_VALUE;
+        }
+        try {
+            tagCreationOutboxService.processPendingEvents();
+        } catch (Exception e) {
+            log.error("Outbox drain failed", e);
+        }
+
+        try {
+            tagCreationOutboxService.nextDueAt().ifPresent(dueAt -> wakeAt(Math.max(
+                    toEpochMillis(dueAt),
+                    System.currentTimeMillis() + MIN_REARM_DELAY_MILLIS
+            )));
+        } catch (Exception e) {
+            log.warn("Failed to look up next outbox due time: {}", e.getMessage());
+        }
+    }
+
+    private void publish(long dueMillis) {
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(topic, String.valueOf(dueMillis));
+        } catch (Exception e) {
+            log.debug("Failed to publish outbox wakeup: {}", e.getMessage());
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -4,9 +4,11 @@ package com.tilguys.matilda.tag.schedule;
 import com.tilguys.matilda.common.cache.CacheInvalidationPublisher;
 import com.tilguys.matilda.tag.cache.RecentTilTagsCacheService;
 import com.tilguys.matilda.tag.domain.TilTagRelations;
+import com.tilguys.matilda.tag.event.TagSnapshotRefreshedEvent;
 import com.tilguys.matilda.tag.service.RecentTilTagsProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -22,15 +24,18 @@ public class TagScheduledJob {
     private final RecentTilTagsProvider recentTilTagsProvider;
     private final RecentTilTagsCacheService recentTilTagsCacheService;
     private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TagScheduledJob(
             RecentTilTagsProvider recentTilTagsProvider,
             RecentTilTagsCacheService recentTilTagsCacheService,
-            CacheInvalidationPublisher cacheInvalidationPublisher
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.recentTilTagsProvider = recentTilTagsProvider;
         this.recentTilTagsCacheService = recentTilTagsCacheService;
         this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.eventPublisher = eventPublisher;
     }
 
     @Scheduled(cron = "0 */30 * * * *")
@@ -39,6 +44,7 @@ public class TagScheduledJob {
         TilTagRelations recentTagRelations = recentTilTagsProvider.load();
         recentTilTagsCacheService.updateRecentTagRelations(recentTagRelations);
         cacheInvalidationPublisher.publish(java.util.List.of("recent:til:relations"));
+        eventPublisher.publishEvent(new TagSnapshotRefreshedEvent(recentTagRelations));
         log.info("recent tag 관계 캐싱 완료" + recentTagRelations.getKeywordTagMap()
                 .size() + " " + recentTagRelations.getTagRelationMap()
                 .size() + " ");
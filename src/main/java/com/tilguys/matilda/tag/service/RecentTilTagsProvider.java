@@ -13,6 +13,7 @@ import java.util.Map;
 
 /**
  * 최근 태그/서브태그/관계 데이터를 DB에서 조회해 캐시로 공급하는 프로바이더.
+ * 스케줄 갱신과 캐시 미스 적재가 모두 이 로더를 거치므로 그래프 배치도 여기서 붙여 캐시되는 스냅샷마다 배치가 있게 한다.
  */
 @Slf4j
 @Component
@@ -23,6 +24,7 @@ public class RecentTilTagsProvider {
 
     private final TagRelationService tagRelationService;
     private final TilTagService tilTagService;
+    private final TagGraphLayoutService tagGraphLayoutService;
 
     public TilTagRelations load() {
         // 최신 코어 태그 관계 먼저 재계산
@@ -46,6 +48,8 @@ public class RecentTilTagsProvider {
         log.info("created tags size : {} subTags size : {} tagRelationMap size : {} ",
                 tags.size(), subTags.size(), tagRelationMap.size());
 
-        return new TilTagRelations(tags, subTags, tagRelationMap);
+        TilTagRelations tilTagRelations = new TilTagRelations(tags, subTags, tagRelationMap);
+        tagGraphLayoutService.attachLayout(tilTagRelations);
+        return tilTagRelations;
     }
 }
@@ -0,0 +1,164 @@
+package com.tilguys.matilda.tag.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tilguys.matilda.tag.domain.SimilarTil;
+import com.tilguys.matilda.tag.domain.SubTag;
+import com.tilguys.matilda.tag.domain.TilSimilarityIndex;
+import com.tilguys.matilda.tag.event.TilTagsCreatedEvent;
+import com.tilguys.matilda.til.domain.Tag;
+import com.tilguys.matilda.til.domain.Til;
+import com.tilguys.matilda.til.dto.RelatedTilResponse;
+import com.tilguys.matilda.til.event.TilDeletedEvent;
+import com.tilguys.matilda.til.repository.TilRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 공개 TIL 의 태그/서브태그 MinHash LSH 인덱스로 관련 TIL 을 찾고, 결과는 TIL 상세와 함께 로컬 캐시에 둔다.
+ * 인덱스는 태그 생성 이벤트로 증분 갱신하고, 다른 노드에서 생성된 태그는 주기적 재구성으로 맞춘다.
+ * 재구성 중에 들어온 증분 갱신은 따로 모아 두었다가 새 인덱스로 교체하기 직전에 다시 적용한다.
+ */
+@Slf4j
+@Service
+public class RelatedTilService {
+
+    private static final int RELATED_TIL_SIZE = 5;
+    private static final int CANDIDATE_SIZE = RELATED_TIL_SIZE * 2;
+    private static final int INDEX_DAYS = 365;
+
+    private final TilRepository tilRepository;
+    private final TilTagService tilTagService;
+    private final Cache<Long, List<RelatedTilResponse>> relatedTilCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .maximumSize(10_000)
+            .build();
+    private final Object indexLock = new Object();
+    private volatile TilSimilarityIndex index = new TilSimilarityIndex();
+    private List<Function<TilSimilarityIndex, Set<Long>>> changesDuringRebuild;
+
+    public RelatedTilService(TilRepository tilRepository, TilTagService tilTagService) {
+        this.tilRepository = tilRepository;
+        this.tilTagService = tilTagService;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RelatedTilResponse> getRelatedTils(Long tilId) {
+        return relatedTilCache.get(tilId, this::loadRelatedTils);
+    }
+
+    private List<RelatedTilResponse> loadRelatedTils(Long tilId) {
+        List<SimilarTil> similarTils = index.related(tilId, CANDIDATE_SIZE);
+        if (similarTils.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Til> tils = tilRepository.findAllById(similarTils.stream().map(SimilarTil::tilId).toList())
+                .stream()
+                .filter(til -> til.isNotDeleted() && til.isPublic())
+                .collect(Collectors.toMap(Til::getTilId, Function.identity()));
+
+        return similarTils.stream()
+                .filter(similarTil -> tils.containsKey(similarTil.tilId()))
+                .limit(RELATED_TIL_SIZE)
+                .map(similarTil -> {
+                    Til til = tils.get(similarTil.tilId());
+                    return new RelatedTilResponse(
+                            til.getTilId(),
+                            til.getTitle(),
+                            til.getTilUser().getNickname(),
+                            similarTil.similarity()
+                    );
+                })
+                .toList();
+    }
+
+    public void index(TilTagsCreatedEvent event) {
+        if (!event.publicTil()) {
+            apply(target -> target.remove(event.tilId()));
+            return;
+        }
+        List<String> elements = Stream.concat(event.tags().stream(), event.subTags().stream()).toList();
+        apply(target -> target.put(event.tilId(), elements));
+    }
+
+    public void remove(TilDeletedEvent event) {
+        apply(target -> target.remove(event.tilId()));
+    }
+
+    private void apply(Function<TilSimilarityIndex, Set<Long>> change) {
+        Set<Long> affected;
+        synchronized (indexLock) {
+            affected = change.apply(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+        relatedTilCache.invalidateAll(affected);
+    }
+
+    /**
+     * 최근 공개 TIL 로 인덱스를 새로 만들어 교체.
+     */
+    @Scheduled(fixedDelay = 1800000, initialDelay = 1800000)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (indexLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            TilSimilarityIndex rebuilt = buildIndex();
+            synchronized (indexLock) {
+                changesDuringRebuild.forEach(change -> change.apply(rebuilt));
+                index = rebuilt;
+            }
+            relatedTilCache.invalidateAll();
+            log.info("related til index rebuilt: {} tils in {}ms",
+                    rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            synchronized (indexLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    private TilSimilarityIndex buildIndex() {
+        LocalDate startDay = LocalDate.now().minusDays(INDEX_DAYS);
+
+        Map<Long, List<String>> elementsByTil = new HashMap<>();
+        for (Tag tag : tilTagService.getRecentWroteTags(startDay)) {
+            if (isIndexSource(tag.getTil())) {
+                elementsByTil.computeIfAbsent(tag.getTil().getTilId(), id -> new ArrayList<>())
+                        .add(tag.getTagString());
+            }
+        }
+        for (SubTag subTag : tilTagService.getRecentSubTags(startDay)) {
+            if (subTag.getTag() != null && isIndexSource(subTag.getTag().getTil())) {
+                elementsByTil.computeIfAbsent(subTag.getTag().getTil().getTilId(), id -> new ArrayList<>())
+                        .add(subTag.getSubTagContent());
+            }
+        }
+
+        TilSimilarityIndex rebuilt = new TilSimilarityIndex();
+        elementsByTil.forEach(rebuilt::put);
+        return rebuilt;
+    }
+
+    private boolean isIndexSource(Til til) {
+        return til != null && til.isNotDeleted() && til.isPublic();
+    }
+}
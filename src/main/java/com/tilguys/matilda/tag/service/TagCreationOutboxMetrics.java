@@ -0,0 +1,79 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.tag.domain.OutboxLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox 차선별 대기 건수(tag.outbox.queue.depth), 가장 오래 기다린 이벤트의 대기 시간(tag.outbox.queue.oldest.age)과
+ * 처리 결과별 처리량(tag.outbox.processed)을 노출한다. 대기 현황은 스케줄러가 주기적으로 집계해 갱신한다.
+ */
+@Component
+public class TagCreationOutboxMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<OutboxLane, AtomicLong> depths = new EnumMap<>(OutboxLane.class);
+    private final Map<OutboxLane, AtomicLong> oldestAgeSeconds = new EnumMap<>(OutboxLane.class);
+
+    public TagCreationOutboxMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (OutboxLane lane : OutboxLane.values()) {
+            AtomicLong depth = new AtomicLong();
+            AtomicLong oldestAge = new AtomicLong();
+            depths.put(lane, depth);
+            oldestAgeSeconds.put(lane, oldestAge);
+            Gauge.builder("tag.outbox.queue.depth", depth, AtomicLong::get)
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+            Gauge.builder("tag.outbox.queue.oldest.age", oldestAge, AtomicLong::get)
+                    .description("가장 오래 기다린 대기 이벤트의 대기 시간 (초)")
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 집계에 없는 차선은 비어 있는 것으로 본다.
+     */
+    public void updateBacklog(Map<OutboxLane, Backlog> backlogs, LocalDateTime now) {
+        for (OutboxLane lane : OutboxLane.values()) {
+            Backlog backlog = backlogs.get(lane);
+            if (backlog == null || backlog.depth() == 0) {
+                depths.get(lane).set(0);
+                oldestAgeSeconds.get(lane).set(0);
+                continue;
+            }
+            depths.get(lane).set(backlog.depth());
+            oldestAgeSeconds.get(lane).set(
+                    Math.max(0, Duration.between(backlog.oldestScheduledAt(), now).toSeconds())
+            );
+        }
+    }
+
+    public void recordProcessed(OutboxLane lane, String outcome) {
+        Counter.builder("tag.outbox.processed")
+                .tag("lane", lane.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public long depthOf(OutboxLane lane) {
+        return depths.get(lane).get();
+    }
+
+    public long totalDepth() {
+        return depths.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public record Backlog(long depth, LocalDateTime oldestScheduledAt) {
+    }
+}
@@ -1,53 +1,140 @@
 package com.tilguys.matilda.tag.service;
 
 import com.tilguys.matilda.common.dlq.service.DLQService;
+import com.tilguys.matilda.common.external.prompt.TokenEstimator;
+import com.tilguys.matilda.common.retention.ChunkedRetentionCleaner;
+import com.tilguys.matilda.common.retry.RetryDecision;
+import com.tilguys.matilda.common.retry.RetryPolicyRegistry;
+import com.tilguys.matilda.tag.config.TagOutboxConfiguration;
 import com.tilguys.matilda.tag.domain.OutboxEventStatus;
+import com.tilguys.matilda.tag.domain.OutboxLane;
 import com.tilguys.matilda.tag.domain.TagCreationOutboxEvent;
+import com.tilguys.matilda.tag.event.OutboxWakeupRequestedEvent;
+import com.tilguys.matilda.tag.event.TagCreationScheduledEvent;
 import com.tilguys.matilda.tag.repository.TagCreationOutboxEventRepository;
 import com.tilguys.matilda.til.event.TilCreatedEvent;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
 
 @Service
 public class TagCreationOutboxService {
 
     private static final Logger log = LoggerFactory.getLogger(TagCreationOutboxService.class);
+    private static final String EVENT_TYPE = "TAG_CREATION_OUTBOX";
 
     private final TagCreationOutboxEventRepository outboxRepository;
     private final TilTagService tilTagService;
     private final DLQService dlqService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagOutboxConfiguration configuration;
+    private final TagCreationOutboxMetrics metrics;
+    private final RetryPolicyRegistry retryPolicies;
+    private final ChunkedRetentionCleaner retentionCleaner;
+    private final Executor outboxTaskExecutor;
+    private final TransactionTemplate requiresNewTransaction;
+    private final String workerId;
+    private final Duration lease;
+    private final Set<Long> heldLeases = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("TagOutboxLeaseRenewer").daemon().factory()
+    );
 
     public TagCreationOutboxService(
             TagCreationOutboxEventRepository outboxRepository,
             @Lazy TilTagService tilTagService,
-            DLQService dlqService
+            DLQService dlqService,
+            ApplicationEventPublisher eventPublisher,
+            TagOutboxConfiguration configuration,
+            TagCreationOutboxMetrics metrics,
+            RetryPolicyRegistry retryPolicies,
+            ChunkedRetentionCleaner retentionCleaner,
+            @Qualifier("tagOutboxTaskExecutor") Executor outboxTaskExecutor,
+            PlatformTransactionManager transactionManager
     ) {
         this.outboxRepository = outboxRepository;
         this.tilTagService = tilTagService;
         this.dlqService = dlqService;
+        this.eventPublisher = eventPublisher;
+        this.configuration = configuration;
+        this.metrics = metrics;
+        this.retryPolicies = retryPolicies;
+        this.retentionCleaner = retentionCleaner;
+        this.outboxTaskExecutor = outboxTaskExecutor;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.workerId = createWorkerId();
+        this.lease = Duration.ofSeconds(configuration.getLeaseSeconds());
+        long renewIntervalMillis = Math.max(1000, lease.toMillis() / 3);
+        leaseRenewer.scheduleWithFixedDelay(
+                this::renewLeases, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS
+        );
     }
 
-    private static boolean validateEvent(Long eventId, TagCreationOutboxEvent event) {
-        if (event == null) {
-            log.warn("Outbox event {} not found", eventId);
-            return true;
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * 선점해 둔 이벤트(작업자 자리를 기다리는 것 포함)의 선점을 lease 의 1/3 주기로 연장해,
+     * AI 호출이 길어져도 처리 중에 다른 작업자가 가져가지 않게 한다.
+     */
+    private void renewLeases() {
+        if (heldLeases.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> ids = List.copyOf(heldLeases);
+            requiresNewTransaction.executeWithoutResult(status ->
+                    outboxRepository.renewLeases(ids, workerId, LocalDateTime.now().plus(lease))
+            );
+        } catch (Exception e) {
+            log.warn("Failed to renew outbox leases: {}", e.getMessage());
         }
+    }
 
-        if (event.getStatus() != OutboxEventStatus.PENDING) {
-            log.warn("Event {} is not pending (status: {}), skipping", eventId, event.getStatus());
-            return true;
+    private static String createWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
         }
-        return false;
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
     }
 
     /**
@@ -65,36 +152,54 @@ public class TagCreationOutboxService {
 
         outboxRepository.save(outboxEvent);
 
-        processEventAsync(outboxEvent.getId());
+        // 커밋 후 별도 스레드에서 선점·처리해 AI 호출이 이 트랜잭션의 커넥션을 잡지 않게 한다
+        eventPublisher.publishEvent(new TagCreationScheduledEvent(outboxEvent.getId()));
     }
 
     /**
-     * 비동기로 이벤트 처리
+     * 일괄 재생성용 이벤트 저장. 새 TIL 과 재시도보다 낮은 우선순위로 스케줄러가 처리한다.
      */
-    @Async
     @Transactional
-    public void processEventAsync(Long eventId) {
-        processEvent(eventId);
+    public void scheduleTagBackfill(TilCreatedEvent tilCreatedEvent) {
+        outboxRepository.save(TagCreationOutboxEvent.builder()
+                .tilId(tilCreatedEvent.getTilId())
+                .tilContent(tilCreatedEvent.getTilContent())
+                .userId(tilCreatedEvent.getUserId())
+                .status(OutboxEventStatus.PENDING)
+                .lane(OutboxLane.BACKFILL)
+                .scheduledAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new OutboxWakeupRequestedEvent(LocalDateTime.now()));
     }
 
     /**
-     * 개별 이벤트 처리
+     * 개별 이벤트를 선점해 처리. 대기 상태가 아니거나 다른 작업자가 가져갔으면 건너뛴다.
      */
-    @Transactional
     public void processEvent(Long eventId) {
-        TagCreationOutboxEvent event = outboxRepository.findById(eventId)
-                .orElse(null);
-
-        if (validateEvent(eventId, event)) {
+        TagCreationOutboxEvent event = claimEvent(eventId);
+        if (event == null) {
+            log.warn("Outbox event {} is not pending or already claimed, skipping", eventId);
             return;
         }
+        heldLeases.add(eventId);
+        try {
+            process(event);
+        } finally {
+            heldLeases.remove(eventId);
+        }
+    }
 
+    /**
+     * 선점한 이벤트 처리. 결과는 아직 이 작업자의 선점일 때만 조건부 UPDATE 로 기록하고,
+     * 처리 중 선점이 만료돼 다른 작업자가 가져갔으면 결과를 버린다.
+     */
+    private void process(TagCreationOutboxEvent event) {
+        Long eventId = event.getId();
+        OutboxLane lane = event.getLane();
+        Exception failure = null;
         try {
             log.info("Processing tag creation for TIL {} (event: {})", event.getTilId(), eventId);
 
-            event.markAsProcessing();
-            outboxRepository.save(event);
-
             TilCreatedEvent tilCreatedEvent = new TilCreatedEvent(
                     event.getTilId(),
                     event.getTilContent(),
@@ -102,97 +207,351 @@ public class TagCreationOutboxService {
             );
 
             tilTagService.createTagsDirect(tilCreatedEvent);
+        } catch (Exception e) {
+            failure = e;
+        }
 
-            event.markAsCompleted();
-            outboxRepository.save(event);
+        if (failure == null) {
+            if (completeIfClaimed(event)) {
+                recordFinished(event, "completed");
+                log.info("Tag creation completed for TIL {} (event: {})", event.getTilId(), eventId);
+            }
+            return;
+        }
 
-            log.info("Tag creation completed for TIL {} (event: {})", event.getTilId(), eventId);
+        log.error(
+                "Tag creation failed for TIL {} (event: {}): {}",
+                event.getTilId(), eventId, failure.getMessage(), failure
+        );
 
-        } catch (Exception e) {
-            log.error(
-                    "Tag creation failed for TIL {} (event: {}): {}",
-                    event.getTilId(), eventId, e.getMessage(), e
-            );
+        event.incrementRetryCount();
+        event.markAsFailed(failure.getMessage());
 
-            event.incrementRetryCount();
-            event.markAsFailed(e.getMessage());
-
-            // 재시도 가능하면 스케줄링, 아니면 DLQ로 전송
-            if (event.canRetry()) {
-                LocalDateTime nextRetry = LocalDateTime.now()
-                        .plusMinutes(5L * event.getRetryCount());
-                event.reschedule(nextRetry);
-                log.info(
-                        "Tag creation rescheduled for TIL {} at {} (retry: {})",
-                        event.getTilId(), nextRetry, event.getRetryCount()
-                );
-            } else {
-                sendToDLQ(event, e);
+        // 재시도 정책이 허용하면 백오프 후 다시 스케줄링, 아니면 규칙 기반 태그 또는 DLQ로 마무리
+        RetryDecision decision = retryPolicies.decide(
+                EVENT_TYPE, event.getRetryCount(), event.getCreatedAt(), failure
+        );
+        if (decision.shouldRetry()) {
+            if (updateInNewTransaction(() -> outboxRepository.rescheduleIfClaimedBy(eventId, workerId,
+                    event.getRetryCount(), event.getErrorMessage(), decision.nextAttemptAt())) != 1) {
+                onLeaseLost(event);
+                return;
             }
+            event.reschedule(decision.nextAttemptAt());
+            log.info(
+                    "Tag creation rescheduled for TIL {} at {} (retry: {})",
+                    event.getTilId(), decision.nextAttemptAt(), event.getRetryCount()
+            );
+            metrics.recordProcessed(lane, "rescheduled");
+            eventPublisher.publishEvent(new OutboxWakeupRequestedEvent(event.getScheduledAt()));
+            return;
+        }
 
-            outboxRepository.save(event);
+        if (updateInNewTransaction(() -> outboxRepository.failIfClaimedBy(eventId, workerId,
+                event.getRetryCount(), event.getErrorMessage(), event.getProcessedAt())) != 1) {
+            onLeaseLost(event);
+            return;
+        }
+        // FAILED 행은 다시 선점되지 않으므로 여기부터는 이 작업자만 이벤트를 마무리한다
+        if (createRuleBasedTags(event)) {
+            updateInNewTransaction(() -> outboxRepository.completeFailedEvent(eventId, LocalDateTime.now()));
+            event.markAsCompleted();
+            log.warn("Tag creation for TIL {} completed with rule-based tags after {} retries ({})",
+                    event.getTilId(), event.getRetryCount(), decision.verdict());
+            recordFinished(event, "rule_based");
+        } else {
+            log.warn("Giving up tag creation for TIL {} after {} retries ({})",
+                    event.getTilId(), event.getRetryCount(), decision.verdict());
+            sendToDLQ(event, failure);
+            recordFinished(event, "dlq");
         }
     }
 
     /**
-     * 주기적으로 대기 중인 이벤트들 처리
+     * 대기 중이거나 선점이 만료된 이벤트를 claimSize 건씩 선점해 작업자 풀에서 병렬 처리.
+     * 선점은 짧은 트랜잭션에서 SKIP LOCKED 로 가져오므로 여러 노드가 동시에 큐를 비워도 겹치지 않는다.
+     * 호출 시점은 TagOutboxWakeupScheduler 가 다음 처리 예정 시각에 맞춰 정한다.
      */
-    @Scheduled(fixedDelay = 30000) // 30초마다
-    @Transactional
     public void processPendingEvents() {
-        List<TagCreationOutboxEvent> pendingEvents =
-                outboxRepository.findPendingEvents(LocalDateTime.now());
+        refreshBacklogMetrics();
+        boolean backlogged = metrics.totalDepth() >= configuration.getBatch().getThreshold();
+
+        List<TagCreationOutboxEvent> claimedEvents;
+        do {
+            claimedEvents = claimEvents();
+            if (claimedEvents.isEmpty()) {
+                return;
+            }
 
-        if (!pendingEvents.isEmpty()) {
-            log.info("Processing {} pending tag creation events", pendingEvents.size());
+            log.info("Processing {} claimed tag creation events", claimedEvents.size());
+            List<Long> claimedIds = claimedEvents.stream().map(TagCreationOutboxEvent::getId).toList();
+            heldLeases.addAll(claimedIds);
+            try {
+                runOnWorkers(planTasks(claimedEvents, backlogged));
+            } finally {
+                claimedIds.forEach(heldLeases::remove);
+            }
+        } while (claimedEvents.size() == configuration.getClaimSize());
+    }
 
-            for (TagCreationOutboxEvent event : pendingEvents) {
-                try {
-                    processEvent(event.getId());
-                } catch (Exception e) {
-                    log.error("Failed to process pending event {}", event.getId(), e);
+    /**
+     * 차선별로 가중치 비율만큼 선점하고, 남은 자리는 차선과 관계없이 오래된 이벤트로 채운다.
+     * 돌려주는 목록은 차선 우선순위 순이다.
+     */
+    private List<TagCreationOutboxEvent> claimEvents() {
+        int claimSize = configuration.getClaimSize();
+        int totalWeight = configuration.totalLaneWeight();
+        return requiresNewTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<TagCreationOutboxEvent> claimed = new ArrayList<>(claimSize);
+            for (OutboxLane lane : OutboxLane.values()) {
+                int share = (int) Math.ceil((double) claimSize * configuration.weightOf(lane) / totalWeight);
+                int quota = Math.min(share, claimSize - claimed.size());
+                if (quota > 0) {
+                    claimed.addAll(outboxRepository.findClaimableEventsInLane(now, lane, PageRequest.of(0, quota)));
                 }
             }
+            claimed.forEach(event -> event.claim(workerId, now.plus(lease)));
+
+            int remaining = claimSize - claimed.size();
+            if (remaining > 0) {
+                // 이미 선점한 행이 다시 조회되지 않도록 먼저 반영
+                outboxRepository.flush();
+                List<TagCreationOutboxEvent> topUp =
+                        outboxRepository.findClaimableEvents(now, PageRequest.of(0, remaining));
+                topUp.forEach(event -> event.claim(workerId, now.plus(lease)));
+                claimed.addAll(topUp);
+            }
+
+            claimed.sort(Comparator.comparing(TagCreationOutboxEvent::getLane));
+            return claimed;
+        });
+    }
+
+    /**
+     * 새 TIL 은 지연을 줄이려 항상 단건으로 처리하고, 밀려 있을 때만 나머지 차선을 묶음 호출로 처리한다.
+     */
+    private List<Runnable> planTasks(List<TagCreationOutboxEvent> claimedEvents, boolean backlogged) {
+        List<Runnable> tasks = new ArrayList<>(claimedEvents.size());
+        List<TagCreationOutboxEvent> batchable = new ArrayList<>();
+        for (TagCreationOutboxEvent event : claimedEvents) {
+            if (backlogged && event.getLane() != OutboxLane.NEW) {
+                batchable.add(event);
+            } else {
+                tasks.add(() -> processClaimedEvent(event));
+            }
         }
+        tasks.addAll(planBatches(batchable));
+        return tasks;
     }
 
     /**
-     * 실패한 이벤트들 재시도
+     * 작업자 풀이 동시 실행 수를 제한하므로 제출 순서(차선 우선순위)대로 자리를 얻는다.
      */
-    @Scheduled(fixedDelay = 60000) // 1분마다
-    @Transactional
-    public void retryFailedEvents() {
-        List<TagCreationOutboxEvent> retryableEvents =
-                outboxRepository.findRetryableFailedEvents(LocalDateTime.now());
-
-        if (!retryableEvents.isEmpty()) {
-            log.info("Retrying {} failed tag creation events", retryableEvents.size());
-
-            for (TagCreationOutboxEvent event : retryableEvents) {
-                try {
-                    processEvent(event.getId());
-                } catch (Exception e) {
-                    log.error("Failed to retry event {}", event.getId(), e);
+    private void runOnWorkers(List<Runnable> tasks) {
+        CompletableFuture.allOf(tasks.stream()
+                        .map(task -> CompletableFuture.runAsync(task, outboxTaskExecutor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void refreshBacklogMetrics() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<OutboxLane, TagCreationOutboxMetrics.Backlog> backlogs = new EnumMap<>(OutboxLane.class);
+            for (Object[] row : outboxRepository.getBacklogByLane(now)) {
+                OutboxLane lane = row[0] == null ? OutboxLane.NEW : (OutboxLane) row[0];
+                TagCreationOutboxMetrics.Backlog backlog =
+                        new TagCreationOutboxMetrics.Backlog((Long) row[1], (LocalDateTime) row[2]);
+                backlogs.merge(lane, backlog, (a, b) -> new TagCreationOutboxMetrics.Backlog(
+                        a.depth() + b.depth(),
+                        a.oldestScheduledAt().isBefore(b.oldestScheduledAt()) ? a.oldestScheduledAt() : b.oldestScheduledAt()
+                ));
+            }
+            metrics.updateBacklog(backlogs, now);
+        } catch (Exception e) {
+            log.warn("Failed to refresh outbox backlog metrics: {}", e.getMessage());
+        }
+    }
+
+    private TagCreationOutboxEvent claimEvent(Long eventId) {
+        return requiresNewTransaction.execute(status -> {
+            if (outboxRepository.claimPendingEvent(eventId, workerId, LocalDateTime.now().plus(lease)) == 0) {
+                return null;
+            }
+            return outboxRepository.findById(eventId).orElse(null);
+        });
+    }
+
+    /**
+     * 짧은 TIL 을 batch.size 개 또는 batch.maxTokens 토큰까지 묶어 한 번에 태깅하는 작업으로 나눈다.
+     * 긴 TIL 과 묶음 결과에서 빠진 TIL 은 단건 처리로 넘긴다.
+     */
+    private List<Runnable> planBatches(List<TagCreationOutboxEvent> events) {
+        TagOutboxConfiguration.Batch settings = configuration.getBatch();
+        List<Runnable> tasks = new ArrayList<>();
+        List<TagCreationOutboxEvent> batch = new ArrayList<>(settings.getSize());
+        int batchTokens = 0;
+        for (TagCreationOutboxEvent event : events) {
+            int tokens = TokenEstimator.estimate(event.getTilContent());
+            if (tokens > settings.getMaxTilTokens()) {
+                tasks.add(() -> processClaimedEvent(event));
+                continue;
+            }
+            if (!batch.isEmpty() && (batch.size() >= settings.getSize()
+                    || batchTokens + tokens > settings.getMaxTokens())) {
+                List<TagCreationOutboxEvent> full = batch;
+                tasks.add(() -> processBatch(full));
+                batch = new ArrayList<>(settings.getSize());
+                batchTokens = 0;
+            }
+            batch.add(event);
+            batchTokens += tokens;
+        }
+        if (!batch.isEmpty()) {
+            List<TagCreationOutboxEvent> last = batch;
+            tasks.add(() -> processBatch(last));
+        }
+        return tasks;
+    }
+
+    private void processBatch(List<TagCreationOutboxEvent> batch) {
+        if (batch.size() == 1) {
+            processClaimedEvent(batch.get(0));
+            return;
+        }
+
+        // 다른 경로가 같은 내용으로 이미 태그를 저장한 TIL 은 AI 묶음에서 뺀다
+        List<TagCreationOutboxEvent> pending = new ArrayList<>(batch.size());
+        for (TagCreationOutboxEvent event : batch) {
+            if (tilTagService.isTagGenerationCompleted(event.getTilId(), event.getTilContent())) {
+                if (completeIfClaimed(event)) {
+                    recordFinished(event, "completed");
                 }
+            } else {
+                pending.add(event);
             }
         }
+        if (pending.size() <= 1) {
+            pending.forEach(this::processClaimedEvent);
+            return;
+        }
+
+        Map<Long, String> tilContents = new LinkedHashMap<>();
+        pending.forEach(event -> tilContents.putIfAbsent(event.getTilId(), event.getTilContent()));
+        Map<Long, String> responses;
+        try {
+            responses = tilTagService.requestTilTagResponseJsons(tilContents);
+        } catch (Exception e) {
+            log.warn("Batch tag creation failed for {} events, falling back to single calls: {}",
+                    pending.size(), e.getMessage());
+            responses = Map.of();
+        }
+
+        int completed = 0;
+        for (TagCreationOutboxEvent event : pending) {
+            String responseJson = responses.get(event.getTilId());
+            if (responseJson != null && completeWithResponse(event, responseJson)) {
+                completed++;
+            } else {
+                processClaimedEvent(event);
+            }
+        }
+        log.info("Batch tag creation completed {}/{} events in one AI call", completed, pending.size());
     }
 
     /**
-     * 오래된 이벤트 정리
+     * 선점 확인과 태그 저장을 한 트랜잭션에서 처리한다. 조건부 UPDATE 로 이 작업자의 선점일 때만 완료로 바꾸고,
+     * 정확히 한 행이 바뀐 경우에만 태그를 저장한다. 저장이 실패하면 완료 표시도 롤백돼 단건 처리로 넘어간다.
+     *
+     * @return 처리가 끝났으면(선점을 잃은 경우 포함) true, 단건 처리로 다시 시도해야 하면 false
+     */
+    private boolean completeWithResponse(TagCreationOutboxEvent event, String responseJson) {
+        boolean completed;
+        try {
+            completed = Boolean.TRUE.equals(requiresNewTransaction.execute(status -> {
+                if (outboxRepository.completeIfClaimedBy(event.getId(), workerId, LocalDateTime.now()) != 1) {
+                    return false;
+                }
+                tilTagService.createTagsFromResponse(event.getTilId(), event.getTilContent(), responseJson);
+                return true;
+            }));
+        } catch (Exception e) {
+            log.warn("Failed to save batched tags for TIL {} (event: {}): {}",
+                    event.getTilId(), event.getId(), e.getMessage());
+            return false;
+        }
+        if (!completed) {
+            onLeaseLost(event);
+            return true;
+        }
+        event.markAsCompleted();
+        recordFinished(event, "completed");
+        return true;
+    }
+
+    /**
+     * 이 작업자의 선점일 때만 완료로 기록. 선점을 잃었으면 false
+     */
+    private boolean completeIfClaimed(TagCreationOutboxEvent event) {
+        if (updateInNewTransaction(() ->
+                outboxRepository.completeIfClaimedBy(event.getId(), workerId, LocalDateTime.now())) != 1) {
+            onLeaseLost(event);
+            return false;
+        }
+        event.markAsCompleted();
+        return true;
+    }
+
+    /**
+     * 작업자 스레드에는 트랜잭션이 없으므로 조건부 UPDATE 는 짧은 새 트랜잭션에서 실행한다.
+     *
+     * @return 바뀐 행 수
+     */
+    private int updateInNewTransaction(IntSupplier update) {
+        Integer updated = requiresNewTransaction.execute(status -> update.getAsInt());
+        return updated == null ? 0 : updated;
+    }
+
+    private void onLeaseLost(TagCreationOutboxEvent event) {
+        log.warn("Lease on event {} was taken over by another worker, discarding result", event.getId());
+        metrics.recordProcessed(event.getLane(), "lease_lost");
+    }
+
+    /**
+     * 가장 이른 처리 예정 시각. 대기 이벤트는 스케줄 시각, 처리 중 이벤트는 선점 만료 시각을 본다.
+     */
+    public Optional<LocalDateTime> nextDueAt() {
+        return Optional.ofNullable(outboxRepository.findNextDueAt());
+    }
+
+    private void processClaimedEvent(TagCreationOutboxEvent event) {
+        try {
+            process(event);
+        } catch (Exception e) {
+            log.error("Failed to process claimed event {}", event.getId(), e);
+        }
+    }
+
+    /**
+     * 더 이상 재시도하지 않는 이벤트의 처리 결과와 누적 재시도 횟수를 기록
+     */
+    private void recordFinished(TagCreationOutboxEvent event, String outcome) {
+        metrics.recordProcessed(event.getLane(), outcome);
+        retryPolicies.recordFinished(EVENT_TYPE, outcome, event.getRetryCount());
+    }
+
+    /**
+     * 오래된 이벤트 정리. 행을 메모리에 올리지 않고 청크 단위로 지운다
      */
     @Scheduled(cron = "0 0 2 * * ?") // 매일 새벽 2시
-    @Transactional
     public void cleanupOldEvents() {
         LocalDateTime cutoffDate = LocalDateTime.now()
                 .minusDays(7);
-        List<TagCreationOutboxEvent> oldEvents =
-                outboxRepository.findOldProcessedEvents(cutoffDate);
-
-        if (!oldEvents.isEmpty()) {
-            log.info("Cleaning up {} old outbox events", oldEvents.size());
-            outboxRepository.deleteAll(oldEvents);
-        }
+        retentionCleaner.purge("tag_creation_outbox_events", chunkSize -> {
+            List<Long> ids = outboxRepository.findOldProcessedEventIds(cutoffDate, PageRequest.of(0, chunkSize));
+            return ids.isEmpty() ? 0 : outboxRepository.deleteAllByIds(ids);
+        });
     }
 
     /**
@@ -218,6 +577,17 @@ public class TagCreationOutboxService {
         }
     }
 
+    private boolean createRuleBasedTags(TagCreationOutboxEvent event) {
+        try {
+            return tilTagService.createRuleBasedTags(
+                    new TilCreatedEvent(event.getTilId(), event.getTilContent(), event.getUserId())
+            );
+        } catch (Exception e) {
+            log.warn("Rule-based tag fallback failed for TIL {}: {}", event.getTilId(), e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * 실패한 이벤트를 DLQ로 전송
      */
@@ -227,7 +597,7 @@ public class TagCreationOutboxService {
             String stackTrace = getStackTrace(exception);
 
             dlqService.sendToDLQ(
-                    "TAG_CREATION_OUTBOX",
+                    EVENT_TYPE,
                     event.getId(),
                     payload,
                     exception.getMessage(),
@@ -0,0 +1,138 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.common.external.cache.AIPromptVersion;
+import com.tilguys.matilda.tag.domain.TagGenerationClaim;
+import com.tilguys.matilda.tag.domain.TagGenerationClaimResult;
+import com.tilguys.matilda.tag.repository.TagGenerationClaimRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 리스너·Outbox·배치 경로가 같은 TIL 의 태그를 두 번 만들지 않도록 TIL 단위로 생성을 선점한다.
+ * 선점은 별도 트랜잭션에서 바로 커밋해 다른 노드에 보이게 하고, 완료 표시는 태그 저장과 같은 트랜잭션에서 기록한다.
+ * 선점한 작업자가 죽어도 leaseSeconds 가 지나면 다시 선점할 수 있다.
+ */
+@Slf4j
+@Service
+public class TagGenerationClaimService {
+
+    private final TagGenerationClaimRepository claimRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Duration lease;
+
+    public TagGenerationClaimService(
+            TagGenerationClaimRepository claimRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${matilda.tag.generation.claim-lease-seconds:300}") long leaseSeconds
+    ) {
+        this.claimRepository = claimRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * AI 호출 전에 태그 생성을 선점한다. DUPLICATE 면 AI 를 부르지 않고 건너뛰고,
+     * IN_PROGRESS 면 다른 작업자의 결과를 기다리도록 호출 측이 재시도해야 한다.
+     */
+    public TagGenerationClaimResult tryClaim(Long tilId, String tilContent) {
+        String contentHash = AIPromptVersion.contentHash(tilContent);
+        TagGenerationClaimResult result;
+        try {
+            result = requiresNewTransaction.execute(status -> claim(tilId, contentHash));
+        } catch (DataIntegrityViolationException e) {
+            // 처음 선점하는 행을 다른 노드가 먼저 넣었다
+            result = TagGenerationClaimResult.IN_PROGRESS;
+        }
+
+        claimCounter(result).increment();
+        if (result == TagGenerationClaimResult.DUPLICATE) {
+            duplicateCounter("ai_call").increment();
+            log.info("태그 생성 중복 요청 생략: tilId={}", tilId);
+        } else if (result == TagGenerationClaimResult.IN_PROGRESS) {
+            log.info("다른 작업자가 태그 생성 중: tilId={}", tilId);
+        }
+        return result;
+    }
+
+    /**
+     * 태그 저장 트랜잭션 안에서 완료를 기록한다. 같은 내용으로 이미 완료돼 있으면 false 를 반환하고
+     * 호출 측은 태그를 저장하지 않아야 한다.
+     */
+    @Transactional
+    public boolean complete(Long tilId, String tilContent) {
+        String contentHash = AIPromptVersion.contentHash(tilContent);
+        LocalDateTime now = LocalDateTime.now();
+        if (claimRepository.complete(tilId, contentHash, now) > 0) {
+            return true;
+        }
+        if (!claimRepository.existsById(tilId)) {
+            claimRepository.save(TagGenerationClaim.completed(tilId, contentHash, now));
+            return true;
+        }
+
+        duplicateCounter("write").increment();
+        log.info("태그 중복 저장 거부: tilId={}", tilId);
+        return false;
+    }
+
+    /**
+     * 생성이 실패하면 선점을 풀어 Outbox 재시도가 유효 시간을 기다리지 않게 한다.
+     */
+    public void release(Long tilId) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> claimRepository.release(tilId));
+        } catch (Exception e) {
+            log.warn("태그 생성 선점 해제 실패: tilId={}, {}", tilId, e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isCompleted(Long tilId, String tilContent) {
+        String contentHash = AIPromptVersion.contentHash(tilContent);
+        return claimRepository.findById(tilId)
+                .map(claim -> claim.isCompletedFor(contentHash))
+                .orElse(false);
+    }
+
+    private TagGenerationClaimResult claim(Long tilId, String contentHash) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!claimRepository.existsById(tilId)) {
+            claimRepository.saveAndFlush(TagGenerationClaim.claimed(tilId, contentHash, now));
+            return TagGenerationClaimResult.CLAIMED;
+        }
+        if (claimRepository.claim(tilId, contentHash, now, now.minus(lease)) > 0) {
+            return TagGenerationClaimResult.CLAIMED;
+        }
+        return claimRepository.findById(tilId)
+                .filter(claim -> claim.isCompletedFor(contentHash))
+                .map(claim -> TagGenerationClaimResult.DUPLICATE)
+                .orElse(TagGenerationClaimResult.IN_PROGRESS);
+    }
+
+    private Counter claimCounter(TagGenerationClaimResult result) {
+        return Counter.builder("tag.generation.claims")
+                .tag("result", result.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private Counter duplicateCounter(String stage) {
+        return Counter.builder("tag.generation.duplicates")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
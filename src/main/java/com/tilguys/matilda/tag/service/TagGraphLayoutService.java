@@ -0,0 +1,38 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.tag.domain.TagGraphLayout;
+import com.tilguys.matilda.tag.domain.TilTagRelations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 태그 관계 맵 버전별로 그래프 레이아웃을 한 번만 계산해 스냅샷에 붙인다.
+ * 관계가 바뀌지 않은 갱신 주기에는 직전 결과를 그대로 재사용한다.
+ */
+@Slf4j
+@Service
+public class TagGraphLayoutService {
+
+    private final AtomicReference<TagGraphLayout> latest = new AtomicReference<>(TagGraphLayout.EMPTY);
+
+    public void attachLayout(TilTagRelations tilTagRelations) {
+        tilTagRelations.attachGraphLayout(layoutOf(tilTagRelations));
+    }
+
+    private TagGraphLayout layoutOf(TilTagRelations tilTagRelations) {
+        long version = TagGraphLayout.versionOf(tilTagRelations.getTagRelationMap());
+        TagGraphLayout cached = latest.get();
+        if (cached.version() == version) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        TagGraphLayout computed = TagGraphLayout.of(tilTagRelations.getTagRelationMap());
+        latest.set(computed);
+        log.info("tag graph layout computed: {} nodes in {}ms",
+                computed.nodes().size(), (System.nanoTime() - start) / 1_000_000);
+        return computed;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.tag.domain.TagSuggestionTrie;
+import com.tilguys.matilda.tag.domain.TilTagRelations;
+import com.tilguys.matilda.tag.dto.TagSuggestionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 태그 스냅샷으로 만든 트라이를 원자적으로 교체하며 자동완성을 제공 (DB 접근 없음).
+ */
+@Slf4j
+@Service
+public class TagSuggestionService {
+
+    private final AtomicReference<TagSuggestionTrie> trie = new AtomicReference<>(TagSuggestionTrie.empty());
+
+    public List<TagSuggestionResponse> suggest(String query, int limit) {
+        return trie.get()
+                .suggest(query, Math.min(limit, TagSuggestionTrie.MAX_SUGGESTIONS));
+    }
+
+    public void rebuild(TilTagRelations tilTagRelations) {
+        long start = System.nanoTime();
+        TagSuggestionTrie rebuilt = TagSuggestionTrie.from(tilTagRelations);
+        trie.set(rebuilt);
+        log.info("tag suggestion trie rebuilt: {} terms in {}ms",
+                rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,113 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.tag.domain.TagTrendCounter;
+import com.tilguys.matilda.tag.domain.TagTrendWindow;
+import com.tilguys.matilda.tag.dto.TagTrendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일자별 태그 작성 수를 메모리 링 버퍼로 서빙하고, Redis(일자별 Hash)에 영속화.
+ * 로컬 카운트는 마지막으로 읽은 Redis 값에 아직 반영하지 못한 증감을 더한 값이고,
+ * 다른 노드에서 반영된 증감(삭제 포함)은 주기적으로 Redis 값을 다시 읽어 따라간다.
+ */
+@Slf4j
+@Service
+public class TagTrendService {
+
+    private static final String TREND_KEY_PREFIX = "tag:trend:";
+    private static final int BUCKET_DAYS = TagTrendWindow.maxBucketDays();
+    private static final Duration TREND_KEY_TTL = Duration.ofDays(BUCKET_DAYS + 1L);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TagTrendCounter counter = new TagTrendCounter(BUCKET_DAYS);
+
+    public TagTrendService(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public List<TagTrendResponse> getTrendingTags(String window, int limit) {
+        return counter.top(TagTrendWindow.from(window), LocalDate.now(), limit);
+    }
+
+    public void recordCreated(List<String> tags, LocalDate day) {
+        record(tags, day, 1);
+    }
+
+    public void recordDeleted(List<String> tags, LocalDate day) {
+        record(tags, day, -1);
+    }
+
+    private void record(List<String> tags, LocalDate day, int delta) {
+        if (tags == null || tags.isEmpty() || day == null || isOutOfRange(day)) {
+            return;
+        }
+        for (String tag : tags) {
+            counter.add(tag, day.toEpochDay(), delta);
+        }
+        persist(tags, day, delta);
+    }
+
+    private void persist(List<String> tags, LocalDate day, int delta) {
+        try {
+            String key = trendKey(day);
+            // 태그 수만큼의 HINCRBY 와 EXPIRE 를 한 번의 왕복으로 보낸다
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String tag : tags) {
+                    stringConnection.hIncrBy(key, tag, delta);
+                }
+                stringConnection.expire(key, TREND_KEY_TTL.toSeconds());
+                return null;
+            });
+            for (String tag : tags) {
+                counter.flushed(tag, day.toEpochDay(), delta);
+            }
+        } catch (Exception e) {
+            log.warn("태그 트렌드 저장 실패 day={} tags={}: {}", day, tags, e.getMessage());
+        }
+    }
+
+    /**
+     * Redis에 저장된 최근 버킷을 카운터에 반영한다 (기동 직후 + 5분마다).
+     * Redis 값은 그대로 받아 다른 노드의 삭제도 내려가게 하고, Redis 쓰기에 실패해 반영되지 않은 로컬 증감은 그 위에 남긴다.
+     */
+    @Scheduled(fixedDelay = 300000)
+    public void restore() {
+        try {
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < BUCKET_DAYS; i++) {
+                LocalDate day = today.minusDays(i);
+                Map<Object, Object> entries = stringRedisTemplate.opsForHash()
+                        .entries(trendKey(day));
+                for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                    counter.restore(
+                            String.valueOf(entry.getKey()),
+                            day.toEpochDay(),
+                            Integer.parseInt(String.valueOf(entry.getValue()))
+                    );
+                }
+            }
+            log.debug("태그 트렌드 복구 완료 tags={}", counter.size());
+        } catch (Exception e) {
+            log.warn("태그 트렌드 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isOutOfRange(LocalDate day) {
+        return day.isBefore(LocalDate.now().minusDays(BUCKET_DAYS - 1L));
+    }
+
+    private String trendKey(LocalDate day) {
+        return TREND_KEY_PREFIX + day.toEpochDay();
+    }
+}
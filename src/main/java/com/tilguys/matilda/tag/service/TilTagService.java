@@ -1,10 +1,20 @@
 package com.tilguys.matilda.tag.service;
 
 import com.tilguys.matilda.common.external.FailoverAIServiceManager;
+import com.tilguys.matilda.common.external.cache.AIPromptVersion;
+import com.tilguys.matilda.common.external.cache.AIResultCache;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments;
+import com.tilguys.matilda.common.external.decode.ToolCallArgumentsMerger;
+import com.tilguys.matilda.common.external.exception.AIServiceUnavailableException;
+import com.tilguys.matilda.tag.domain.RuleBasedTagClassifier;
 import com.tilguys.matilda.tag.domain.SubTag;
+import com.tilguys.matilda.tag.domain.TagGenerationClaimResult;
+import com.tilguys.matilda.tag.domain.TilTagBatchGenerator;
+import com.tilguys.matilda.tag.domain.TilTagBatchParser;
 import com.tilguys.matilda.tag.domain.TilTagGenerator;
 import com.tilguys.matilda.tag.domain.TilTagParser;
 import com.tilguys.matilda.tag.domain.TilTags;
+import com.tilguys.matilda.tag.event.TilTagsCreatedEvent;
 import com.tilguys.matilda.tag.repository.SubTagRepository;
 import com.tilguys.matilda.tag.repository.TagRepository;
 import com.tilguys.matilda.til.domain.Tag;
@@ -14,49 +24,118 @@ import com.tilguys.matilda.til.service.TilService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 public class TilTagService {
 
     private static final Logger log = LoggerFactory.getLogger(TilTagService.class);
+    private static final String AI_CACHE_NAMESPACE = "tag";
 
     private final FailoverAIServiceManager failoverAIServiceManager;
     private final TilTagGenerator tagGenerator;
     private final TilTagParser tagParser;
+    private final RuleBasedTagClassifier ruleBasedTagClassifier;
+    private final TilTagBatchGenerator batchGenerator;
+    private final TilTagBatchParser batchParser;
     private final TagRepository tagRepository;
     private final SubTagRepository subTagRepository;
     private final TilService tilService;
     private final TagCreationOutboxService tagCreationOutboxService;
+    private final TagGenerationClaimService tagGenerationClaimService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AIResultCache aiResultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final String promptVersion;
 
     public TilTagService(
             @Autowired FailoverAIServiceManager failoverAIServiceManager,
             TagRepository tagRepository,
             SubTagRepository subTagRepository,
             TilService tilService,
-            TagCreationOutboxService tagCreationOutboxService
+            TagCreationOutboxService tagCreationOutboxService,
+            TagGenerationClaimService tagGenerationClaimService,
+            ApplicationEventPublisher eventPublisher,
+            AIResultCache aiResultCache,
+            PlatformTransactionManager transactionManager
     ) {
         this.tagRepository = tagRepository;
         this.subTagRepository = subTagRepository;
         this.tagGenerator = new TilTagGenerator();
         this.tagParser = new TilTagParser();
+        this.ruleBasedTagClassifier = new RuleBasedTagClassifier();
+        this.batchGenerator = new TilTagBatchGenerator();
+        this.batchParser = new TilTagBatchParser();
         this.failoverAIServiceManager = failoverAIServiceManager;
         this.tilService = tilService;
         this.tagCreationOutboxService = tagCreationOutboxService;
+        this.tagGenerationClaimService = tagGenerationClaimService;
+        this.eventPublisher = eventPublisher;
+        this.aiResultCache = aiResultCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.promptVersion = AIPromptVersion.of(tagGenerator.createPrompt(""), tagGenerator.createFunctionDefinition());
     }
 
     public String requestTilTagResponseJson(String tilContent) {
-        return failoverAIServiceManager.callAIWithSimpleFallback(
-                tagGenerator.createPrompt(tilContent),
-                tagGenerator.createFunctionDefinition()
+        return aiResultCache.getOrCall(
+                AI_CACHE_NAMESPACE,
+                promptVersion,
+                tilContent,
+                () -> failoverAIServiceManager.callAI(
+                        tagGenerator.promptTemplate().with(tilContent),
+                        this::isParsableTagResponse
+                ),
+                this::isParsableTagResponse
         );
     }
 
+    /**
+     * 짧은 TIL 여러 개를 한 번에 태깅해 tilId 별 단건 응답 형식(JSON)으로 돌려준다.
+     * 결과가 없거나 태그를 읽을 수 없는 TIL 은 빠지므로 호출 측이 단건 호출로 다시 처리해야 한다.
+     */
+    public Map<Long, String> requestTilTagResponseJsons(Map<Long, String> tilContents) {
+        String responseJson = failoverAIServiceManager.callAI(
+                batchGenerator.promptTemplate().with(batchGenerator.createContent(tilContents)),
+                this::isParsableBatchResponse
+        );
+
+        Map<Long, String> responses = new LinkedHashMap<>();
+        batchParser.parse(responseJson).forEach((tilId, arguments) -> {
+            if (tilContents.containsKey(tilId) && !arguments.tags().isEmpty()) {
+                responses.put(tilId, ToolCallArgumentsMerger.toResponseJson(arguments));
+            }
+        });
+        return responses;
+    }
+
+    private boolean isParsableBatchResponse(String responseJson) {
+        try {
+            batchParser.parse(responseJson);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isParsableTagResponse(String responseJson) {
+        try {
+            tagParser.parseTags(responseJson);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     /**
      * Transaction Outbox 패턴을 사용한 태그 생성 (트랜잭션 안전)
      */
@@ -68,30 +147,101 @@ public class TilTagService {
 
     /**
      * 직접 태그 생성 (Outbox 서비스에서 호출)
+     * 모든 AI 제공자를 쓸 수 없으면 규칙 기반 태그를 최종 결과로 저장해 재시도 대기열에 쌓이지 않게 한다.
+     * 같은 내용으로 이미 태그가 저장됐으면 AI 를 부르지 않고, 다른 작업자가 생성 중이면 실패로 돌려 Outbox 가 재시도하게 한다.
+     * AI 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 선점과 저장만 각각 짧은 트랜잭션으로 처리한다.
      */
-    @Transactional
     public void createTagsDirect(TilCreatedEvent tilCreatedEvent) {
+        Long tilId = tilCreatedEvent.getTilId();
+        TagGenerationClaimResult claim = claimTagGeneration(tilId, tilCreatedEvent.getTilContent());
+        if (claim == TagGenerationClaimResult.DUPLICATE) {
+            return;
+        }
+        if (claim == TagGenerationClaimResult.IN_PROGRESS) {
+            throw new RuntimeException("태그 생성 실패:다른 작업자가 생성 중입니다");
+        }
+
         try {
-            Til til = tilService.getTilByTilId(tilCreatedEvent.getTilId());
-            String tilResponseJson = requestTilTagResponseJson(tilCreatedEvent.getTilContent());
+            String tilResponseJson;
+            try {
+                tilResponseJson = requestTilTagResponseJson(tilCreatedEvent.getTilContent());
+            } catch (AIServiceUnavailableException e) {
+                if (createRuleBasedTags(tilCreatedEvent)) {
+                    log.warn("AI unavailable, saved rule-based tags for TIL {}", tilId);
+                    return;
+                }
+                releaseTagGeneration(tilId);
+                throw e;
+            } catch (RuntimeException e) {
+                releaseTagGeneration(tilId);
+                throw e;
+            }
 
-            List<Tag> tags = saveTilTags(tilResponseJson)
-                    .stream()
-                    .toList();
+            persistGeneratedTags(tilId, tilCreatedEvent.getTilContent(), tilResponseJson);
+        } catch (Exception e) {
+            throw new RuntimeException("태그 생성 실패:" + e.getMessage(), e);
+        }
+    }
 
-            til.updateTags(tags);
+    /**
+     * 커밋 직후 키워드 규칙으로 임시 태그를 붙인다. AI 결과가 오면 saveGeneratedTags 가 덮어쓰므로
+     * 관심사·트렌드 집계가 두 번 반영되지 않도록 TilTagsCreatedEvent 는 발행하지 않는다.
+     */
+    @Transactional
+    public void createProvisionalTags(TilCreatedEvent tilCreatedEvent) {
+        Til til = tilService.getTilByTilId(tilCreatedEvent.getTilId());
+        if (!til.getTags().isEmpty()) {
+            return;
+        }
+        List<Tag> tags = classifyTags(tilCreatedEvent.getTilContent());
+        if (tags.isEmpty()) {
+            return;
+        }
+        til.updateTags(tagRepository.saveAll(tags));
+    }
 
-            TilTags tilTags = new TilTags(tags);
-            createSubTags(tilResponseJson, tilTags);
-        } catch (Exception e) {
-            throw new RuntimeException("태그 생성 실패:" + e.getMessage());
+    /**
+     * AI 재시도를 모두 소진했을 때 규칙 기반 태그를 최종 결과로 저장. 찾은 태그가 없으면 false.
+     */
+    public boolean createRuleBasedTags(TilCreatedEvent tilCreatedEvent) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> saveRuleBasedTags(
+                tilService.getTilByTilId(tilCreatedEvent.getTilId()),
+                tilCreatedEvent.getTilContent()
+        )));
+    }
+
+    private boolean saveRuleBasedTags(Til til, String tilContent) {
+        List<Tag> classified = classifyTags(tilContent);
+        if (classified.isEmpty()) {
+            return false;
         }
+        if (!tagGenerationClaimService.complete(til.getTilId(), tilContent)) {
+            return true;
+        }
+        List<Tag> tags = tagRepository.saveAll(classified);
+        til.updateTags(tags);
+
+        eventPublisher.publishEvent(new TilTagsCreatedEvent(
+                til.getTilId(),
+                userIdOf(til),
+                tags.stream().map(Tag::getTagString).toList(),
+                List.of(),
+                til.isPublic(),
+                til.createdDate()
+        ));
+        return true;
+    }
+
+    private List<Tag> classifyTags(String tilContent) {
+        return ruleBasedTagClassifier.classify(tilContent)
+                .stream()
+                .map(Tag::new)
+                .toList();
     }
 
     /**
      * maxAttempts = 2, delay = 1000ms
      */
-    @Transactional
     public void createTagsWithRetry(TilCreatedEvent tilCreatedEvent) {
         int maxAttempts = 2;
         int delayMs = 1000;
@@ -101,17 +251,9 @@ public class TilTagService {
             try {
                 log.info("Tag creation attempt {} for TIL {}", attempt, tilCreatedEvent.getTilId());
 
-                Til til = tilService.getTilByTilId(tilCreatedEvent.getTilId());
                 String tilResponseJson = requestTilTagResponseJson(tilCreatedEvent.getTilContent());
 
-                List<Tag> tags = saveTilTags(tilResponseJson)
-                        .stream()
-                        .toList();
-
-                til.updateTags(tags);
-
-                TilTags tilTags = new TilTags(tags);
-                createSubTags(tilResponseJson, tilTags);
+                persistGeneratedTags(tilCreatedEvent.getTilId(), tilCreatedEvent.getTilContent(), tilResponseJson);
 
                 log.info("Tag creation succeeded on attempt {} for TIL {}", attempt, tilCreatedEvent.getTilId());
                 return; // 성공 시 즉시 리턴
@@ -140,28 +282,90 @@ public class TilTagService {
         throw new RuntimeException("태그 생성 실패 (모든 재시도 소진): " + lastException.getMessage(), lastException);
     }
 
+    /**
+     * 이미 받은 AI 응답(통합 추출 포함)으로 태그/서브태그 저장
+     */
+    @Transactional
+    public void createTagsFromResponse(Long tilId, String tilContent, String tilResponseJson) {
+        Til til = tilService.getTilByTilId(tilId);
+        saveGeneratedTags(til, tilContent, tilResponseJson);
+    }
+
+    private void persistGeneratedTags(Long tilId, String tilContent, String tilResponseJson) {
+        transactionTemplate.executeWithoutResult(
+                status -> saveGeneratedTags(tilService.getTilByTilId(tilId), tilContent, tilResponseJson)
+        );
+    }
+
+    /**
+     * AI 호출 전 TIL 단위 태그 생성 선점. 결과 해석은 {@link TagGenerationClaimService#tryClaim} 참고.
+     */
+    public TagGenerationClaimResult claimTagGeneration(Long tilId, String tilContent) {
+        return tagGenerationClaimService.tryClaim(tilId, tilContent);
+    }
+
+    public void releaseTagGeneration(Long tilId) {
+        tagGenerationClaimService.release(tilId);
+    }
+
+    public boolean isTagGenerationCompleted(Long tilId, String tilContent) {
+        return tagGenerationClaimService.isCompleted(tilId, tilContent);
+    }
+
+    /**
+     * 같은 내용으로 다른 경로가 먼저 저장했다면 태그와 서브태그를 다시 만들지 않는다.
+     */
+    private void saveGeneratedTags(Til til, String tilContent, String tilResponseJson) {
+        ToolCallArguments arguments = tagParser.decode(tilResponseJson);
+        if (!tagGenerationClaimService.complete(til.getTilId(), tilContent)) {
+            return;
+        }
+        List<Tag> tags = tagRepository.saveAll(extractTilTags(arguments));
+
+        til.updateTags(tags);
+
+        TilTags tilTags = new TilTags(tags);
+        List<SubTag> subTags = subTagRepository.saveAll(extractSubTilTags(arguments, tilTags));
+
+        eventPublisher.publishEvent(new TilTagsCreatedEvent(
+                til.getTilId(),
+                userIdOf(til),
+                tags.stream().map(Tag::getTagString).toList(),
+                subTags.stream().map(SubTag::getSubTagContent).toList(),
+                til.isPublic(),
+                til.createdDate()
+        ));
+    }
+
+    private Long userIdOf(Til til) {
+        if (til.getTilUser() == null) {
+            return null;
+        }
+        return til.getTilUser().getId();
+    }
+
     @Transactional
     public List<Tag> saveTilTags(String responseJson) {
-        List<Tag> tags = extractTilTags(responseJson);
+        List<Tag> tags = extractTilTags(tagParser.decode(responseJson));
         return tagRepository.saveAll(tags);
     }
 
-    private List<Tag> extractTilTags(String responseJson) {
-        Set<String> tags = tagParser.parseTags(responseJson);
+    private List<Tag> extractTilTags(ToolCallArguments arguments) {
+        Set<String> tags = tagParser.extractTags(arguments);
         return tags.stream()
                 .map(Tag::new)
                 .toList()
                 .subList(0, Math.min(5, tags.size()));
     }
 
-    private List<SubTag> extractSubTilTags(String responseJson, TilTags coreTags) {
-        List<SubTag> subTags = tagParser.parseSubTags(responseJson, coreTags);
+    private List<SubTag> extractSubTilTags(ToolCallArguments arguments, TilTags coreTags) {
+        List<SubTag> subTags = tagParser.extractSubTags(arguments, coreTags);
         return subTags.subList(0, Math.min(25, subTags.size()));
     }
 
     @Transactional
     public List<SubTag> createSubTags(String tilResponseJson, TilTags tilTags) {
-        List<SubTag> subTags = extractSubTilTags(tilResponseJson, tilTags);
+        List<SubTag> subTags = extractSubTilTags(tagParser.decode(tilResponseJson), tilTags);
         return subTagRepository.saveAll(subTags);
     }
 
@@ -172,4 +376,8 @@ public class TilTagService {
     public List<SubTag> getRecentSubTags(LocalDate recent) {
         return subTagRepository.findByCreatedAtGreaterThanEqual(recent.atStartOfDay());
     }
+
+    public List<SubTag> getSubTagsByTilId(Long tilId) {
+        return subTagRepository.findByTilId(tilId);
+    }
 }
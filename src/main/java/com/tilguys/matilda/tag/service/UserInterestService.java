@@ -0,0 +1,356 @@
+package com.tilguys.matilda.tag.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.tag.domain.SubTag;
+import com.tilguys.matilda.tag.domain.UserInterestProfile;
+import com.tilguys.matilda.tag.domain.UserInterestSnapshot;
+import com.tilguys.matilda.tag.domain.UserInterestVector;
+import com.tilguys.matilda.tag.dto.InterestResponse;
+import com.tilguys.matilda.tag.dto.SimilarCrewResponse;
+import com.tilguys.matilda.tag.event.TilTagsCreatedEvent;
+import com.tilguys.matilda.til.domain.Tag;
+import com.tilguys.matilda.til.domain.Til;
+import com.tilguys.matilda.til.event.TilDeletedEvent;
+import com.tilguys.matilda.user.TilUser;
+import com.tilguys.matilda.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 TIL 태그로 만든 유저별 관심사 프로필을 메모리에 보관하고 Redis에 유저 단위로 캐싱.
+ * 태그 생성/TIL 삭제 이벤트로 증분 갱신하며 요청마다 tag 테이블을 다시 집계하지 않는다.
+ * 같은 유저의 동시 갱신이 서로를 덮어쓰지 않도록 Redis 갱신은 WATCH/MULTI 로 충돌 시 다시 시도한다.
+ * 유사 크루는 차원별 역색인으로 관심사가 겹치는 후보만 골라 미리 계산한 벡터로 비교한다.
+ */
+@Slf4j
+@Service
+public class UserInterestService {
+
+    private static final String PROFILE_KEY_PREFIX = "interest:profile:";
+    private static final String PROFILE_USERS_KEY = "interest:profile:users";
+    private static final int BOOTSTRAP_DAYS = 180;
+    private static final int COMMON_INTEREST_SIZE = 3;
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+    private static final int CANDIDATE_DIMENSIONS = 20;
+    private static final int MAX_CANDIDATES = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TilTagService tilTagService;
+    private final UserRepository userRepository;
+    private final Map<Long, UserInterestProfile> profiles = new ConcurrentHashMap<>();
+    private final Map<Long, UserInterestVector> vectors = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> usersByDimension = new ConcurrentHashMap<>();
+
+    public UserInterestService(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            TilTagService tilTagService,
+            UserRepository userRepository
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.tilTagService = tilTagService;
+        this.userRepository = userRepository;
+    }
+
+    public List<InterestResponse> getTopInterests(Long userId, int limit) {
+        UserInterestProfile profile = profiles.get(userId);
+        if (profile == null) {
+            return List.of();
+        }
+        return profile.topInterests(limit);
+    }
+
+    /**
+     * 코사인 유사도 상위 k명의 크루. 대상의 상위 차원을 공유하는 유저만 최대 MAX_CANDIDATES 명까지 비교한다.
+     */
+    @Transactional(readOnly = true)
+    public List<SimilarCrewResponse> getSimilarCrews(Long userId, int limit) {
+        UserInterestVector target = vectors.get(userId);
+        if (target == null || target.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<ScoredProfile> topProfiles = new PriorityQueue<>(
+                limit + 1, Comparator.comparingDouble(ScoredProfile::similarity)
+        );
+        for (Long candidateId : candidatesOf(target)) {
+            UserInterestVector candidate = vectors.get(candidateId);
+            if (candidate == null) {
+                continue;
+            }
+            double similarity = target.cosineSimilarity(candidate);
+            if (similarity <= 0) {
+                continue;
+            }
+            topProfiles.offer(new ScoredProfile(candidate, similarity));
+            if (topProfiles.size() > limit) {
+                topProfiles.poll();
+            }
+        }
+
+        List<ScoredProfile> ranked = new ArrayList<>(topProfiles);
+        ranked.sort(Comparator.comparingDouble(ScoredProfile::similarity).reversed());
+
+        Map<Long, TilUser> users = userRepository.findAllById(
+                        ranked.stream().map(scored -> scored.vector().getUserId()).toList()
+                )
+                .stream()
+                .collect(Collectors.toMap(TilUser::getId, Function.identity()));
+
+        return ranked.stream()
+                .filter(scored -> users.containsKey(scored.vector().getUserId()))
+                .map(scored -> {
+                    TilUser user = users.get(scored.vector().getUserId());
+                    return new SimilarCrewResponse(
+                            user.getId(),
+                            user.getNickname(),
+                            user.getAvatarUrl(),
+                            Math.round(scored.similarity() * 1000) / 1000.0,
+                            target.commonCoreTags(scored.vector(), COMMON_INTEREST_SIZE)
+                    );
+                })
+                .toList();
+    }
+
+    private Set<Long> candidatesOf(UserInterestVector target) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (String dimension : target.topDimensions(CANDIDATE_DIMENSIONS)) {
+            for (Long candidateId : usersByDimension.getOrDefault(dimension, Set.of())) {
+                if (!candidateId.equals(target.getUserId())) {
+                    candidates.add(candidateId);
+                }
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    return candidates;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    public void recordCreated(TilTagsCreatedEvent event) {
+        if (!event.publicTil() || event.userId() == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        update(event.userId(), profile ->
+                profile.add(event.tags(), event.subTags(), event.createdDate(), today));
+    }
+
+    public void recordDeleted(TilDeletedEvent event) {
+        if (!event.publicTil() || event.userId() == null) {
+            return;
+        }
+        List<String> subTags = tilTagService.getSubTagsByTilId(event.tilId())
+                .stream()
+                .map(SubTag::getSubTagContent)
+                .toList();
+        LocalDate today = LocalDate.now();
+        update(event.userId(), profile ->
+                profile.remove(event.tags(), subTags, event.createdDate(), today));
+    }
+
+    /**
+     * 다른 노드에서 갱신된 프로필을 맞추기 위해 Redis 기준으로 다시 적재.
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reload() {
+        try {
+            Set<String> userIds = stringRedisTemplate.opsForSet().members(PROFILE_USERS_KEY);
+            if (userIds == null) {
+                return;
+            }
+            for (String userId : userIds) {
+                Long id = Long.valueOf(userId);
+                loadProfile(id).ifPresent(this::register);
+            }
+        } catch (Exception e) {
+            log.warn("관심사 프로필 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 시 Redis에서 적재하고, 비어 있으면 최근 공개 TIL 태그로 최초 1회 구성.
+     */
+    @Transactional(readOnly = true)
+    public void bootstrap() {
+        reload();
+        if (!profiles.isEmpty()) {
+            log.info("관심사 프로필 {}건 Redis에서 적재", profiles.size());
+            return;
+        }
+
+        LocalDate startDay = LocalDate.now().minusDays(BOOTSTRAP_DAYS);
+        Map<Til, List<String>> tagsByTil = new HashMap<>();
+        for (Tag tag : tilTagService.getRecentWroteTags(startDay)) {
+            if (isProfileSource(tag.getTil())) {
+                tagsByTil.computeIfAbsent(tag.getTil(), til -> new ArrayList<>())
+                        .add(tag.getTagString());
+            }
+        }
+        Map<Til, List<String>> subTagsByTil = new HashMap<>();
+        for (SubTag subTag : tilTagService.getRecentSubTags(startDay)) {
+            if (subTag.getTag() != null && isProfileSource(subTag.getTag().getTil())) {
+                subTagsByTil.computeIfAbsent(subTag.getTag().getTil(), til -> new ArrayList<>())
+                        .add(subTag.getSubTagContent());
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<Long, UserInterestProfile> built = new HashMap<>();
+        for (Map.Entry<Til, List<String>> entry : tagsByTil.entrySet()) {
+            Til til = entry.getKey();
+            Long userId = til.getTilUser().getId();
+            built.computeIfAbsent(userId, id -> UserInterestProfile.empty(id, today))
+                    .add(entry.getValue(), subTagsByTil.getOrDefault(til, List.of()), til.createdDate(), today);
+        }
+
+        built.values().forEach(profile -> {
+            saveProfile(profile);
+            register(profile);
+        });
+        log.info("관심사 프로필 {}건 DB에서 구성", built.size());
+    }
+
+    private boolean isProfileSource(Til til) {
+        return til != null && til.isNotDeleted() && til.isPublic() && til.getTilUser() != null;
+    }
+
+    private void update(Long userId, Consumer<UserInterestProfile> change) {
+        UserInterestProfile profile = updateInRedis(userId, change)
+                .orElseGet(() -> {
+                    // Redis 를 쓸 수 없으면 이 노드의 프로필에만 반영하고 다음 재적재 때 맞춘다
+                    UserInterestProfile local = profiles.getOrDefault(userId, UserInterestProfile.empty(userId, LocalDate.now()));
+                    change.accept(local);
+                    return local;
+                });
+        register(profile);
+    }
+
+    /**
+     * WATCH 한 키가 읽은 뒤 바뀌었으면 EXEC 가 버려지므로 다시 읽어 적용한다.
+     */
+    private Optional<UserInterestProfile> updateInRedis(Long userId, Consumer<UserInterestProfile> change) {
+        String key = PROFILE_KEY_PREFIX + userId;
+        try {
+            for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+                UserInterestProfile[] updated = new UserInterestProfile[1];
+                List<Object> results = stringRedisTemplate.execute(new SessionCallback<>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                        redis.watch(key);
+                        UserInterestProfile profile = parseProfile(userId, redis.opsForValue().get(key))
+                                .orElseGet(() -> UserInterestProfile.empty(userId, LocalDate.now()));
+                        change.accept(profile);
+                        String json = writeProfile(profile);
+                        redis.multi();
+                        redis.opsForValue().set(key, json);
+                        redis.opsForSet().add(PROFILE_USERS_KEY, String.valueOf(userId));
+                        updated[0] = profile;
+                        return redis.exec();
+                    }
+                });
+                if (results != null && !results.isEmpty()) {
+                    return Optional.of(updated[0]);
+                }
+            }
+            log.warn("관심사 프로필 갱신 충돌이 계속돼 이 노드에만 반영 userId={}", userId);
+        } catch (Exception e) {
+            log.warn("관심사 프로필 갱신 실패 userId={}: {}", userId, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 메모리 프로필과 유사도 계산용 벡터, 차원 역색인을 함께 교체한다.
+     */
+    private void register(UserInterestProfile profile) {
+        Long userId = profile.getUserId();
+        UserInterestVector vector = profile.vector();
+        profiles.put(userId, profile);
+        synchronized (usersByDimension) {
+            UserInterestVector previous = vectors.put(userId, vector);
+            if (previous != null) {
+                for (String dimension : previous.getWeights().keySet()) {
+                    if (!vector.getWeights().containsKey(dimension)) {
+                        Set<Long> users = usersByDimension.get(dimension);
+                        if (users != null) {
+                            users.remove(userId);
+                            if (users.isEmpty()) {
+                                usersByDimension.remove(dimension);
+                            }
+                        }
+                    }
+                }
+            }
+            for (String dimension : vector.getWeights().keySet()) {
+                usersByDimension.computeIfAbsent(dimension, key -> ConcurrentHashMap.newKeySet()).add(userId);
+            }
+        }
+    }
+
+    private Optional<UserInterestProfile> loadProfile(Long userId) {
+        try {
+            return parseProfile(userId, stringRedisTemplate.opsForValue().get(PROFILE_KEY_PREFIX + userId));
+        } catch (Exception e) {
+            log.warn("관심사 프로필 조회 실패 userId={}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<UserInterestProfile> parseProfile(Long userId, String json) {
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            UserInterestSnapshot snapshot = objectMapper.readValue(json, UserInterestSnapshot.class);
+            return Optional.of(new UserInterestProfile(userId, snapshot));
+        } catch (Exception e) {
+            log.warn("관심사 프로필 역직렬화 실패 userId={}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String writeProfile(UserInterestProfile profile) {
+        try {
+            return objectMapper.writeValueAsString(profile.snapshot());
+        } catch (Exception e) {
+            throw new IllegalStateException("관심사 프로필 직렬화 실패 userId=" + profile.getUserId(), e);
+        }
+    }
+
+    private void saveProfile(UserInterestProfile profile) {
+        try {
+            stringRedisTemplate.opsForValue().set(PROFILE_KEY_PREFIX + profile.getUserId(), writeProfile(profile));
+            stringRedisTemplate.opsForSet().add(PROFILE_USERS_KEY, String.valueOf(profile.getUserId()));
+        } catch (Exception e) {
+            log.warn("관심사 프로필 저장 실패 userId={}: {}", profile.getUserId(), e.getMessage());
+        }
+    }
+
+    private record ScoredProfile(UserInterestVector vector, double similarity) {
+    }
+}
@@ -2,6 +2,7 @@ package com.tilguys.matilda.til.controller;
 
 import com.tilguys.matilda.common.auth.SimpleUserInfo;
 import com.tilguys.matilda.slack.service.SlackService;
+import com.tilguys.matilda.tag.service.RelatedTilService;
 import com.tilguys.matilda.til.domain.Til;
 import com.tilguys.matilda.til.dto.TilDatesResponse;
 import com.tilguys.matilda.til.dto.TilDefinitionRequest;
@@ -37,6 +38,7 @@ public class TilController {
     private final TilService tilService;
     private final RecentTilService recentTilService;
     private final SlackService slackService;
+    private final RelatedTilService relatedTilService;
 
     @GetMapping("/all")
     public ResponseEntity<?> getPublicTils(
@@ -60,7 +62,7 @@ public class TilController {
 
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yy-MM월-dd일");
         String dateString = dateTimeFormatter.format(til.getDate());
-        slackService.sendTilWriteAlarm(til.getContent(), simpleUserInfo.nickname(), dateString, til.getTags());
+        slackService.scheduleTilWriteAlarm(til.getContent(), simpleUserInfo.nickname(), dateString, til.getTags());
 
         return ResponseEntity.ok(TilDetailResponse.fromEntity(til));
     }
@@ -107,6 +109,6 @@ public class TilController {
     @GetMapping("/{tilId}")
     public ResponseEntity<?> getTilById(@PathVariable final Long tilId) {
         Til til = tilService.getTilByTilId(tilId);
-        return ResponseEntity.ok(new TilWithUserResponse(til));
+        return ResponseEntity.ok(new TilWithUserResponse(til, relatedTilService.getRelatedTils(tilId)));
     }
 }
@@ -111,6 +111,13 @@ public class Til extends BaseEntity {
         return !isDeleted;
     }
 
+    public LocalDate createdDate() {
+        if (getCreatedAt() == null) {
+            return LocalDate.now();
+        }
+        return getCreatedAt().toLocalDate();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) {
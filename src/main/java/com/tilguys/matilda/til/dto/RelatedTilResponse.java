@@ -0,0 +1,10 @@
+package com.tilguys.matilda.til.dto;
+
+public record RelatedTilResponse(
+        Long id,
+        String title,
+        String nickname,
+        double similarity
+) {
+
+}
@@ -1,6 +1,7 @@
 package com.tilguys.matilda.til.dto;
 
 import com.tilguys.matilda.til.domain.Til;
+import java.util.List;
 
 public record TilWithUserResponse(
         Long id,
@@ -9,10 +10,15 @@ public record TilWithUserResponse(
         TagsResponse tags,
         ReferencesResponse references,
         String nickname,
-        String avatarUrl
+        String avatarUrl,
+        List<RelatedTilResponse> relatedTils
 ) {
 
     public TilWithUserResponse(Til til) {
+        this(til, List.of());
+    }
+
+    public TilWithUserResponse(Til til, List<RelatedTilResponse> relatedTils) {
         this(
                 til.getTilId(),
                 til.getTitle(),
@@ -20,7 +26,8 @@ public record TilWithUserResponse(
                 new TagsResponse(til.getTags()),
                 new ReferencesResponse(til.getReferences()),
                 til.getTilUser().getNickname(),
-                til.getTilUser().getAvatarUrl()
+                til.getTilUser().getAvatarUrl(),
+                relatedTils
         );
     }
 }
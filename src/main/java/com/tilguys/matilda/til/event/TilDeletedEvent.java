@@ -0,0 +1,8 @@
+package com.tilguys.matilda.til.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TilDeletedEvent(Long tilId, Long userId, List<String> tags, boolean publicTil, LocalDate createdDate) {
+
+}
@@ -1,14 +1,15 @@
 package com.tilguys.matilda.til.service;
 
 import com.tilguys.matilda.til.lock.TilCreationLockService;
-import com.tilguys.matilda.reference.event.ReferenceCreateEvent;
 import com.tilguys.matilda.til.domain.Til;
 import com.tilguys.matilda.til.dto.TilDatesResponse;
 import com.tilguys.matilda.til.dto.TilDefinitionRequest;
 import com.tilguys.matilda.til.dto.TilDetailResponse;
 import com.tilguys.matilda.til.dto.TilDetailsResponse;
 import com.tilguys.matilda.til.dto.TilReadAllResponse;
+import com.tilguys.matilda.til.domain.Tag;
 import com.tilguys.matilda.til.event.TilCreatedEvent;
+import com.tilguys.matilda.til.event.TilDeletedEvent;
 import com.tilguys.matilda.til.repository.TilRepository;
 import com.tilguys.matilda.user.TilUser;
 import com.tilguys.matilda.user.service.TilUserService;
@@ -57,10 +58,6 @@ public class TilService {
                     new TilCreatedEvent(til.getTilId(), til.getContent(), user.getId())
             );
 
-            eventPublisher.publishEvent(
-                    new ReferenceCreateEvent(til.getTilId(), til.getContent())
-            );
-
             return til;
         } finally {
             lockService.releaseLock(userId, targetDate);
@@ -101,6 +98,14 @@ public class TilService {
         }
         Til til = getTilByTilId(tilId);
         til.markAsDeletedBy(userId);
+
+        List<String> tags = til.getTags()
+                .stream()
+                .map(Tag::getTagString)
+                .toList();
+        eventPublisher.publishEvent(
+                new TilDeletedEvent(til.getTilId(), userId, tags, til.isPublic(), til.createdDate())
+        );
     }
 
     @Transactional(readOnly = true)
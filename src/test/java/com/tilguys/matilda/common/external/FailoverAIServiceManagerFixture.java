@@ -0,0 +1,86 @@
+package com.tilguys.matilda.common.external;
+
+import com.tilguys.matilda.common.external.circuit.AICircuitBreakerRegistry;
+import com.tilguys.matilda.common.external.concurrency.AIConcurrencyLimiter;
+import com.tilguys.matilda.common.external.config.AICircuitBreakerConfiguration;
+import com.tilguys.matilda.common.external.config.AIConcurrencyConfiguration;
+import com.tilguys.matilda.common.external.config.AIContentConfiguration;
+import com.tilguys.matilda.common.external.config.AIHedgeConfiguration;
+import com.tilguys.matilda.common.external.hedge.AIHedgePolicy;
+import com.tilguys.matilda.common.external.prompt.TilContentPreprocessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * 테스트용 FailoverAIServiceManager. 지정하지 않은 협력 객체는 기본 설정(로컬 서킷, 헤지 끔, 가상 스레드)으로 채운다.
+ */
+public class FailoverAIServiceManagerFixture {
+
+    private final List<AIClient> aiClients;
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AICircuitBreakerRegistry circuitBreakerRegistry;
+    private AIHedgePolicy hedgePolicy;
+    private AIConcurrencyLimiter concurrencyLimiter;
+    private AsyncTaskExecutor executor = new VirtualThreadTaskExecutor("AICall-");
+    private TilContentPreprocessor contentPreprocessor = new TilContentPreprocessor(new AIContentConfiguration());
+
+    private FailoverAIServiceManagerFixture(List<AIClient> aiClients) {
+        this.aiClients = aiClients;
+    }
+
+    public static FailoverAIServiceManager createFailoverManager(List<AIClient> aiClients) {
+        return builder(aiClients).build();
+    }
+
+    public static FailoverAIServiceManagerFixture builder(List<AIClient> aiClients) {
+        return new FailoverAIServiceManagerFixture(aiClients);
+    }
+
+    public FailoverAIServiceManagerFixture meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        return this;
+    }
+
+    public FailoverAIServiceManagerFixture circuitBreakerRegistry(AICircuitBreakerRegistry circuitBreakerRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        return this;
+    }
+
+    public FailoverAIServiceManagerFixture hedgePolicy(AIHedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+        return this;
+    }
+
+    public FailoverAIServiceManagerFixture concurrencyLimiter(AIConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        return this;
+    }
+
+    public FailoverAIServiceManagerFixture executor(AsyncTaskExecutor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public FailoverAIServiceManagerFixture contentPreprocessor(TilContentPreprocessor contentPreprocessor) {
+        this.contentPreprocessor = contentPreprocessor;
+        return this;
+    }
+
+    public FailoverAIServiceManager build() {
+        return new FailoverAIServiceManager(
+                aiClients,
+                circuitBreakerRegistry != null
+                        ? circuitBreakerRegistry
+                        : new AICircuitBreakerRegistry(new AICircuitBreakerConfiguration(), null, meterRegistry),
+                hedgePolicy != null ? hedgePolicy : new AIHedgePolicy(new AIHedgeConfiguration(), meterRegistry),
+                concurrencyLimiter != null
+                        ? concurrencyLimiter
+                        : new AIConcurrencyLimiter(new AIConcurrencyConfiguration(), meterRegistry),
+                executor,
+                contentPreprocessor
+        );
+    }
+}
@@ -1,5 +1,15 @@
 package com.tilguys.matilda.common.external;
 
+import com.tilguys.matilda.common.external.circuit.AICircuitBreakerRegistry;
+import com.tilguys.matilda.common.external.circuit.CircuitState;
+import com.tilguys.matilda.common.external.config.AICircuitBreakerConfiguration;
+import com.tilguys.matilda.common.external.config.AIContentConfiguration;
+import com.tilguys.matilda.common.external.config.AIHedgeConfiguration;
+import com.tilguys.matilda.common.external.hedge.AIHedgePolicy;
+import com.tilguys.matilda.common.external.prompt.AIPrompt;
+import com.tilguys.matilda.common.external.prompt.PromptTemplate;
+import com.tilguys.matilda.common.external.prompt.TilContentPreprocessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Map;
 
@@ -13,9 +23,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import org.mockito.Mock;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @ExtendWith(MockitoExtension.class)
 class FailoverAIServiceManagerTest {
@@ -45,9 +58,11 @@ class FailoverAIServiceManagerTest {
         // Mock 클라이언트들의 기본 동작 설정
         given(firstClient.getClientName()).willReturn("FirstClient");
         given(secondClient.getClientName()).willReturn("SecondClient");
+        lenient().when(firstClient.isAvailable()).thenReturn(true);
+        lenient().when(secondClient.isAvailable()).thenReturn(true);
 
         // 두 클라이언트로 FailoverAIServiceManager 생성
-        failoverManager = new FailoverAIServiceManager(List.of(firstClient, secondClient));
+        failoverManager = FailoverAIServiceManagerFixture.createFailoverManager(List.of(firstClient, secondClient));
     }
 
     @Test
@@ -122,7 +137,7 @@ class FailoverAIServiceManagerTest {
     @DisplayName("단일 클라이언트 실패 시에도 적절한 예외 발생")
     void callAIWithSimpleFallback_SingleClientFails_ThrowsRuntimeException() {
         // given
-        FailoverAIServiceManager singleClientManager = new FailoverAIServiceManager(List.of(firstClient));
+        FailoverAIServiceManager singleClientManager = FailoverAIServiceManagerFixture.createFailoverManager(List.of(firstClient));
         RuntimeException clientException = new RuntimeException("Single client failed");
 
         given(firstClient.callAI(testMessages, testFunctionDefinition))
@@ -140,4 +155,167 @@ class FailoverAIServiceManagerTest {
 
         verify(firstClient, times(1)).callAI(testMessages, testFunctionDefinition);
     }
+
+    @Test
+    @DisplayName("설정되지 않은 클라이언트는 호출하지 않음")
+    void callAIWithSimpleFallback_UnavailableClient_Skipped() {
+        // given
+        given(firstClient.isAvailable()).willReturn(false);
+        given(secondClient.callAI(testMessages, testFunctionDefinition))
+                .willReturn("Second client success");
+
+        // when
+        String result = failoverManager.callAIWithSimpleFallback(testMessages, testFunctionDefinition);
+
+        // then
+        assertEquals("Second client success", result);
+        verify(firstClient, never()).callAI(any(), any());
+    }
+
+    @Test
+    @DisplayName("서킷이 열린 클라이언트는 실패를 기다리지 않고 건너뜀")
+    void callAIWithSimpleFallback_OpenCircuit_SkipsClient() {
+        // given
+        AICircuitBreakerConfiguration configuration = new AICircuitBreakerConfiguration();
+        configuration.setMinimumCalls(1);
+        AICircuitBreakerRegistry registry = new AICircuitBreakerRegistry(
+                configuration, null, new SimpleMeterRegistry()
+        );
+        FailoverAIServiceManager manager = FailoverAIServiceManagerFixture.builder(List.of(firstClient, secondClient))
+                .circuitBreakerRegistry(registry)
+                .build();
+        given(firstClient.callAI(testMessages, testFunctionDefinition))
+                .willThrow(new RuntimeException("First client failed"));
+        given(secondClient.callAI(testMessages, testFunctionDefinition))
+                .willReturn("Second client success");
+
+        // when
+        manager.callAIWithSimpleFallback(testMessages, testFunctionDefinition);
+        String result = manager.callAIWithSimpleFallback(testMessages, testFunctionDefinition);
+
+        // then
+        assertEquals("Second client success", result);
+        assertEquals(CircuitState.OPEN, registry.stateOf("FirstClient"));
+        verify(firstClient, times(1)).callAI(testMessages, testFunctionDefinition);
+        verify(secondClient, times(2)).callAI(testMessages, testFunctionDefinition);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 응답은 실패로 기록하고 다음 클라이언트로 넘어감")
+    void callAIWithSimpleFallback_InvalidResponse_RecordedAsFailure() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        FailoverAIServiceManager manager = FailoverAIServiceManagerFixture.builder(List.of(firstClient, secondClient))
+                .meterRegistry(meterRegistry)
+                .build();
+        given(firstClient.callAI(testMessages, testFunctionDefinition)).willReturn("invalid");
+        given(secondClient.callAI(testMessages, testFunctionDefinition)).willReturn("valid");
+
+        // when
+        String result = manager.callAIWithSimpleFallback(
+                testMessages, testFunctionDefinition, response -> response.equals("valid")
+        );
+
+        // then
+        assertEquals("valid", result);
+        assertEquals(1.0, meterRegistry.get("ai.circuit.calls")
+                .tag("provider", "FirstClient").tag("outcome", "failure").counter().count());
+        assertEquals(0, meterRegistry.find("ai.circuit.calls")
+                .tag("provider", "FirstClient").tag("outcome", "success").counters().size());
+    }
+
+    @Test
+    @DisplayName("헤지 모드에서 1순위 서킷 허가가 거절되면 다시 요청하지 않고 다음 클라이언트로 넘어감")
+    void callAIWithSimpleFallback_HedgePrimaryRejected_AcquiresOnce() {
+        // given
+        AIHedgeConfiguration hedgeConfiguration = new AIHedgeConfiguration();
+        hedgeConfiguration.setEnabled(true);
+        hedgeConfiguration.setMinSamples(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AIHedgePolicy hedgePolicy = new AIHedgePolicy(hedgeConfiguration, meterRegistry);
+        hedgePolicy.recordLatency("FirstClient", 50);
+        AICircuitBreakerConfiguration circuitConfiguration = new AICircuitBreakerConfiguration();
+        circuitConfiguration.setMinimumCalls(1);
+        AICircuitBreakerRegistry registry = new AICircuitBreakerRegistry(circuitConfiguration, null, meterRegistry);
+        registry.tryAcquire("FirstClient");
+        registry.onError("FirstClient");
+        FailoverAIServiceManager manager = FailoverAIServiceManagerFixture.builder(List.of(firstClient, secondClient))
+                .meterRegistry(meterRegistry)
+                .circuitBreakerRegistry(registry)
+                .hedgePolicy(hedgePolicy)
+                .build();
+        given(secondClient.callAI(testMessages, testFunctionDefinition)).willReturn("Second client success");
+
+        // when
+        String result = manager.callAIWithSimpleFallback(testMessages, testFunctionDefinition, response -> true);
+
+        // then
+        assertEquals("Second client success", result);
+        assertEquals(1.0, meterRegistry.get("ai.circuit.calls")
+                .tag("provider", "FirstClient").tag("outcome", "rejected").counter().count());
+        verify(firstClient, never()).callAI(any(), any());
+    }
+
+    @Test
+    @DisplayName("헤지 모드에서 첫 번째가 느리면 두 번째에도 요청해 먼저 온 유효한 응답을 사용")
+    void callAIWithSimpleFallback_SlowPrimary_HedgedRequestWins() {
+        // given
+        AIHedgeConfiguration configuration = new AIHedgeConfiguration();
+        configuration.setEnabled(true);
+        configuration.setMinSamples(1);
+        configuration.setMinDelayMillis(0);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AIHedgePolicy hedgePolicy = new AIHedgePolicy(configuration, meterRegistry);
+        hedgePolicy.recordLatency("FirstClient", 50);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        FailoverAIServiceManager manager = FailoverAIServiceManagerFixture.builder(List.of(firstClient, secondClient))
+                .meterRegistry(meterRegistry)
+                .hedgePolicy(hedgePolicy)
+                .executor(executor)
+                .build();
+        given(firstClient.callAI(testMessages, testFunctionDefinition)).willAnswer(invocation -> {
+            Thread.sleep(5000);
+            return "First client success";
+        });
+        given(secondClient.callAI(testMessages, testFunctionDefinition))
+                .willReturn("Second client success");
+
+        // when
+        String result = manager.callAIWithSimpleFallback(testMessages, testFunctionDefinition, response -> true);
+        executor.shutdown();
+
+        // then
+        assertEquals("Second client success", result);
+        assertEquals(1.0, meterRegistry.get("ai.hedge.requests").tag("result", "fired").counter().count());
+        assertEquals(1.0, meterRegistry.get("ai.hedge.requests").tag("result", "won").counter().count());
+    }
+
+    @Test
+    @DisplayName("긴 내용은 조각별로 병렬 호출하고 여러 조각에서 나온 태그를 앞에 두어 합친다")
+    void callAI_LongContent_MergesChunkResults() {
+        // given
+        AIContentConfiguration configuration = new AIContentConfiguration();
+        configuration.setMaxPromptTokens(10);
+        configuration.setChunkTokens(10);
+        FailoverAIServiceManager manager = FailoverAIServiceManagerFixture.builder(List.of(firstClient, secondClient))
+                .contentPreprocessor(new TilContentPreprocessor(configuration))
+                .build();
+        PromptTemplate template = new PromptTemplate(null, "지시문", testFunctionDefinition);
+        given(firstClient.callAI(any(AIPrompt.class))).willAnswer(invocation -> {
+            String content = invocation.<AIPrompt>getArgument(0).content();
+            String tags = content.startsWith("첫째") ? "[\"JPA\",\"자바\"]" : "[\"스프링\",\"자바\"]";
+            return "{\"content\":[{\"type\":\"tool_use\",\"input\":{\"tags\":" + tags + "}}]}";
+        });
+
+        // when
+        String result = manager.callAI(template.with("첫째 문단입니다 내용\n\n둘째 문단입니다 내용"), response -> true);
+
+        // then
+        assertEquals("{\"content\":[{\"type\":\"tool_use\",\"input\":{\"tags\":[\"자바\",\"JPA\",\"스프링\"]}}]}", result);
+        verify(firstClient, times(2)).callAI(any(AIPrompt.class));
+        verify(secondClient, never()).callAI(any(AIPrompt.class));
+    }
 }
@@ -0,0 +1,95 @@
+package com.tilguys.matilda.common.external.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AIResultCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final AtomicInteger aiCalls = new AtomicInteger();
+    private final Supplier<String> aiCall = () -> "response-" + aiCalls.incrementAndGet();
+
+    private AIResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new AIResultCache(redisTemplate, meterRegistry, true, 7, 100);
+    }
+
+    @Test
+    void 공백만_다른_같은_내용은_AI를_다시_호출하지_않는다() {
+        String first = cache.getOrCall("tag", "v1", "JPA  영속성\n컨텍스트 ", aiCall, response -> true);
+        String second = cache.getOrCall("tag", "v1", " JPA 영속성 컨텍스트", aiCall, response -> true);
+
+        assertThat(first).isEqualTo("response-1");
+        assertThat(second).isEqualTo("response-1");
+        assertThat(aiCalls).hasValue(1);
+        verify(valueOperations).set(anyString(), eq("response-1"), any(Duration.class));
+        assertThat(meterRegistry.get("ai.result.cache.hit.ratio").tag("namespace", "tag").gauge().value())
+                .isEqualTo(0.5);
+    }
+
+    @Test
+    void 프롬프트_버전이_다르면_캐시를_공유하지_않는다() {
+        cache.getOrCall("tag", "v1", "JPA", aiCall, response -> true);
+        String other = cache.getOrCall("tag", "v2", "JPA", aiCall, response -> true);
+
+        assertThat(other).isEqualTo("response-2");
+    }
+
+    @Test
+    void Redis에_있으면_AI를_호출하지_않는다() {
+        when(valueOperations.get(anyString())).thenReturn("cached");
+
+        assertThat(cache.getOrCall("reference", "v1", "JPA", aiCall, response -> true)).isEqualTo("cached");
+        assertThat(aiCalls).hasValue(0);
+    }
+
+    @Test
+    void 검증에_실패한_응답은_캐싱하지_않는다() {
+        cache.getOrCall("tag", "v1", "JPA", aiCall, response -> false);
+        cache.getOrCall("tag", "v1", "JPA", aiCall, response -> false);
+
+        assertThat(aiCalls).hasValue(2);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void 프롬프트나_스키마가_바뀌면_버전이_달라진다() {
+        List<Map<String, Object>> prompt = List.of(Map.of("role", "user", "content", "태그를 추출"));
+        List<Map<String, Object>> changedPrompt = List.of(Map.of("role", "user", "content", "태그를 추출해 주세요"));
+        Map<String, Object> function = Map.of("name", "extractTilTags", "description", "설명");
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("description", "설명");
+        reordered.put("name", "extractTilTags");
+
+        assertThat(AIPromptVersion.of(prompt, reordered)).isEqualTo(AIPromptVersion.of(prompt, function));
+        assertThat(AIPromptVersion.of(changedPrompt, function)).isNotEqualTo(AIPromptVersion.of(prompt, function));
+    }
+}
@@ -0,0 +1,112 @@
+package com.tilguys.matilda.common.external.circuit;
+
+import com.tilguys.matilda.common.external.config.AICircuitBreakerConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AICircuitBreakerTest {
+
+    private AICircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        AICircuitBreakerConfiguration configuration = new AICircuitBreakerConfiguration();
+        configuration.setWindowSize(4);
+        configuration.setMinimumCalls(4);
+        configuration.setFailureRateThreshold(50);
+        configuration.setSlowCallRateThreshold(75);
+        configuration.setSlowCallDurationMillis(1000);
+        configuration.setOpenDurationMillis(30000);
+        configuration.setHalfOpenProbes(1);
+        breaker = new AICircuitBreaker(configuration);
+    }
+
+    @Test
+    void 최소_호출_수를_채우기_전에는_실패해도_열리지_않는다() {
+        breaker.onError(0);
+        breaker.onError(0);
+        breaker.onError(0);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(breaker.tryAcquirePermission(0)).isTrue();
+    }
+
+    @Test
+    void 실패율이_임계치에_도달하면_열리고_호출을_거부한다() {
+        breaker.onSuccess(10, 0);
+        breaker.onSuccess(10, 0);
+        breaker.onError(0);
+        breaker.onError(0);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(breaker.tryAcquirePermission(29999)).isFalse();
+    }
+
+    @Test
+    void 느린_호출_비율이_임계치에_도달하면_열린다() {
+        breaker.onSuccess(10, 0);
+        breaker.onSuccess(1500, 0);
+        breaker.onSuccess(1500, 0);
+        breaker.onSuccess(1500, 0);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+    }
+
+    @Test
+    void 윈도우를_벗어난_실패는_잊는다() {
+        breaker.onError(0);
+        breaker.onSuccess(10, 0);
+        breaker.onSuccess(10, 0);
+        breaker.onSuccess(10, 0);
+        breaker.onSuccess(10, 0);
+        breaker.onError(0);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(breaker.failureRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    void 열림_시간이_지나면_정해진_수만큼만_탐색_호출을_허용하고_성공하면_닫힌다() {
+        openAt(0);
+
+        assertThat(breaker.tryAcquirePermission(30000)).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitState.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission(30001)).isFalse();
+
+        breaker.onSuccess(10, 30010);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(breaker.tryAcquirePermission(30020)).isTrue();
+    }
+
+    @Test
+    void 탐색_호출이_실패하면_다시_열린다() {
+        openAt(0);
+        breaker.tryAcquirePermission(30000);
+
+        breaker.onError(30010);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(breaker.getOpenUntilMillis()).isEqualTo(60010);
+    }
+
+    @Test
+    void 다른_노드에서_열린_서킷을_반영한다() {
+        breaker.openUntil(5000, 1000);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(breaker.tryAcquirePermission(4999)).isFalse();
+        assertThat(breaker.tryAcquirePermission(5000)).isTrue();
+    }
+
+    private void openAt(long nowMillis) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onError(nowMillis);
+        }
+    }
+}
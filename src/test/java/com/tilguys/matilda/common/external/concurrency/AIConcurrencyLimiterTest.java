@@ -0,0 +1,122 @@
+package com.tilguys.matilda.common.external.concurrency;
+
+import com.tilguys.matilda.common.external.config.AIConcurrencyConfiguration;
+import com.tilguys.matilda.common.external.exception.AIConcurrencyLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AIConcurrencyLimiterTest {
+
+    @Test
+    void 상한을_넘는_호출은_자리를_기다리다_거절된다() throws InterruptedException {
+        AIConcurrencyConfiguration configuration = new AIConcurrencyConfiguration();
+        configuration.setProviders(Map.of("openai", 1));
+        configuration.setAcquireTimeoutMillis(50);
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(configuration, new SimpleMeterRegistry());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread inFlight = Thread.ofVirtual().start(() -> limiter.execute("openai", () -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        started.await(1, TimeUnit.SECONDS);
+
+        assertThat(limiter.inFlight("openai")).isEqualTo(1);
+        assertThatThrownBy(() -> limiter.execute("openai", () -> "second"))
+                .isInstanceOf(AIConcurrencyLimitException.class);
+        assertThat(limiter.execute("Claude", () -> "other provider")).isEqualTo("other provider");
+
+        release.countDown();
+        inFlight.join();
+        assertThat(limiter.inFlight("openai")).isZero();
+        assertThat(limiter.execute("openai", () -> "third")).isEqualTo("third");
+    }
+
+    @Test
+    void 요청_한도_초과_응답이면_상한을_절반으로_줄이고_요청_오류는_반영하지_않는다() {
+        AIConcurrencyConfiguration configuration = new AIConcurrencyConfiguration();
+        configuration.setInitialLimit(8);
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(configuration, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> limiter.execute("openai", () -> {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThat(limiter.limitOf("openai")).isEqualTo(8);
+
+        assertThatThrownBy(() -> limiter.execute("openai", () -> {
+            throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThat(limiter.limitOf("openai")).isEqualTo(4);
+    }
+
+    @Test
+    void 헤지에서_져서_취소된_호출은_상한을_줄이지_않는다() throws Exception {
+        AIConcurrencyConfiguration configuration = new AIConcurrencyConfiguration();
+        configuration.setInitialLimit(8);
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(configuration, new SimpleMeterRegistry());
+
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> loser = executor.submit(() -> limiter.execute("openai", () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                    return "late";
+                } catch (InterruptedException e) {
+                    // JDK HttpClient 처럼 인터럽트를 IOException 으로 감싸 돌려준다
+                    Thread.currentThread().interrupt();
+                    throw new ResourceAccessException("I/O error", new InterruptedIOException("interrupted"));
+                }
+            }));
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            loser.cancel(true);
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(limiter.limitOf("openai")).isEqualTo(8);
+        assertThat(limiter.inFlight("openai")).isZero();
+    }
+
+    @Test
+    void 소켓_타임아웃은_과부하로_보고_상한을_줄인다() {
+        AIConcurrencyConfiguration configuration = new AIConcurrencyConfiguration();
+        configuration.setInitialLimit(8);
+        AIConcurrencyLimiter limiter = new AIConcurrencyLimiter(configuration, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> limiter.execute("openai", () -> {
+            throw new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+        })).isInstanceOf(ResourceAccessException.class);
+        assertThat(limiter.limitOf("openai")).isEqualTo(4);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
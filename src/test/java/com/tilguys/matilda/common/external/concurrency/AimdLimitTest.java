@@ -0,0 +1,102 @@
+package com.tilguys.matilda.common.external.concurrency;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AimdLimitTest {
+
+    @Test
+    void 정상_응답이_이어지면_상한이_가산적으로_증가한다() {
+        AimdLimit limit = new AimdLimit(4, 1, 10, 2.0, 1000);
+
+        for (int i = 0; i < 5; i++) {
+            limit.onSuccess(100, i);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void 최대값을_넘지_않는다() {
+        AimdLimit limit = new AimdLimit(2, 1, 3, 2.0, 1000);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSuccess(100, i);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void 과부하면_절반으로_줄이고_쿨다운_중에는_다시_줄이지_않는다() {
+        AimdLimit limit = new AimdLimit(8, 1, 10, 2.0, 1000);
+
+        assertThat(limit.onOverload(0)).isTrue();
+        assertThat(limit.onOverload(500)).isFalse();
+        assertThat(limit.getLimit()).isEqualTo(4);
+
+        assertThat(limit.onOverload(1500)).isTrue();
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void 기준_응답_시간보다_크게_느린_응답이_연달아_오면_상한을_줄인다() {
+        AimdLimit limit = new AimdLimit(8, 1, 10, 2.0, 1000);
+        for (int i = 0; i < 20; i++) {
+            limit.onSuccess(100, i);
+        }
+        int increased = limit.getLimit();
+
+        assertThat(limit.onSuccess(500, 20)).isFalse();
+        assertThat(limit.onSuccess(500, 30)).isFalse();
+        assertThat(limit.onSuccess(500, 40)).isTrue();
+        assertThat(limit.getLimit()).isEqualTo(increased / 2);
+    }
+
+    @Test
+    void 느린_응답이_한_번_섞여도_상한을_줄이지_않는다() {
+        AimdLimit limit = new AimdLimit(8, 1, 10, 2.0, 1000);
+        for (int i = 0; i < 10; i++) {
+            limit.onSuccess(100, i);
+        }
+
+        assertThat(limit.onSuccess(500, 20)).isFalse();
+        assertThat(limit.onSuccess(100, 30)).isFalse();
+        assertThat(limit.onSuccess(500, 40)).isFalse();
+        assertThat(limit.onSuccess(500, 50)).isFalse();
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    void 짧은_요청과_긴_요청이_섞여도_상한이_무너지지_않는다() {
+        AimdLimit limit = new AimdLimit(4, 1, 16, 2.0, 1000);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            long latency = random.nextDouble() < 0.7
+                    ? 500 + random.nextInt(1000)
+                    : 5000 + random.nextInt(4000);
+            limit.onSuccess(latency, i * 100L);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(16);
+        assertThat(limit.getBaselineLatencyMillis()).isGreaterThan(5000);
+    }
+
+    @Test
+    void 최소값_아래로_줄이지_않는다() {
+        AimdLimit limit = new AimdLimit(2, 1, 10, 2.0, 0);
+
+        limit.onOverload(0);
+        limit.onOverload(1);
+        limit.onOverload(2);
+
+        assertThat(limit.getLimit()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.tilguys.matilda.common.external.decode;
+
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.ReferenceArgument;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.SubTagArgument;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ToolCallArgumentsMergerTest {
+
+    @Test
+    void 여러_조각에서_나온_값을_앞에_두고_상한까지만_합친다() {
+        ToolCallArguments first = new ToolCallArguments(
+                List.of("A", "B", "C", "D"),
+                List.of(new SubTagArgument("A", "a1"), new SubTagArgument("D", "d1")),
+                List.of(new ReferenceArgument("JPA", "첫 설명"))
+        );
+        ToolCallArguments second = new ToolCallArguments(
+                List.of("E", "F", "C"),
+                List.of(new SubTagArgument("C", "c1"), new SubTagArgument("F", "f1")),
+                List.of(new ReferenceArgument("jpa", "둘째 설명"), new ReferenceArgument("Redis", "캐시"))
+        );
+
+        ToolCallArguments merged = ToolCallArgumentsMerger.merge(List.of(first, second));
+
+        assertThat(merged.tags()).containsExactly("C", "A", "B", "D", "E");
+        assertThat(merged.subTags()).containsExactly(
+                new SubTagArgument("A", "a1"),
+                new SubTagArgument("D", "d1"),
+                new SubTagArgument("C", "c1")
+        );
+        assertThat(merged.references()).containsExactly(
+                new ReferenceArgument("JPA", "첫 설명"),
+                new ReferenceArgument("Redis", "캐시")
+        );
+    }
+
+    @Test
+    void 합친_결과는_디코더로_다시_읽을_수_있다() throws Exception {
+        ToolCallArguments merged = ToolCallArgumentsMerger.merge(List.of(
+                new ToolCallArguments(null, null, List.of(new ReferenceArgument("JPA", "설명"))),
+                new ToolCallArguments(null, null, List.of(new ReferenceArgument("Redis", "캐시")))
+        ));
+
+        ToolCallArguments decoded = ToolCallDecoder.shared().decode(ToolCallArgumentsMerger.toResponseJson(merged));
+
+        assertThat(decoded).isEqualTo(merged);
+        assertThat(decoded.tags()).isNull();
+    }
+}
@@ -0,0 +1,94 @@
+package com.tilguys.matilda.common.external.decode;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트리밍 디코더와 이전의 readTree 두 번(응답 → arguments) 방식 비교. 테스트 실행에는 포함되지 않으며
+ * IDE 나 테스트 클래스패스로 main 을 실행한다.
+ * <pre>
+ * java -cp "build/classes/java/test:build/classes/java/main:$(테스트 런타임 클래스패스)" \
+ *     com.tilguys.matilda.common.external.decode.ToolCallDecoderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolCallDecoderBenchmark {
+
+    @Param({"5", "50"})
+    private int references;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ToolCallDecoder decoder;
+    private String response;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ToolCallDecoderBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        decoder = new ToolCallDecoder(objectMapper);
+        StringBuilder arguments = new StringBuilder("{\"tags\":[\"JPA\",\"스프링\",\"트랜잭션\"],\"subTags\":[")
+                .append("{\"coreTag\":\"JPA\",\"subTag\":\"N+1\"}],\"references\":[");
+        for (int i = 0; i < references; i++) {
+            if (i > 0) {
+                arguments.append(',');
+            }
+            arguments.append("{\"word\":\"키워드").append(i)
+                    .append("\",\"info\":\"연관 엔티티를 함께 조회하는 방법에 대한 설명 ").append(i).append("\"}");
+        }
+        arguments.append("]}");
+        response = "{\"id\":\"chatcmpl-1\",\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\","
+                + "\"content\":null,\"tool_calls\":[{\"id\":\"call_1\",\"type\":\"function\",\"function\":"
+                + "{\"name\":\"extractTilEnrichment\",\"arguments\":"
+                + objectMapper.writeValueAsString(arguments.toString())
+                + "}}]}}],\"usage\":{\"prompt_tokens\":1200,\"completion_tokens\":300}}";
+    }
+
+    @Benchmark
+    public ToolCallArguments streamingDecode() throws IOException {
+        return decoder.decode(response);
+    }
+
+    @Benchmark
+    public void readTreeTwice(Blackhole blackhole) throws IOException {
+        JsonNode root = objectMapper.readTree(response);
+        String arguments = root.path("choices").get(0)
+                .path("message").path("tool_calls").get(0)
+                .path("function").path("arguments").asText();
+        JsonNode argsNode = objectMapper.readTree(arguments);
+        for (JsonNode tag : argsNode.get("tags")) {
+            blackhole.consume(tag.asText());
+        }
+        for (JsonNode reference : argsNode.get("references")) {
+            blackhole.consume(reference.get("word").asText());
+            blackhole.consume(reference.get("info").asText());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.tilguys.matilda.common.external.decode;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.ReferenceArgument;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.SubTagArgument;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ToolCallDecoderTest {
+
+    private final ToolCallDecoder decoder = new ToolCallDecoder(new ObjectMapper());
+
+    @Test
+    void OpenAI_tool_calls_의_arguments_문자열을_디코딩한다() throws IOException {
+        String response = """
+                {"id":"chatcmpl-1","choices":[{"index":0,"message":{"role":"assistant","content":null,
+                "tool_calls":[{"id":"call_1","type":"function","function":{"name":"extractTilEnrichment",
+                "arguments":"{\\"tags\\":[\\"JPA\\"],\\"subTags\\":[{\\"coreTag\\":\\"JPA\\",\\"subTag\\":\\"N+1\\"}],\\"references\\":[{\\"word\\":\\"fetch join\\",\\"info\\":\\"연관 엔티티를 함께 조회\\"}]}"}}]}}],
+                "usage":{"prompt_tokens":10}}
+                """;
+
+        ToolCallArguments arguments = decoder.decode(response);
+
+        assertThat(arguments.tags()).containsExactly("JPA");
+        assertThat(arguments.subTags()).containsExactly(new SubTagArgument("JPA", "N+1"));
+        assertThat(arguments.references()).containsExactly(new ReferenceArgument("fetch join", "연관 엔티티를 함께 조회"));
+    }
+
+    @Test
+    void Claude_content_중_tool_use_블록의_input_을_디코딩한다() throws IOException {
+        String response = """
+                {"id":"msg_1","type":"message","role":"assistant","content":[
+                {"type":"text","text":"태그를 추출했습니다"},
+                {"input":{"tags":["Spring"],"extra":{"nested":[1,2]}},"id":"toolu_1","type":"tool_use","name":"extractTags"}],
+                "stop_reason":"tool_use"}
+                """;
+
+        ToolCallArguments arguments = decoder.decode(response);
+
+        assertThat(arguments.tags()).containsExactly("Spring");
+        assertThat(arguments.subTags()).isNull();
+        assertThat(arguments.references()).isNull();
+    }
+
+    @Test
+    void 함수_호출이_없거나_JSON이_아니면_예외가_발생한다() {
+        assertThatThrownBy(() -> decoder.decode("not json")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> decoder.decode("""
+                {"content":[{"type":"text","text":"no tool"}]}
+                """)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> decoder.decode("""
+                {"choices":[{"message":{"content":"no tool"}}]}
+                """)).isInstanceOf(IOException.class);
+    }
+}
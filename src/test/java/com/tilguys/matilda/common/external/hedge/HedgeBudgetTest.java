@@ -0,0 +1,54 @@
+package com.tilguys.matilda.common.external.hedge;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class HedgeBudgetTest {
+
+    @Test
+    void 윈도우_내_헤지_비율이_상한에_도달하면_헤지를_거부한다() {
+        HedgeBudget budget = new HedgeBudget(10, 20);
+
+        budget.recordRequest();
+        assertThat(budget.tryHedge()).isTrue();
+        budget.recordRequest();
+        assertThat(budget.tryHedge()).isTrue();
+        budget.recordRequest();
+
+        assertThat(budget.tryHedge()).isFalse();
+        assertThat(budget.hedgeRatio()).isEqualTo(0.2);
+    }
+
+    @Test
+    void 오래된_헤지가_윈도우를_벗어나면_다시_허용한다() {
+        HedgeBudget budget = new HedgeBudget(4, 25);
+        budget.recordRequest();
+        budget.tryHedge();
+
+        for (int i = 0; i < 3; i++) {
+            budget.recordRequest();
+            assertThat(budget.tryHedge()).isFalse();
+        }
+        budget.recordRequest();
+
+        assertThat(budget.tryHedge()).isTrue();
+    }
+
+    @Test
+    void 표본이_부족하면_백분위를_계산하지_않는다() {
+        LatencyWindow window = new LatencyWindow(100);
+        for (long latency = 1; latency <= 9; latency++) {
+            window.record(latency * 100);
+        }
+
+        assertThat(window.percentile(90, 10)).isEmpty();
+
+        window.record(1000);
+        assertThat(window.percentile(90, 10)).hasValue(900);
+        assertThat(window.percentile(50, 10)).hasValue(500);
+    }
+}
@@ -0,0 +1,47 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AIPromptMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AIPromptMetrics promptMetrics = new AIPromptMetrics(new ObjectMapper(), meterRegistry);
+
+    @Test
+    void OpenAI_응답의_캐시_토큰_수를_기록한다() {
+        promptMetrics.recordUsage("openai", """
+                {"choices":[{"message":{"content":null}}],
+                 "usage":{"prompt_tokens":1200,"completion_tokens":80,"prompt_tokens_details":{"cached_tokens":1024}}}
+                """);
+
+        assertThat(tokens("openai", "input")).isEqualTo(1200);
+        assertThat(tokens("openai", "cached")).isEqualTo(1024);
+    }
+
+    @Test
+    void Claude_응답의_캐시_읽기와_생성_토큰_수를_기록한다() {
+        promptMetrics.recordUsage("Claude", """
+                {"content":[{"type":"tool_use","input":{}}],
+                 "usage":{"input_tokens":50,"cache_creation_input_tokens":0,"cache_read_input_tokens":1500,"output_tokens":90}}
+                """);
+
+        assertThat(tokens("Claude", "input")).isEqualTo(50);
+        assertThat(tokens("Claude", "cached")).isEqualTo(1500);
+        assertThat(tokens("Claude", "cache_write")).isZero();
+    }
+
+    private double tokens(String provider, String type) {
+        return meterRegistry.get("ai.prompt.tokens")
+                .tag("provider", provider)
+                .tag("type", type)
+                .counter()
+                .count();
+    }
+}
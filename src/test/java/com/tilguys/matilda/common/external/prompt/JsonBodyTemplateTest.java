@@ -0,0 +1,49 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class JsonBodyTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 내용을_이스케이프해_끼워_넣은_본문은_유효한_JSON이다() throws Exception {
+        PromptTemplate template = new PromptTemplate("시스템", "지시문", Map.of("name", "extract"));
+        JsonBodyTemplate bodyTemplate = JsonBodyTemplate.of(
+                objectMapper,
+                Map.of("model", "m", "messages", template.messages(JsonBodyTemplate.CONTENT_PLACEHOLDER))
+        );
+        String content = "줄바꿈\n과 \"따옴표\" 그리고 \\ 역슬래시";
+
+        JsonNode body = objectMapper.readTree(bodyTemplate.render(content));
+
+        assertThat(body.get("messages").get(1).get("content").asText())
+                .isEqualTo("지시문" + template.contentBlock(content));
+    }
+
+    @Test
+    void 같은_본문은_맵_순서와_무관하게_같은_앞부분을_만든다() {
+        Map<String, Object> body = Map.of("a", 1, "b", 2, "c", 3, "text", JsonBodyTemplate.CONTENT_PLACEHOLDER);
+
+        byte[] rendered = JsonBodyTemplate.of(objectMapper, body).render("x");
+
+        assertThat(new String(rendered)).isEqualTo("{\"a\":1,\"b\":2,\"c\":3,\"text\":\"x\"}");
+    }
+
+    @Test
+    void 내용_자리가_없으면_예외가_발생한다() {
+        assertThatThrownBy(() -> JsonBodyTemplate.of(objectMapper, Map.of("messages", List.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tilguys.matilda.common.external.prompt;
+
+import com.tilguys.matilda.common.external.config.AIContentConfiguration;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TilContentPreprocessorTest {
+
+    @Test
+    void 코드_블록과_마크다운_잡음을_걷어낸다() {
+        TilContentPreprocessor preprocessor = new TilContentPreprocessor(new AIContentConfiguration());
+        String content = """
+                ## 영속성 컨텍스트
+                
+                **1차 캐시**는 [공식 문서](https://docs.jboss.org)에 나온다. `EntityManager` 를 쓴다.
+                
+                ```java
+                em.persist(member);
+                ```
+                
+                ![그림](https://img.png) <br/>
+                """;
+
+        String cleaned = preprocessor.clean(content);
+
+        assertThat(cleaned).isEqualTo("""
+                영속성 컨텍스트
+                
+                1차 캐시는 공식 문서에 나온다. EntityManager 를 쓴다.
+                
+                [java 코드 생략]
+                
+                그림""");
+    }
+
+    @Test
+    void 한도를_넘는_내용은_문단_경계로_나누고_최대_조각_수까지만_쓴다() {
+        AIContentConfiguration configuration = new AIContentConfiguration();
+        configuration.setMaxPromptTokens(10);
+        configuration.setChunkTokens(8);
+        configuration.setMaxChunks(2);
+        TilContentPreprocessor preprocessor = new TilContentPreprocessor(configuration);
+
+        List<String> chunks = preprocessor.split("가나다라마\n\n바사아자차\n\n카타파하");
+
+        assertThat(chunks).containsExactly("가나다라마", "바사아자차");
+    }
+
+    @Test
+    void 한도_이하의_내용은_한_조각이다() {
+        TilContentPreprocessor preprocessor = new TilContentPreprocessor(new AIContentConfiguration());
+
+        assertThat(preprocessor.split("짧은 TIL")).containsExactly("짧은 TIL");
+    }
+
+    @Test
+    void 영문은_네_글자당_한글은_글자당_한_토큰으로_추정한다() {
+        assertThat(TokenEstimator.estimate("spring 스프링!")).isEqualTo(2 + 3 + 1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tilguys.matilda.common.http;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tilguys.matilda.common.http.config.OutboundHttpConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OutboundHttpClientsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private OutboundHttpClients outboundHttpClients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        OutboundHttpConfiguration configuration = new OutboundHttpConfiguration();
+        configuration.setTargets(Map.of("slow", new OutboundHttpConfiguration.Target(1000, 200)));
+        outboundHttpClients = new OutboundHttpClients(new RestTemplateBuilder(), configuration, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 같은_대상은_같은_RestTemplate을_재사용한다() {
+        assertThat(outboundHttpClients.restTemplate("slack")).isSameAs(outboundHttpClients.restTemplate("slack"));
+        assertThat(outboundHttpClients.restTemplate("slack")).isNotSameAs(outboundHttpClients.restTemplate("github"));
+    }
+
+    @Test
+    void 대상별로_응답_시간을_기록한다() {
+        String body = outboundHttpClients.restTemplate("slack").getForObject(url("/ok"), String.class);
+
+        assertThat(body).isEqualTo("ok");
+        assertThat(meterRegistry.get("http.outbound.requests")
+                .tags("target", "slack", "method", "GET", "status", "200")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void 읽기_타임아웃을_넘기면_예외가_발생하고_오류로_기록한다() {
+        assertThatThrownBy(() -> outboundHttpClients.restTemplate("slow").getForObject(url("/slow"), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(meterRegistry.get("http.outbound.requests")
+                .tags("target", "slow", "status", "IO_ERROR")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
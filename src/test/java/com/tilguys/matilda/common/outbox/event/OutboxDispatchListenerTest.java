@@ -0,0 +1,65 @@
+package com.tilguys.matilda.common.outbox.event;
+
+import com.tilguys.matilda.common.outbox.service.OutboxDispatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OutboxDispatchListenerTest {
+
+    private final Queue<Runnable> submitted = new ArrayDeque<>();
+    private OutboxDispatcher dispatcher;
+    private OutboxDispatchListener listener;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = mock(OutboxDispatcher.class);
+        listener = new OutboxDispatchListener(dispatcher, submitted::add);
+    }
+
+    @Test
+    void 처리가_시작되기_전에_들어온_요청은_한_번의_처리로_합친다() {
+        listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("SLACK"));
+        listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("SLACK"));
+        listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("SLACK"));
+
+        assertThat(submitted).hasSize(1);
+        submitted.poll().run();
+
+        verify(dispatcher, times(1)).dispatch("SLACK");
+    }
+
+    @Test
+    void 처리_중에_들어온_요청은_끝난_뒤_한_번_더_처리한다() {
+        doAnswer(invocation -> {
+            listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("SLACK"));
+            listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("SLACK"));
+            return null;
+        }).doNothing().when(dispatcher).dispatch("SLACK");
+
+        listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("SLACK"));
+        submitted.poll().run();
+
+        assertThat(submitted).isEmpty();
+        verify(dispatcher, times(2)).dispatch("SLACK");
+    }
+
+    @Test
+    void 유형이_다르면_따로_처리한다() {
+        listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("SLACK"));
+        listener.handleOutboxEventRecorded(new OutboxEventRecordedEvent("REFERENCE"));
+
+        assertThat(submitted).hasSize(2);
+    }
+}
@@ -0,0 +1,256 @@
+package com.tilguys.matilda.common.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.common.dlq.service.DLQService;
+import com.tilguys.matilda.common.outbox.OutboxEventHandler;
+import com.tilguys.matilda.common.outbox.OutboxPayloadCodec;
+import com.tilguys.matilda.common.outbox.config.OutboxConfiguration;
+import com.tilguys.matilda.common.outbox.domain.OutboxEvent;
+import com.tilguys.matilda.common.outbox.domain.OutboxStatus;
+import com.tilguys.matilda.common.outbox.repository.OutboxEventRepository;
+import com.tilguys.matilda.common.retry.RetryPolicyRegistry;
+import com.tilguys.matilda.common.retry.config.RetryPolicyConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OutboxDispatcherTest {
+
+    private static final String EVENT_TYPE = "TEST";
+    private static final int MAX_ATTEMPTS = new RetryPolicyConfiguration().policyOf(EVENT_TYPE).getMaxAttempts();
+
+    private final OutboxPayloadCodec codec = new OutboxPayloadCodec(new ObjectMapper());
+    private OutboxEventRepository repository;
+    private DLQService dlqService;
+    private RecordingHandler handler;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        dlqService = mock(DLQService.class);
+        handler = new RecordingHandler();
+        when(repository.completeIfClaimedBy(any(), anyString(), any())).thenReturn(1);
+        when(repository.rescheduleIfClaimedBy(any(), anyString(), anyInt(), any(), any())).thenReturn(1);
+        when(repository.failIfClaimedBy(any(), anyString(), anyInt(), any(), any())).thenReturn(1);
+
+        dispatcher = createDispatcher(new OutboxConfiguration());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void 처리에_성공하면_완료로_기록한다() {
+        OutboxEvent event = claimable(1L, "ok");
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        assertThat(handler.handled).containsExactly("ok");
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+        assertThat(event.getLockedBy()).isNull();
+    }
+
+    @Test
+    void 일시적으로_실패하면_다시_스케줄링한다() {
+        OutboxEvent event = claimable(1L, "timeout");
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        verify(dlqService, never()).sendToDLQ(anyString(), any(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 치명적_실패는_재시도하지_않고_DLQ로_넘긴다() {
+        OutboxEvent event = claimable(1L, "invalid");
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(dlqService).sendToDLQ(eq(EVENT_TYPE), eq(1L), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 선점을_잃었으면_결과를_기록하지_않는다() {
+        OutboxEvent event = claimable(1L, "ok");
+        when(repository.completeIfClaimedBy(any(), anyString(), any())).thenReturn(0);
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void 선점을_잃었으면_재시도를_포기해도_DLQ로_넘기지_않는다() {
+        claimable(1L, "invalid");
+        when(repository.failIfClaimedBy(any(), anyString(), anyInt(), any(), any())).thenReturn(0);
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        verify(dlqService, never()).sendToDLQ(anyString(), any(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 선점이_만료된_이벤트를_다시_가져오면_실패한_시도로_센다() {
+        OutboxEvent event = expired(1L, "ok", 0);
+        when(repository.findClaimableEvents(eq(EVENT_TYPE), any(), any())).thenReturn(List.of(event));
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        assertThat(handler.handled).containsExactly("ok");
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+    }
+
+    @Test
+    void 선점_만료가_시도_한도에_닿으면_처리하지_않고_DLQ로_넘긴다() {
+        OutboxEvent event = expired(1L, "ok", MAX_ATTEMPTS - 1);
+        when(repository.findClaimableEvents(eq(EVENT_TYPE), any(), any())).thenReturn(List.of(event));
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        assertThat(handler.handled).isEmpty();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getRetryCount()).isEqualTo(MAX_ATTEMPTS);
+        verify(dlqService).sendToDLQ(eq(EVENT_TYPE), eq(1L), anyString(), anyString(), isNull());
+    }
+
+    @Test
+    void 묶음_처리를_지원하면_선점한_이벤트를_한_번에_넘긴다() {
+        handler.batchable = true;
+        OutboxEvent first = event(1L, "a");
+        OutboxEvent second = event(2L, "b");
+        when(repository.findClaimableEvents(eq(EVENT_TYPE), any(), any())).thenReturn(List.of(first, second));
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        assertThat(handler.batches).containsExactly(List.of("a", "b"));
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+        assertThat(second.getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+    }
+
+    @Test
+    void 처리가_길어지면_선점을_연장한다() {
+        OutboxConfiguration configuration = new OutboxConfiguration();
+        configuration.setLeaseSeconds(3);
+        dispatcher.shutdown();
+        dispatcher = createDispatcher(configuration);
+        claimable(1L, "slow");
+
+        dispatcher.dispatch(EVENT_TYPE);
+
+        verify(repository, atLeastOnce()).renewLeases(eq(List.of(1L)), anyString(), any());
+        assertThat(handler.handled).containsExactly("slow");
+    }
+
+    private OutboxDispatcher createDispatcher(OutboxConfiguration configuration) {
+        return new OutboxDispatcher(
+                List.of(handler),
+                repository,
+                codec,
+                configuration,
+                new RetryPolicyRegistry(new RetryPolicyConfiguration(), new SimpleMeterRegistry()),
+                dlqService,
+                new SimpleMeterRegistry(),
+                Runnable::run,
+                mock(PlatformTransactionManager.class)
+        );
+    }
+
+    private OutboxEvent claimable(Long id, String payload) {
+        OutboxEvent event = event(id, payload);
+        when(repository.findClaimableEvents(eq(EVENT_TYPE), any(), any())).thenReturn(List.of(event));
+        return event;
+    }
+
+    private OutboxEvent event(Long id, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(EVENT_TYPE)
+                .payload(codec.encode(payload))
+                .status(OutboxStatus.PENDING)
+                .scheduledAt(LocalDateTime.now())
+                .build();
+    }
+
+    private OutboxEvent expired(Long id, String payload, int retryCount) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(EVENT_TYPE)
+                .payload(codec.encode(payload))
+                .status(OutboxStatus.PROCESSING)
+                .retryCount(retryCount)
+                .scheduledAt(LocalDateTime.now().minusMinutes(10))
+                .lockedBy("crashed-node")
+                .leaseExpiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+
+    private static class RecordingHandler implements OutboxEventHandler<String> {
+
+        private final List<String> handled = new ArrayList<>();
+        private final List<List<String>> batches = new ArrayList<>();
+        private boolean batchable;
+
+        @Override
+        public String eventType() {
+            return EVENT_TYPE;
+        }
+
+        @Override
+        public Class<String> payloadType() {
+            return String.class;
+        }
+
+        @Override
+        public void handle(String payload) throws InterruptedException {
+            if (payload.equals("timeout")) {
+                throw new RuntimeException("timeout");
+            }
+            if (payload.equals("invalid")) {
+                throw new IllegalArgumentException("invalid");
+            }
+            if (payload.equals("slow")) {
+                // 선점 연장 주기(lease 3초의 1/3)보다 오래 걸리는 외부 호출
+                Thread.sleep(1500);
+            }
+            handled.add(payload);
+        }
+
+        @Override
+        public boolean batchable() {
+            return batchable;
+        }
+
+        @Override
+        public void handleBatch(List<String> payloads) {
+            batches.add(payloads);
+        }
+    }
+}
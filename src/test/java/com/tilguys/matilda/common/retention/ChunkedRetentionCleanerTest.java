@@ -0,0 +1,59 @@
+package com.tilguys.matilda.common.retention;
+
+import com.tilguys.matilda.common.retention.config.RetentionConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ChunkedRetentionCleanerTest {
+
+    private RetentionConfiguration configuration;
+    private SimpleMeterRegistry meterRegistry;
+    private ChunkedRetentionCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new RetentionConfiguration();
+        configuration.setChunkSize(10);
+        configuration.setPauseMillis(0);
+        meterRegistry = new SimpleMeterRegistry();
+        cleaner = new ChunkedRetentionCleaner(configuration, meterRegistry, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void 청크보다_적게_지워질_때까지_반복하고_삭제_건수를_기록한다() {
+        int[] remaining = {25};
+        List<Integer> requestedSizes = new ArrayList<>();
+
+        long deleted = cleaner.purge("outbox", chunkSize -> {
+            requestedSizes.add(chunkSize);
+            int count = Math.min(chunkSize, remaining[0]);
+            remaining[0] -= count;
+            return count;
+        });
+
+        assertThat(deleted).isEqualTo(25);
+        assertThat(requestedSizes).containsExactly(10, 10, 10);
+        assertThat(meterRegistry.get("retention.deleted.rows").tag("table", "outbox").counter().count())
+                .isEqualTo(25);
+    }
+
+    @Test
+    void 한_번_실행에서_지우는_청크_수를_제한한다() {
+        configuration.setMaxChunksPerRun(2);
+
+        long deleted = cleaner.purge("dlq", chunkSize -> chunkSize);
+
+        assertThat(deleted).isEqualTo(20);
+    }
+}
@@ -0,0 +1,86 @@
+package com.tilguys.matilda.common.retry;
+
+import com.tilguys.matilda.common.retry.config.RetryPolicyConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RetryPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private RetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        RetryPolicyConfiguration.Policy settings = new RetryPolicyConfiguration.Policy();
+        settings.setMaxAttempts(5);
+        settings.setBaseDelaySeconds(10);
+        settings.setMaxDelaySeconds(60);
+        settings.setMaxAgeMinutes(30);
+        settings.setFatalExceptions(List.of(IllegalArgumentException.class.getName(), "com.example.Missing"));
+        policy = new RetryPolicy(settings);
+    }
+
+    @Test
+    void 대기_상한은_시도마다_두_배로_늘고_최대_대기_시간을_넘지_않는다() {
+        assertThat(policy.backoff(1, 0.999)).isLessThan(Duration.ofSeconds(10));
+        assertThat(policy.backoff(2, 0.5)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(policy.backoff(3, 0.5)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(policy.backoff(10, 0.5)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(policy.backoff(100, 0.5)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void 난수에_따라_대기_시간이_흩어진다() {
+        assertThat(policy.backoff(3, 0.0)).isEqualTo(Duration.ZERO);
+        assertThat(policy.backoff(3, 0.25)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void 한도_안의_일시적_실패는_백오프_후_재시도한다() {
+        RetryDecision decision = policy.decide(2, NOW.minusMinutes(1), new RuntimeException("timeout"), NOW, 0.5);
+
+        assertThat(decision.shouldRetry()).isTrue();
+        assertThat(decision.nextAttemptAt()).isEqualTo(NOW.plusSeconds(10));
+    }
+
+    @Test
+    void 원인_체인에_치명적_예외가_있으면_재시도하지_않는다() {
+        RuntimeException failure = new RuntimeException("태그 생성 실패", new IllegalArgumentException());
+
+        RetryDecision decision = policy.decide(1, NOW, failure, NOW, 0.5);
+
+        assertThat(decision.verdict()).isEqualTo(RetryDecision.Verdict.FATAL);
+        assertThat(decision.nextAttemptAt()).isNull();
+    }
+
+    @Test
+    void 최대_시도_횟수에_도달하면_포기한다() {
+        RetryDecision decision = policy.decide(5, NOW, new RuntimeException(), NOW, 0.5);
+
+        assertThat(decision.verdict()).isEqualTo(RetryDecision.Verdict.EXHAUSTED);
+    }
+
+    @Test
+    void 다음_시도가_최대_경과_시간을_넘으면_포기한다() {
+        RetryDecision decision = policy.decide(4, NOW.minusMinutes(29).minusSeconds(30), new RuntimeException(), NOW, 0.9);
+
+        assertThat(decision.verdict()).isEqualTo(RetryDecision.Verdict.EXPIRED);
+    }
+
+    @Test
+    void 최초_시도_시각을_모르면_경과_시간은_보지_않는다() {
+        RetryDecision decision = policy.decide(4, null, new RuntimeException(), NOW, 0.9);
+
+        assertThat(decision.shouldRetry()).isTrue();
+    }
+}
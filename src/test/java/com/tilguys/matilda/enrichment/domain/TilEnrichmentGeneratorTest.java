@@ -0,0 +1,59 @@
+package com.tilguys.matilda.enrichment.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tilguys.matilda.reference.domain.TilReferenceParser;
+import com.tilguys.matilda.tag.domain.TilTagParser;
+import com.tilguys.matilda.til.domain.Reference;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TilEnrichmentGeneratorTest {
+
+    private final TilEnrichmentGenerator generator = new TilEnrichmentGenerator();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 함수_스키마에_태그와_레퍼런스가_모두_포함된다() {
+        Map<String, Object> parameters = (Map<String, Object>) generator.createFunctionDefinition().get("parameters");
+
+        assertThat((Map<String, Object>) parameters.get("properties"))
+                .containsOnlyKeys("tags", "subTags", "references");
+        assertThat((List<String>) parameters.get("required"))
+                .containsExactly("tags", "subTags", "references");
+    }
+
+    @Test
+    void 프롬프트에_TIL_내용과_핵심_태그_후보가_들어간다() {
+        List<Map<String, Object>> prompt = generator.createPrompt("오늘은 JPA 영속성 컨텍스트를 공부했다");
+
+        assertThat((String) prompt.get(1).get("content"))
+                .contains("오늘은 JPA 영속성 컨텍스트를 공부했다")
+                .contains("자바,스프링,JPA");
+    }
+
+    @Test
+    void 통합_응답을_태그_파서와_레퍼런스_파서가_각각_파싱한다() {
+        String arguments = """
+                {"tags":["JPA"],"subTags":[{"coreTag":"jpa","subTag":"영속성 컨텍스트"}],\
+                "references":[{"word":"Dirty Checking","info":"변경 감지"}]}""";
+        String response = """
+                {"choices":[{"message":{"tool_calls":[{"function":{"arguments":%s}}]}}]}"""
+                .formatted(quote(arguments));
+
+        assertThat(new TilTagParser().parseTags(response)).containsExactly("jpa");
+        assertThat(new TilReferenceParser(new ObjectMapper()).parseReferences(response))
+                .extracting(Reference::getWord)
+                .containsExactly("dirty checking");
+    }
+
+    private String quote(String value) {
+        return "\"" + value.replace("\"", "\\\"") + "\"";
+    }
+}
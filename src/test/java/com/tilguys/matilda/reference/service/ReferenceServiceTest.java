@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tilguys.matilda.common.external.OpenAIClient;
 import com.tilguys.matilda.common.external.FailoverAIServiceManager;
+import com.tilguys.matilda.common.external.cache.AIResultCache;
 import com.tilguys.matilda.reference.event.ReferenceCreateEvent;
 import com.tilguys.matilda.reference.repository.ReferenceRepository;
 import com.tilguys.matilda.til.domain.Reference;
@@ -16,6 +17,7 @@ import com.tilguys.matilda.til.repository.TilRepository;
 import com.tilguys.matilda.user.TilUser;
 import com.tilguys.matilda.user.TilUserFixture;
 import com.tilguys.matilda.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -24,6 +26,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -48,17 +51,20 @@ class ReferenceServiceTest {
 
     public ReferenceServiceTest(@Autowired ReferenceRepository referenceRepository,
                                 @Autowired TilRepository tilRepository,
-                                @Autowired ObjectMapper objectMapper) {
+                                @Autowired ObjectMapper objectMapper,
+                                @Autowired PlatformTransactionManager transactionManager) {
         String mockOpenAIResponse = createRealisticOpenAIResponse();
 
         FailoverAIServiceManager mockFailoverManager = Mockito.mock(FailoverAIServiceManager.class);
-        when(mockFailoverManager.callAIWithSimpleFallback(any(), any())).thenReturn(mockOpenAIResponse);
+        when(mockFailoverManager.callAI(any(), any())).thenReturn(mockOpenAIResponse);
 
         this.service = new ReferenceService(
                 mockFailoverManager,
                 referenceRepository,
                 objectMapper,
-                tilRepository
+                tilRepository,
+                new AIResultCache(null, new SimpleMeterRegistry(), false, 7, 100),
+                transactionManager
         );
     }
 
@@ -77,6 +83,20 @@ class ReferenceServiceTest {
 
     }
 
+    @Test
+    void 같은_이벤트가_다시_전달돼도_레퍼런스는_한_벌만_남는다() {
+        TilUser tilUser = TilUserFixture.createTilUserFixture();
+        userRepository.save(tilUser);
+        Til til = TilFixture.createTilFixture(tilUser, true, false);
+        tilRepository.save(til);
+
+        ReferenceCreateEvent event = new ReferenceCreateEvent(til.getTilId(), "test");
+        service.createReference(event);
+        int firstDelivery = referenceRepository.getAllByTil_TilId(til.getTilId()).size();
+        service.createReference(event);
+
+        assertThat(referenceRepository.getAllByTil_TilId(til.getTilId())).hasSize(firstDelivery);
+    }
 
     private String createRealisticOpenAIResponse() {
         return """
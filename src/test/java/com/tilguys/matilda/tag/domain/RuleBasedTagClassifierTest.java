@@ -0,0 +1,60 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.domain.TagKeywordAutomaton.Keyword;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RuleBasedTagClassifierTest {
+
+    private final RuleBasedTagClassifier classifier = new RuleBasedTagClassifier();
+
+    @Test
+    void 동의어와_어노테이션으로_핵심_태그를_고른다() {
+        String content = """
+                오늘은 @Transactional 의 전파 속성을 공부했다. Spring Boot 에서 영속성 컨텍스트와
+                지연 로딩 때문에 N+1 문제가 생겨 fetch join 으로 해결했다. 트랜잭션 격리 수준도 정리했다.
+                """;
+
+        assertThat(classifier.classify(content)).containsExactly("JPA", "스프링", "데이터베이스");
+    }
+
+    @Test
+    void 점수가_낮은_후보는_제외한다() {
+        assertThat(classifier.classify("오늘은 산책을 하며 프로젝트 생각을 했다")).isEmpty();
+    }
+
+    @Test
+    void 영문_키워드는_단어_경계에서만_인정한다() {
+        TagKeywordAutomaton automaton = TagKeywordAutomaton.of(List.of(
+                new Keyword("api", "api", 1),
+                new Keyword("스택", "자료구조", 1)
+        ));
+
+        Map<Keyword, Integer> matches = automaton.countMatches("Rapid API 호출, 콜스택과 스택을 본다");
+
+        assertThat(matches).containsExactlyInAnyOrderEntriesOf(Map.of(
+                new Keyword("api", "api", 1), 1,
+                new Keyword("스택", "자료구조", 1), 2
+        ));
+    }
+
+    @Test
+    void 다른_키워드의_접미사인_키워드도_함께_찾는다() {
+        TagKeywordAutomaton automaton = TagKeywordAutomaton.of(List.of(
+                new Keyword("spring data jpa", "JPA", 1),
+                new Keyword("jpa", "JPA", 2),
+                new Keyword("data", "데이터베이스", 1)
+        ));
+
+        Map<Keyword, Integer> matches = automaton.countMatches("Spring Data JPA");
+
+        assertThat(matches).hasSize(3);
+    }
+}
@@ -0,0 +1,61 @@
+package com.tilguys.matilda.tag.domain;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagCreationOutboxEventTest {
+
+    @Test
+    void 선점하면_처리_중이_되고_선점한_작업자만_소유한다() {
+        TagCreationOutboxEvent event = pendingEvent();
+
+        event.claim("node-a", LocalDateTime.now().plusMinutes(5));
+
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PROCESSING);
+        assertThat(event.isClaimedBy("node-a")).isTrue();
+        assertThat(event.isClaimedBy("node-b")).isFalse();
+    }
+
+    @Test
+    void 완료하거나_재스케줄하면_선점이_풀린다() {
+        TagCreationOutboxEvent completed = pendingEvent();
+        completed.claim("node-a", LocalDateTime.now().plusMinutes(5));
+        completed.markAsCompleted();
+
+        TagCreationOutboxEvent rescheduled = pendingEvent();
+        rescheduled.claim("node-a", LocalDateTime.now().plusMinutes(5));
+        rescheduled.markAsFailed("timeout");
+        rescheduled.reschedule(LocalDateTime.now().plusMinutes(5));
+
+        assertThat(completed.isClaimedBy("node-a")).isFalse();
+        assertThat(completed.getLeaseExpiresAt()).isNull();
+        assertThat(rescheduled.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(rescheduled.getLockedBy()).isNull();
+    }
+
+    @Test
+    void 재스케줄된_이벤트는_재시도_차선으로_옮겨진다() {
+        TagCreationOutboxEvent event = pendingEvent();
+
+        event.markAsFailed("timeout");
+        event.reschedule(LocalDateTime.now().plusMinutes(5));
+
+        assertThat(event.getLane()).isEqualTo(OutboxLane.RETRY);
+    }
+
+    private TagCreationOutboxEvent pendingEvent() {
+        return TagCreationOutboxEvent.builder()
+                .tilId(1L)
+                .tilContent("content")
+                .userId(1L)
+                .status(OutboxEventStatus.PENDING)
+                .scheduledAt(LocalDateTime.now())
+                .build();
+    }
+}
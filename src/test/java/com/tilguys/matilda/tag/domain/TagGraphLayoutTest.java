@@ -0,0 +1,69 @@
+package com.tilguys.matilda.tag.domain;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagGraphLayoutTest {
+
+    private final Map<String, List<String>> relationMap = Map.of(
+            "스프링", List.of("JPA", "트랜잭션", "JPA"),
+            "JPA", List.of("트랜잭션", "스프링"),
+            "트랜잭션", List.of("스프링"),
+            "리액트", List.of("CSS", "타입스크립트"),
+            "CSS", List.of("타입스크립트", "리액트"),
+            "타입스크립트", List.of("리액트", "스프링")
+    );
+
+    @Test
+    void 밀집된_태그끼리_같은_클러스터로_묶인다() {
+        Map<String, TagGraphNode> nodes = TagGraphLayout.of(relationMap).nodes();
+
+        int backend = nodes.get("스프링").cluster();
+        int frontend = nodes.get("리액트").cluster();
+        assertThat(backend).isNotEqualTo(frontend);
+        assertThat(nodes.get("JPA").cluster()).isEqualTo(backend);
+        assertThat(nodes.get("트랜잭션").cluster()).isEqualTo(backend);
+        assertThat(nodes.get("CSS").cluster()).isEqualTo(frontend);
+        assertThat(nodes.get("타입스크립트").cluster()).isEqualTo(frontend);
+    }
+
+    @Test
+    void 좌표는_0과_1_사이로_정규화되고_같은_입력이면_같은_결과다() {
+        TagGraphLayout layout = TagGraphLayout.of(relationMap);
+
+        assertThat(layout.nodes()).hasSize(6);
+        assertThat(layout.nodes().values()).allSatisfy(node -> {
+            assertThat(node.x()).isBetween(0.0, 1.0);
+            assertThat(node.y()).isBetween(0.0, 1.0);
+        });
+        assertThat(TagGraphLayout.of(relationMap)).isEqualTo(layout);
+    }
+
+    @Test
+    void 관계_순서가_달라도_버전은_같다() {
+        Map<String, List<String>> reordered = Map.of(
+                "스프링", List.of("JPA", "JPA", "트랜잭션"),
+                "JPA", List.of("스프링", "트랜잭션"),
+                "트랜잭션", List.of("스프링"),
+                "리액트", List.of("타입스크립트", "CSS"),
+                "CSS", List.of("리액트", "타입스크립트"),
+                "타입스크립트", List.of("스프링", "리액트")
+        );
+
+        assertThat(TagGraphLayout.versionOf(reordered)).isEqualTo(TagGraphLayout.versionOf(relationMap));
+        assertThat(TagGraphLayout.versionOf(Map.of("스프링", List.of("JPA"))))
+                .isNotEqualTo(TagGraphLayout.versionOf(relationMap));
+    }
+
+    @Test
+    void 관계가_없으면_빈_레이아웃이다() {
+        assertThat(TagGraphLayout.of(Map.of()).nodes()).isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.dto.TagSuggestionResponse;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagSuggestionTrieTest {
+
+    private final TagSuggestionTrie trie = TagSuggestionTrie.of(List.of(
+            new TagSuggestionResponse("스프링", TagType.CORE, 30),
+            new TagSuggestionResponse("스프링 시큐리티", TagType.SUB, 4),
+            new TagSuggestionResponse("스트림", TagType.SUB, 7),
+            new TagSuggestionResponse("JPA", TagType.CORE, 12),
+            new TagSuggestionResponse("JPQL", TagType.SUB, 2),
+            new TagSuggestionResponse("동시성", TagType.CORE, 5),
+            new TagSuggestionResponse("닭갈비", TagType.SUB, 1)
+    ));
+
+    @Test
+    void 접두어로_시작하는_태그를_빈도순으로_반환한다() {
+        List<TagSuggestionResponse> suggestions = trie.suggest("스", 10);
+
+        assertThat(suggestions).extracting(TagSuggestionResponse::tag)
+                .containsExactly("스프링", "스트림", "스프링 시큐리티");
+    }
+
+    @Test
+    void 입력_중인_받침을_다음_음절의_초성으로_매칭한다() {
+        assertThat(trie.suggest("슾", 10)).extracting(TagSuggestionResponse::tag)
+                .containsExactly("스프링", "스프링 시큐리티");
+        assertThat(trie.suggest("달", 10)).extracting(TagSuggestionResponse::tag)
+                .containsExactly("닭갈비");
+        assertThat(trie.suggest("ㄷ", 10)).extracting(TagSuggestionResponse::tag)
+                .containsExactly("동시성", "닭갈비");
+    }
+
+    @Test
+    void 대소문자와_공백을_무시한다() {
+        assertThat(trie.suggest("jp", 10)).extracting(TagSuggestionResponse::tag)
+                .containsExactly("JPA", "JPQL");
+        assertThat(trie.suggest("스프링시", 10)).extracting(TagSuggestionResponse::tag)
+                .containsExactly("스프링 시큐리티");
+    }
+
+    @Test
+    void 일치하는_태그가_없거나_질의가_비어있으면_빈_목록을_반환한다() {
+        assertThat(trie.suggest("파이썬", 10)).isEmpty();
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+        assertThat(TagSuggestionTrie.empty().suggest("스", 10)).isEmpty();
+    }
+
+    @Test
+    void 요청한_개수만큼만_반환한다() {
+        assertThat(trie.suggest("스", 1)).extracting(TagSuggestionResponse::tag)
+                .containsExactly("스프링");
+    }
+}
@@ -0,0 +1,118 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.dto.TagTrendResponse;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagTrendCounterTest {
+
+    private final LocalDate today = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void 기간_내_작성_수_상위_태그를_직전_기간_대비_증감과_함께_반환한다() {
+        TagTrendCounter counter = new TagTrendCounter();
+        counter.increment("스프링", today);
+        counter.increment("스프링", today.minusDays(3));
+        counter.increment("스프링", today.minusDays(8));
+        counter.increment("JPA", today.minusDays(1));
+        counter.increment("JPA", today.minusDays(9));
+        counter.increment("JPA", today.minusDays(10));
+        counter.increment("깃", today.minusDays(20));
+
+        List<TagTrendResponse> trends = counter.top(TagTrendWindow.WEEK, today, 10);
+
+        assertThat(trends).containsExactly(
+                new TagTrendResponse("스프링", 2, 1, 1),
+                new TagTrendResponse("JPA", 1, 2, -1)
+        );
+    }
+
+    @Test
+    void 상위_K개만_반환한다() {
+        TagTrendCounter counter = new TagTrendCounter();
+        counter.increment("A", today);
+        counter.increment("B", today);
+        counter.increment("B", today);
+        counter.increment("C", today);
+        counter.increment("C", today);
+        counter.increment("C", today);
+
+        List<TagTrendResponse> trends = counter.top(TagTrendWindow.TODAY, today, 2);
+
+        assertThat(trends).extracting(TagTrendResponse::tag)
+                .containsExactly("C", "B");
+    }
+
+    @Test
+    void 삭제된_태그는_카운트에서_빠지고_음수가_되지_않는다() {
+        TagTrendCounter counter = new TagTrendCounter();
+        counter.increment("자바", today);
+        counter.decrement("자바", today);
+        counter.decrement("자바", today);
+        counter.increment("스프링", today);
+
+        List<TagTrendResponse> trends = counter.top(TagTrendWindow.TODAY, today, 10);
+
+        assertThat(trends).extracting(TagTrendResponse::tag)
+                .containsExactly("스프링");
+    }
+
+    @Test
+    void 링_버퍼를_한_바퀴_돌면_오래된_버킷은_덮어쓴다() {
+        TagTrendBuckets buckets = new TagTrendBuckets(3);
+        long day = today.toEpochDay();
+        buckets.add(day, 5);
+        buckets.add(day + 3, 1);
+        buckets.add(day, 1);
+
+        assertThat(buckets.sum(day, day)).isZero();
+        assertThat(buckets.sum(day + 3, day + 3)).isEqualTo(1);
+    }
+
+    @Test
+    void 지원하지_않는_기간이면_예외가_발생한다() {
+        assertThatThrownBy(() -> TagTrendWindow.from("90d"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(TagTrendWindow.from("7d")).isEqualTo(TagTrendWindow.WEEK);
+    }
+
+    @Test
+    void Redis_값으로_교체해도_아직_반영되지_않은_로컬_증감은_남는다() {
+        TagTrendCounter counter = new TagTrendCounter();
+        long day = today.toEpochDay();
+        counter.add("스프링", day, 1);
+        counter.flushed("스프링", day, 1);
+        counter.add("스프링", day, 1);
+
+        counter.restore("스프링", day, 1);
+        counter.restore("JPA", day, 4);
+
+        assertThat(counter.top(TagTrendWindow.TODAY, today, 10)).containsExactly(
+                new TagTrendResponse("JPA", 4, 0, 4),
+                new TagTrendResponse("스프링", 2, 0, 2)
+        );
+    }
+
+    @Test
+    void 다른_노드의_삭제로_Redis_값이_줄면_로컬_카운트도_줄어든다() {
+        TagTrendCounter counter = new TagTrendCounter();
+        long day = today.toEpochDay();
+        counter.add("스프링", day, 1);
+        counter.flushed("스프링", day, 1);
+        counter.restore("스프링", day, 3);
+
+        counter.restore("스프링", day, 1);
+
+        assertThat(counter.top(TagTrendWindow.TODAY, today, 10)).containsExactly(
+                new TagTrendResponse("스프링", 1, 0, 1)
+        );
+    }
+}
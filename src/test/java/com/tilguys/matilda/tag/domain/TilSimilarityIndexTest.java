@@ -0,0 +1,81 @@
+package com.tilguys.matilda.tag.domain;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TilSimilarityIndexTest {
+
+    @Test
+    void 태그가_많이_겹치는_TIL을_먼저_반환한다() {
+        TilSimilarityIndex index = new TilSimilarityIndex();
+        index.put(1L, List.of("스프링", "JPA", "트랜잭션", "영속성 컨텍스트"));
+        index.put(2L, List.of("스프링", "JPA", "트랜잭션", "영속성 컨텍스트"));
+        index.put(3L, List.of("스프링", "JPA", "트랜잭션", "리액트"));
+        index.put(4L, List.of("리액트", "타입스크립트", "CSS"));
+
+        List<SimilarTil> related = index.related(1L, 10);
+
+        assertThat(related).extracting(SimilarTil::tilId).startsWith(2L, 3L).doesNotContain(1L, 4L);
+        assertThat(related.get(0).similarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 대소문자와_앞뒤_공백은_같은_태그로_본다() {
+        TilSimilarityIndex index = new TilSimilarityIndex();
+        index.put(1L, List.of("Spring", " JPA"));
+        index.put(2L, List.of("spring", "jpa "));
+
+        assertThat(index.related(1L, 10)).containsExactly(new SimilarTil(2L, 1.0));
+    }
+
+    @Test
+    void 제거하거나_다시_등록하면_버킷에서_빠진다() {
+        TilSimilarityIndex index = new TilSimilarityIndex();
+        index.put(1L, List.of("스프링", "JPA"));
+        index.put(2L, List.of("스프링", "JPA"));
+        index.put(3L, List.of("스프링", "JPA"));
+
+        assertThat(index.remove(2L)).contains(1L, 2L, 3L);
+        index.put(3L, List.of("리액트"));
+
+        assertThat(index.related(1L, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 인기_태그_하나만_겹치는_TIL은_후보로_잡지_않는다() {
+        TilSimilarityIndex index = new TilSimilarityIndex();
+        index.put(1L, List.of("스프링", "JPA", "트랜잭션", "영속성 컨텍스트", "더티 체킹"));
+        for (long id = 2; id <= 200; id++) {
+            index.put(id, List.of("스프링", "태그" + id, "서브" + id, "키워드" + id, "주제" + id));
+        }
+
+        assertThat(index.related(1L, 10)).hasSizeLessThan(20);
+    }
+
+    @Test
+    void 후보가_많으면_최대_후보_수까지만_비교한다() {
+        TilSimilarityIndex index = new TilSimilarityIndex(3);
+        for (long id = 1; id <= 10; id++) {
+            index.put(id, List.of("스프링", "JPA"));
+        }
+
+        assertThat(index.related(1L, 10)).hasSize(3);
+    }
+
+    @Test
+    void 등록되지_않았거나_태그가_없는_TIL은_빈_목록을_반환한다() {
+        TilSimilarityIndex index = new TilSimilarityIndex();
+        index.put(1L, List.of(" "));
+
+        assertThat(index.related(1L, 10)).isEmpty();
+        assertThat(index.related(99L, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,49 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.common.external.decode.ToolCallArguments;
+import com.tilguys.matilda.common.external.decode.ToolCallArguments.SubTagArgument;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TilTagBatchParserTest {
+
+    private final TilTagBatchParser parser = new TilTagBatchParser();
+
+    @Test
+    void OpenAI_묶음_응답을_TIL별로_나눈다() {
+        String response = """
+                {"choices":[{"message":{"tool_calls":[{"function":{"arguments":
+                "{\\"results\\":[{\\"tilId\\":1,\\"tags\\":[\\"JPA\\"],\\"subTags\\":[{\\"coreTag\\":\\"JPA\\",\\"subTag\\":\\"N+1\\"}]},{\\"tilId\\":2,\\"tags\\":[\\"깃\\"],\\"subTags\\":[]}]}"
+                }}]}}]}
+                """;
+
+        Map<Long, ToolCallArguments> results = parser.parse(response);
+
+        assertThat(results).containsExactly(
+                Map.entry(1L, new ToolCallArguments(List.of("JPA"), List.of(new SubTagArgument("JPA", "N+1")), null)),
+                Map.entry(2L, new ToolCallArguments(List.of("깃"), List.of(), null))
+        );
+    }
+
+    @Test
+    void Claude_묶음_응답에서_tilId나_tags가_없는_항목은_버린다() {
+        String response = """
+                {"content":[{"type":"text","text":"결과"},{"type":"tool_use","input":{"results":[
+                  {"tilId":3,"tags":["스프링"],"subTags":[]},
+                  {"tags":["자바"],"subTags":[]},
+                  {"tilId":4,"subTags":[]}
+                ]}}]}
+                """;
+
+        Map<Long, ToolCallArguments> results = parser.parse(response);
+
+        assertThat(results).containsOnlyKeys(3L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tilguys.matilda.tag.domain;
+
+import com.tilguys.matilda.tag.dto.InterestResponse;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class UserInterestProfileTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void 최근에_작성한_태그일수록_관심사_점수가_높다() {
+        UserInterestProfile profile = UserInterestProfile.empty(1L, TODAY);
+        profile.add(List.of("JPA"), List.of(), TODAY.minusDays(60), TODAY);
+        profile.add(List.of("스프링"), List.of(), TODAY, TODAY);
+
+        List<InterestResponse> interests = profile.topInterests(10);
+
+        assertThat(interests).extracting(InterestResponse::tag)
+                .containsExactly("스프링", "JPA");
+        assertThat(interests.get(1).score()).isCloseTo(0.25, within(0.01));
+    }
+
+    @Test
+    void 핵심_태그가_서브_태그보다_가중치가_높다() {
+        UserInterestProfile profile = UserInterestProfile.empty(1L, TODAY);
+        profile.add(List.of("스프링"), List.of("트랜잭션"), TODAY, TODAY);
+
+        assertThat(profile.topInterests(10)).containsExactly(
+                new InterestResponse("스프링", TagType.CORE, 1.0),
+                new InterestResponse("트랜잭션", TagType.SUB, 0.5)
+        );
+    }
+
+    @Test
+    void 삭제된_TIL의_태그는_관심사에서_제거된다() {
+        UserInterestProfile profile = UserInterestProfile.empty(1L, TODAY);
+        profile.add(List.of("스프링", "JPA"), List.of(), TODAY.minusDays(3), TODAY);
+        profile.remove(List.of("JPA"), List.of(), TODAY.minusDays(3), TODAY.plusDays(1));
+
+        assertThat(profile.topInterests(10)).extracting(InterestResponse::tag)
+                .containsExactly("스프링");
+    }
+
+    @Test
+    void 관심사가_겹칠수록_코사인_유사도가_높다() {
+        UserInterestProfile me = UserInterestProfile.empty(1L, TODAY);
+        me.add(List.of("스프링", "JPA"), List.of(), TODAY, TODAY);
+        UserInterestProfile same = UserInterestProfile.empty(2L, TODAY);
+        same.add(List.of("스프링", "JPA"), List.of(), TODAY, TODAY);
+        UserInterestProfile partial = UserInterestProfile.empty(3L, TODAY);
+        partial.add(List.of("스프링", "리액트"), List.of(), TODAY, TODAY);
+        UserInterestProfile other = UserInterestProfile.empty(4L, TODAY);
+        other.add(List.of("리액트"), List.of(), TODAY, TODAY);
+
+        assertThat(me.cosineSimilarity(same)).isCloseTo(1.0, within(1e-9));
+        assertThat(me.cosineSimilarity(partial)).isCloseTo(0.5, within(1e-9));
+        assertThat(me.cosineSimilarity(other)).isZero();
+        assertThat(me.commonCoreTags(partial, 3)).containsExactly("스프링");
+    }
+
+    @Test
+    void 유사도용_벡터는_이후_갱신에_영향받지_않는다() {
+        UserInterestProfile profile = UserInterestProfile.empty(1L, TODAY);
+        profile.add(List.of("스프링"), List.of("빈"), TODAY, TODAY);
+
+        UserInterestVector vector = profile.vector();
+        profile.add(List.of("JPA"), List.of(), TODAY, TODAY);
+
+        assertThat(vector.getWeights()).hasSize(2);
+        assertThat(vector.topDimensions(1)).containsExactly("CORE:스프링");
+        assertThat(profile.vector().getWeights()).hasSize(3);
+    }
+
+    @Test
+    void 스냅샷으로_복원한_프로필은_같은_관심사를_가진다() {
+        UserInterestProfile profile = UserInterestProfile.empty(1L, TODAY);
+        profile.add(List.of("스프링"), List.of("빈"), TODAY.minusDays(10), TODAY);
+
+        UserInterestProfile restored = new UserInterestProfile(1L, profile.snapshot());
+
+        assertThat(restored.topInterests(10)).isEqualTo(profile.topInterests(10));
+    }
+}
@@ -0,0 +1,25 @@
+package com.tilguys.matilda.tag.repository;
+
+import org.hibernate.dialect.H2Dialect;
+
+/**
+ * H2 2.2 이상은 FOR UPDATE SKIP LOCKED 를 지원하지만 Hibernate H2Dialect 는 이를 내보내지 않는다.
+ * 운영(MySQL)과 같은 선점 쿼리를 테스트에서 확인하기 위한 방언.
+ */
+public class H2SkipLockedDialect extends H2Dialect {
+
+    @Override
+    public boolean supportsSkipLocked() {
+        return true;
+    }
+
+    @Override
+    public String getForUpdateSkipLockedString() {
+        return " for update skip locked";
+    }
+
+    @Override
+    public String getForUpdateSkipLockedString(String aliases) {
+        return getForUpdateSkipLockedString();
+    }
+}
@@ -0,0 +1,170 @@
+package com.tilguys.matilda.tag.repository;
+
+import com.tilguys.matilda.tag.domain.OutboxEventStatus;
+import com.tilguys.matilda.tag.domain.OutboxLane;
+import com.tilguys.matilda.tag.domain.TagCreationOutboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선점 쿼리는 행 잠금과 커밋 시점이 중요하므로 테스트 트랜잭션 없이 실제 트랜잭션으로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=com.tilguys.matilda.tag.repository.H2SkipLockedDialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagCreationOutboxEventRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    @Autowired
+    private TagCreationOutboxEventRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void 예정_시각이_지난_대기_이벤트와_선점이_만료된_이벤트만_예정_시각_순으로_조회한다() {
+        Long expired = save(OutboxEventStatus.PROCESSING, OutboxLane.NEW, NOW.minusMinutes(30), "node-a", NOW.minusMinutes(1));
+        Long due = save(OutboxEventStatus.PENDING, OutboxLane.NEW, NOW.minusMinutes(5), null, null);
+        save(OutboxEventStatus.PENDING, OutboxLane.NEW, NOW.plusMinutes(5), null, null);
+        save(OutboxEventStatus.PROCESSING, OutboxLane.NEW, NOW.minusMinutes(10), "node-a", NOW.plusMinutes(1));
+        save(OutboxEventStatus.COMPLETED, OutboxLane.NEW, NOW.minusMinutes(10), null, null);
+
+        List<Long> claimable = transaction.execute(status ->
+                ids(repository.findClaimableEvents(NOW, PageRequest.of(0, 10)))
+        );
+
+        assertThat(claimable).containsExactly(expired, due);
+    }
+
+    @Test
+    void 차선별_조회는_해당_차선의_이벤트만_가져온다() {
+        save(OutboxEventStatus.PENDING, OutboxLane.NEW, NOW.minusMinutes(5), null, null);
+        Long retry = save(OutboxEventStatus.PENDING, OutboxLane.RETRY, NOW.minusMinutes(3), null, null);
+
+        List<Long> claimable = transaction.execute(status ->
+                ids(repository.findClaimableEventsInLane(NOW, OutboxLane.RETRY, PageRequest.of(0, 10)))
+        );
+
+        assertThat(claimable).containsExactly(retry);
+    }
+
+    @Test
+    void 다른_트랜잭션이_잠근_행은_기다리지_않고_건너뛴다() throws Exception {
+        Long first = save(OutboxEventStatus.PENDING, OutboxLane.NEW, NOW.minusMinutes(3), null, null);
+        Long second = save(OutboxEventStatus.PENDING, OutboxLane.NEW, NOW.minusMinutes(2), null, null);
+        Long third = save(OutboxEventStatus.PENDING, OutboxLane.NEW, NOW.minusMinutes(1), null, null);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // H2 는 인덱스 순서가 아닌 정렬이 끼면 조건에 맞는 행을 모두 잠그므로, 한 행만 잠그도록 선점 UPDATE 로 붙잡는다
+        CompletableFuture<Integer> holder = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            int claimed = repository.claimPendingEvent(first, "node-a", NOW.plusMinutes(5));
+            locked.countDown();
+            await(release);
+            return claimed;
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> other = CompletableFuture.supplyAsync(() -> transaction.execute(status ->
+                ids(repository.findClaimableEvents(NOW, PageRequest.of(0, 10)))
+        )).get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(other).containsExactly(second, third);
+    }
+
+    @Test
+    void 선점한_작업자일_때만_결과를_기록한다() {
+        Long id = save(OutboxEventStatus.PROCESSING, OutboxLane.NEW, NOW.minusMinutes(3), "node-b", NOW.plusMinutes(5));
+
+        int byOtherWorker = transaction.execute(status -> repository.completeIfClaimedBy(id, "node-a", NOW));
+        int byOwner = transaction.execute(status -> repository.rescheduleIfClaimedBy(id, "node-b", 1, "timeout", NOW));
+
+        TagCreationOutboxEvent event = repository.findById(id).orElseThrow();
+        assertThat(byOtherWorker).isZero();
+        assertThat(byOwner).isEqualTo(1);
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(event.getLane()).isEqualTo(OutboxLane.RETRY);
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        assertThat(event.getLockedBy()).isNull();
+    }
+
+    @Test
+    void 선점_연장은_이_작업자가_처리_중인_행만_늘린다() {
+        Long mine = save(OutboxEventStatus.PROCESSING, OutboxLane.NEW, NOW, "node-a", NOW.plusMinutes(1));
+        Long taken = save(OutboxEventStatus.PROCESSING, OutboxLane.NEW, NOW, "node-b", NOW.plusMinutes(1));
+
+        int renewed = transaction.execute(status ->
+                repository.renewLeases(List.of(mine, taken), "node-a", NOW.plusMinutes(5))
+        );
+
+        assertThat(renewed).isEqualTo(1);
+        assertThat(repository.findById(mine).orElseThrow().getLeaseExpiresAt()).isEqualTo(NOW.plusMinutes(5));
+        assertThat(repository.findById(taken).orElseThrow().getLeaseExpiresAt()).isEqualTo(NOW.plusMinutes(1));
+    }
+
+    private Long save(
+            OutboxEventStatus status,
+            OutboxLane lane,
+            LocalDateTime scheduledAt,
+            String lockedBy,
+            LocalDateTime leaseExpiresAt
+    ) {
+        return repository.save(TagCreationOutboxEvent.builder()
+                .tilId(1L)
+                .tilContent("content")
+                .userId(1L)
+                .status(status)
+                .lane(lane)
+                .scheduledAt(scheduledAt)
+                .lockedBy(lockedBy)
+                .leaseExpiresAt(leaseExpiresAt)
+                .build()).getId();
+    }
+
+    private static List<Long> ids(List<TagCreationOutboxEvent> events) {
+        return events.stream().map(TagCreationOutboxEvent::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.tilguys.matilda.tag.schedule;
+
+import com.tilguys.matilda.tag.event.OutboxWakeupRequestedEvent;
+import com.tilguys.matilda.tag.service.TagCreationOutboxService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagOutboxWakeupSchedulerTest {
+
+    private TagCreationOutboxService outboxService;
+    private TagOutboxWakeupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = mock(TagCreationOutboxService.class);
+        when(outboxService.nextDueAt()).thenReturn(Optional.empty());
+        scheduler = new TagOutboxWakeupScheduler(outboxService, null, "tag:outbox:wakeup");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 예정_시각이_되면_Outbox_를_처리한다() {
+        scheduler.wakeAt(System.currentTimeMillis() + 50);
+
+        verify(outboxService, timeout(2000)).processPendingEvents();
+    }
+
+    @Test
+    void 더_이른_예정_시각이_오면_타이머를_다시_건다() {
+        long now = System.currentTimeMillis();
+        scheduler.wakeAt(now + 60_000);
+
+        scheduler.handleWakeupRequested(new OutboxWakeupRequestedEvent(LocalDateTime.now()));
+
+        verify(outboxService, timeout(2000)).processPendingEvents();
+    }
+
+    @Test
+    void 더_늦은_예정_시각은_걸려_있는_타이머를_바꾸지_않는다() {
+        long now = System.currentTimeMillis();
+        scheduler.wakeAt(now + 10_000);
+
+        scheduler.wakeAt(now + 60_000);
+
+        assertThat(scheduler.armedAtMillis()).isEqualTo(now + 10_000);
+        verify(outboxService, after(200).never()).processPendingEvents();
+    }
+
+    @Test
+    void 처리_후_다음_예정_시각으로_타이머를_건다() {
+        LocalDateTime nextDueAt = LocalDateTime.now().plusMinutes(5);
+        when(outboxService.nextDueAt()).thenReturn(Optional.of(nextDueAt));
+
+        scheduler.wakeAt(System.currentTimeMillis());
+
+        verify(outboxService, timeout(2000)).nextDueAt();
+        verify(outboxService, after(200).times(1)).processPendingEvents();
+        assertThat(scheduler.armedAtMillis()).isGreaterThan(System.currentTimeMillis() + 60_000);
+    }
+}
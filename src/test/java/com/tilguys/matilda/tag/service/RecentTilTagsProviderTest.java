@@ -0,0 +1,34 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.tag.domain.TilTagRelations;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RecentTilTagsProviderTest {
+
+    @Test
+    void 캐시_미스로_적재한_스냅샷에도_그래프_배치를_붙인다() {
+        TagRelationService tagRelationService = mock(TagRelationService.class);
+        TilTagService tilTagService = mock(TilTagService.class);
+        TagGraphLayoutService tagGraphLayoutService = mock(TagGraphLayoutService.class);
+        when(tilTagService.getRecentWroteTags(any())).thenReturn(List.of());
+        when(tilTagService.getRecentSubTags(any())).thenReturn(List.of());
+        when(tagRelationService.getRecentRelationTagMap()).thenReturn(Map.of());
+        RecentTilTagsProvider provider =
+                new RecentTilTagsProvider(tagRelationService, tilTagService, tagGraphLayoutService);
+
+        TilTagRelations loaded = provider.load();
+
+        verify(tagGraphLayoutService).attachLayout(loaded);
+    }
+}
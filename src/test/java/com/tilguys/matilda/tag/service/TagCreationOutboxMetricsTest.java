@@ -0,0 +1,64 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.tag.domain.OutboxLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagCreationOutboxMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TagCreationOutboxMetrics metrics = new TagCreationOutboxMetrics(meterRegistry);
+
+    @Test
+    void 차선별_대기_건수와_가장_오래된_대기_시간을_노출한다() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        metrics.updateBacklog(Map.of(
+                OutboxLane.NEW, new TagCreationOutboxMetrics.Backlog(3, now.minusSeconds(40)),
+                OutboxLane.BACKFILL, new TagCreationOutboxMetrics.Backlog(120, now.minusMinutes(30))
+        ), now);
+
+        assertThat(gauge("tag.outbox.queue.depth", OutboxLane.NEW)).isEqualTo(3);
+        assertThat(gauge("tag.outbox.queue.oldest.age", OutboxLane.NEW)).isEqualTo(40);
+        assertThat(gauge("tag.outbox.queue.oldest.age", OutboxLane.BACKFILL)).isEqualTo(1800);
+        assertThat(gauge("tag.outbox.queue.depth", OutboxLane.RETRY)).isZero();
+        assertThat(metrics.totalDepth()).isEqualTo(123);
+    }
+
+    @Test
+    void 집계에서_빠진_차선은_비운다() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        metrics.updateBacklog(Map.of(
+                OutboxLane.RETRY, new TagCreationOutboxMetrics.Backlog(5, now.minusMinutes(1))
+        ), now);
+
+        metrics.updateBacklog(Map.of(), now);
+
+        assertThat(gauge("tag.outbox.queue.depth", OutboxLane.RETRY)).isZero();
+        assertThat(gauge("tag.outbox.queue.oldest.age", OutboxLane.RETRY)).isZero();
+    }
+
+    @Test
+    void 차선과_결과별로_처리량을_센다() {
+        metrics.recordProcessed(OutboxLane.NEW, "completed");
+        metrics.recordProcessed(OutboxLane.NEW, "completed");
+        metrics.recordProcessed(OutboxLane.RETRY, "dlq");
+
+        assertThat(meterRegistry.get("tag.outbox.processed")
+                .tag("lane", "NEW").tag("outcome", "completed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("tag.outbox.processed")
+                .tag("lane", "RETRY").tag("outcome", "dlq").counter().count()).isEqualTo(1);
+    }
+
+    private double gauge(String name, OutboxLane lane) {
+        return meterRegistry.get(name).tag("lane", lane.name()).gauge().value();
+    }
+}
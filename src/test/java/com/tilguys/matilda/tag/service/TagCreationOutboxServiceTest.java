@@ -0,0 +1,155 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.common.dlq.service.DLQService;
+import com.tilguys.matilda.common.retention.ChunkedRetentionCleaner;
+import com.tilguys.matilda.common.retry.RetryPolicyRegistry;
+import com.tilguys.matilda.common.retry.config.RetryPolicyConfiguration;
+import com.tilguys.matilda.tag.config.TagOutboxConfiguration;
+import com.tilguys.matilda.tag.domain.OutboxEventStatus;
+import com.tilguys.matilda.tag.domain.OutboxLane;
+import com.tilguys.matilda.tag.domain.TagCreationOutboxEvent;
+import com.tilguys.matilda.tag.repository.TagCreationOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작업자 스레드처럼 바깥 트랜잭션 없이 처리해, 결과 기록(조건부 UPDATE)이 스스로 트랜잭션을 여는지 확인한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagCreationOutboxServiceTest {
+
+    @Autowired
+    private TagCreationOutboxEventRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TilTagService tilTagService;
+    private DLQService dlqService;
+    private TagOutboxConfiguration configuration;
+    private TagCreationOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        tilTagService = mock(TilTagService.class);
+        dlqService = mock(DLQService.class);
+        configuration = new TagOutboxConfiguration();
+        outboxService = new TagCreationOutboxService(
+                repository,
+                tilTagService,
+                dlqService,
+                mock(ApplicationEventPublisher.class),
+                configuration,
+                new TagCreationOutboxMetrics(new SimpleMeterRegistry()),
+                new RetryPolicyRegistry(new RetryPolicyConfiguration(), new SimpleMeterRegistry()),
+                mock(ChunkedRetentionCleaner.class),
+                Runnable::run,
+                transactionManager
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxService.shutdown();
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void 처리에_성공하면_완료로_기록한다() {
+        Long id = pending(OutboxLane.NEW);
+
+        outboxService.processEvent(id);
+
+        TagCreationOutboxEvent event = repository.findById(id).orElseThrow();
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.COMPLETED);
+        assertThat(event.getLockedBy()).isNull();
+    }
+
+    @Test
+    void 일시적으로_실패하면_재시도_차선으로_다시_스케줄링한다() {
+        Long id = pending(OutboxLane.NEW);
+        doThrow(new RuntimeException("timeout")).when(tilTagService).createTagsDirect(any());
+
+        outboxService.processEvent(id);
+
+        TagCreationOutboxEvent event = repository.findById(id).orElseThrow();
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(event.getLane()).isEqualTo(OutboxLane.RETRY);
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        assertThat(event.getLockedBy()).isNull();
+    }
+
+    @Test
+    void 재시도를_포기해도_규칙_기반_태그를_만들면_완료로_기록한다() {
+        Long id = pending(OutboxLane.NEW);
+        doThrow(new IllegalArgumentException("invalid")).when(tilTagService).createTagsDirect(any());
+        when(tilTagService.createRuleBasedTags(any())).thenReturn(true);
+
+        outboxService.processEvent(id);
+
+        assertThat(repository.findById(id).orElseThrow().getStatus()).isEqualTo(OutboxEventStatus.COMPLETED);
+        verify(dlqService, never()).sendToDLQ(anyString(), any(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 재시도를_포기하고_규칙_기반_태그도_없으면_실패로_기록하고_DLQ로_넘긴다() {
+        Long id = pending(OutboxLane.NEW);
+        doThrow(new IllegalArgumentException("invalid")).when(tilTagService).createTagsDirect(any());
+
+        outboxService.processEvent(id);
+
+        TagCreationOutboxEvent event = repository.findById(id).orElseThrow();
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        verify(dlqService).sendToDLQ(eq("TAG_CREATION_OUTBOX"), eq(id), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void 밀려_있을_때_묶음에서_이미_태그가_저장된_TIL_은_완료로_기록한다() {
+        configuration.getBatch().setThreshold(1);
+        Long first = pending(OutboxLane.BACKFILL);
+        Long second = pending(OutboxLane.BACKFILL);
+        when(tilTagService.isTagGenerationCompleted(any(), anyString())).thenReturn(true);
+
+        outboxService.processPendingEvents();
+
+        assertThat(repository.findById(first).orElseThrow().getStatus()).isEqualTo(OutboxEventStatus.COMPLETED);
+        assertThat(repository.findById(second).orElseThrow().getStatus()).isEqualTo(OutboxEventStatus.COMPLETED);
+        verify(tilTagService, never()).requestTilTagResponseJsons(any());
+    }
+
+    private Long pending(OutboxLane lane) {
+        return repository.save(TagCreationOutboxEvent.builder()
+                .tilId(1L)
+                .tilContent("content")
+                .userId(1L)
+                .status(OutboxEventStatus.PENDING)
+                .lane(lane)
+                .scheduledAt(LocalDateTime.now().minusMinutes(1))
+                .build()).getId();
+    }
+}
@@ -0,0 +1,115 @@
+package com.tilguys.matilda.tag.service;
+
+import com.tilguys.matilda.common.external.cache.AIPromptVersion;
+import com.tilguys.matilda.tag.domain.TagGenerationClaim;
+import com.tilguys.matilda.tag.domain.TagGenerationClaimResult;
+import com.tilguys.matilda.tag.repository.TagGenerationClaimRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TagGenerationClaimServiceTest {
+
+    private static final String CONTENT = "JPA 영속성 컨텍스트를 공부했다";
+
+    @Mock
+    private TagGenerationClaimRepository claimRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TagGenerationClaimService claimService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        claimService = new TagGenerationClaimService(claimRepository, transactionManager, meterRegistry, 300);
+    }
+
+    @Test
+    void 처음_생성하는_TIL은_선점_기록을_만든다() {
+        given(claimRepository.existsById(1L)).willReturn(false);
+
+        TagGenerationClaimResult result = claimService.tryClaim(1L, CONTENT);
+
+        assertThat(result).isEqualTo(TagGenerationClaimResult.CLAIMED);
+        verify(claimRepository).saveAndFlush(any(TagGenerationClaim.class));
+        assertThat(meterRegistry.get("tag.generation.claims").tag("result", "claimed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 같은_내용으로_이미_완료된_TIL은_AI_호출_중복으로_집계한다() {
+        String contentHash = AIPromptVersion.contentHash(CONTENT);
+        given(claimRepository.existsById(1L)).willReturn(true);
+        given(claimRepository.claim(eq(1L), eq(contentHash), any(), any())).willReturn(0);
+        given(claimRepository.findById(1L))
+                .willReturn(Optional.of(TagGenerationClaim.completed(1L, contentHash, LocalDateTime.now())));
+
+        TagGenerationClaimResult result = claimService.tryClaim(1L, "  JPA 영속성   컨텍스트를 공부했다\n");
+
+        assertThat(result).isEqualTo(TagGenerationClaimResult.DUPLICATE);
+        assertThat(meterRegistry.get("tag.generation.duplicates").tag("stage", "ai_call").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 다른_작업자가_선점_중이면_진행_중으로_본다() {
+        String contentHash = AIPromptVersion.contentHash(CONTENT);
+        given(claimRepository.existsById(1L)).willReturn(true);
+        given(claimRepository.claim(eq(1L), eq(contentHash), any(), any())).willReturn(0);
+        given(claimRepository.findById(1L))
+                .willReturn(Optional.of(TagGenerationClaim.claimed(1L, contentHash, LocalDateTime.now())));
+
+        assertThat(claimService.tryClaim(1L, CONTENT)).isEqualTo(TagGenerationClaimResult.IN_PROGRESS);
+    }
+
+    @Test
+    void 동시에_처음_선점해_키가_충돌하면_진행_중으로_본다() {
+        given(claimRepository.existsById(1L)).willReturn(false);
+        given(claimRepository.saveAndFlush(any(TagGenerationClaim.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThat(claimService.tryClaim(1L, CONTENT)).isEqualTo(TagGenerationClaimResult.IN_PROGRESS);
+    }
+
+    @Test
+    void 같은_내용으로_이미_완료됐으면_저장을_거부한다() {
+        given(claimRepository.complete(eq(1L), any(), any())).willReturn(0);
+        given(claimRepository.existsById(1L)).willReturn(true);
+
+        assertThat(claimService.complete(1L, CONTENT)).isFalse();
+        verify(claimRepository, never()).save(any());
+        assertThat(meterRegistry.get("tag.generation.duplicates").tag("stage", "write").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 선점_없이_저장하면_완료_기록을_새로_만든다() {
+        given(claimRepository.complete(eq(1L), any(), any())).willReturn(0);
+        given(claimRepository.existsById(1L)).willReturn(false);
+
+        assertThat(claimService.complete(1L, CONTENT)).isTrue();
+        verify(claimRepository).save(any(TagGenerationClaim.class));
+    }
+}
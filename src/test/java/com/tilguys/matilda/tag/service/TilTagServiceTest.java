@@ -1,7 +1,9 @@
 package com.tilguys.matilda.tag.service;
 
 import com.tilguys.matilda.common.external.FailoverAIServiceManager;
+import com.tilguys.matilda.common.external.cache.AIResultCache;
 import com.tilguys.matilda.tag.domain.SubTag;
+import com.tilguys.matilda.tag.domain.TagGenerationClaimResult;
 import com.tilguys.matilda.tag.domain.TilTags;
 import com.tilguys.matilda.tag.repository.SubTagRepository;
 import com.tilguys.matilda.tag.repository.TagRelationRepository;
@@ -15,6 +17,7 @@ import com.tilguys.matilda.til.service.TilService;
 import com.tilguys.matilda.user.TilUser;
 import com.tilguys.matilda.user.TilUserFixture;
 import com.tilguys.matilda.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -22,7 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -103,13 +108,22 @@ class TilTagServiceTest {
     public TilTagServiceTest(
             @Autowired TagRepository tagRepository,
             @Autowired SubTagRepository subTagRepository,
-            @Autowired TilService tilService
+            @Autowired TilService tilService,
+            @Autowired PlatformTransactionManager transactionManager
     ) {
         FailoverAIServiceManager mockFailoverManager = Mockito.mock(FailoverAIServiceManager.class);
-        when(mockFailoverManager.callAIWithSimpleFallback(any(), any())).thenReturn(tagResponseJson);
+        when(mockFailoverManager.callAI(any(), any())).thenReturn(tagResponseJson);
         TagCreationOutboxService mockOutboxService = Mockito.mock(TagCreationOutboxService.class);
-        this.tilTagService =
-                new TilTagService(mockFailoverManager, tagRepository, subTagRepository, tilService, mockOutboxService);
+        ApplicationEventPublisher mockEventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        TagGenerationClaimService mockClaimService = Mockito.mock(TagGenerationClaimService.class);
+        when(mockClaimService.tryClaim(any(), any())).thenReturn(TagGenerationClaimResult.CLAIMED);
+        when(mockClaimService.complete(any(), any())).thenReturn(true);
+        this.tilTagService = new TilTagService(
+                mockFailoverManager, tagRepository, subTagRepository, tilService, mockOutboxService,
+                mockClaimService, mockEventPublisher,
+                new AIResultCache(null, new SimpleMeterRegistry(), false, 7, 100),
+                transactionManager
+        );
     }
 
     @BeforeEach